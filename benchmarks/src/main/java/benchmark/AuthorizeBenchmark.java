@@ -0,0 +1,69 @@
+package benchmark;
+
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The filtering hot path: {@code ProtectionServiceHandler.process} and {@code authorize} over in memory batches.
+ * The handler no longer modifies the supplied list, so one batch is reused across invocations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorizeBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int batchSize;
+
+    @Param({"1", "10", "50"})
+    public int fieldsPerDocument;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double denyRatio;
+
+    @Param({"1", "8", "64"})
+    public int markingCardinality;
+
+    private ProtectionService.Iface handler;
+    private MethodHandle process;
+    private User user;
+    private List<ProtectedDocument> documents;
+
+    @Setup
+    public void setUp(){
+        handler = Handlers.newHandler();
+        process = Handlers.process();
+        user = Documents.user();
+        documents = Documents.batch(batchSize, fieldsPerDocument, denyRatio, markingCardinality);
+    }
+
+    @Benchmark
+    public List<ProtectedDocument> process(){
+        return Handlers.invoke(process, handler, user, documents);
+    }
+
+    @Benchmark
+    public List<ProtectedDocument> authorize() throws TException {
+        return handler.authorize(user, documents);
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds reproducible batches for the benchmarks.  The user holds PUBLIC, HR and ALPHA, documents are denied as a
+ * whole at the requested ratio and fields draw their markings from a pool of the requested number of distinct
+ * combinations of levels, groups and compartments.
+ */
+public final class Documents {
+
+    private static final long SEED = 42L;
+
+    private Documents(){
+    }
+
+    public static User user(){
+        User user = new User();
+        user.setUsername("benchmark");
+        user.setPermissions(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                  EnumSet.of(Compartment.ALPHA)));
+        return user;
+    }
+
+    /**
+     * @param batchSize - The number of documents
+     * @param fieldsPerDocument - The number of fields in each document
+     * @param denyRatio - The fraction of documents the user may not see
+     * @param markingCardinality - The number of distinct field markings, at most {@link #maxCardinality()}
+     * @return A batch of documents
+     */
+    public static List<ProtectedDocument> batch(int batchSize, int fieldsPerDocument, double denyRatio, int markingCardinality){
+        Random random = new Random(SEED);
+        List<SecurityContainer> markings = markings(random, markingCardinality);
+        SecurityContainer visible = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR, Group.IT),
+                                                          EnumSet.noneOf(Compartment.class));
+        SecurityContainer denied = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                         EnumSet.noneOf(Compartment.class));
+        List<ProtectedKey> keys = new ArrayList<>(fieldsPerDocument);
+        for(int i = 0; i < fieldsPerDocument; i++){
+            keys.add(new ProtectedKey("field" + i));
+        }
+
+        List<ProtectedDocument> documents = new ArrayList<>(batchSize);
+        for(int i = 0; i < batchSize; i++){
+            Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+            for(ProtectedKey key : keys){
+                SecurityContainer marking = markings.get(random.nextInt(markings.size())).deepCopy();
+                fields.put(key, new ProtectedField("value of " + key.getName() + " in document " + i, marking));
+            }
+            SecurityContainer overall = random.nextDouble() < denyRatio ? denied : visible;
+            documents.add(new ProtectedDocument(fields, overall.deepCopy()));
+        }
+        return documents;
+    }
+
+    /**
+     * @return The number of distinct markings that can be built from the Thrift enums
+     */
+    public static int maxCardinality(){
+        return (1 << Level.values().length) * (1 << Group.values().length) * (1 << Compartment.values().length);
+    }
+
+    private static List<SecurityContainer> markings(Random random, int cardinality){
+        if(cardinality < 1 || cardinality > maxCardinality()){
+            throw new IllegalArgumentException("markingCardinality must be between 1 and " + maxCardinality());
+        }
+        List<SecurityContainer> all = new ArrayList<>(maxCardinality());
+        for(int levels = 0; levels < 1 << Level.values().length; levels++){
+            for(int groups = 0; groups < 1 << Group.values().length; groups++){
+                for(int compartments = 0; compartments < 1 << Compartment.values().length; compartments++){
+                    all.add(new SecurityContainer(subset(Level.class, levels), subset(Group.class, groups),
+                                                  subset(Compartment.class, compartments)));
+                }
+            }
+        }
+        Collections.shuffle(all, random);
+        return all.subList(0, cardinality);
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> subset(Class<E> type, int bits){
+        EnumSet<E> subset = EnumSet.noneOf(type);
+        for(E constant : type.getEnumConstants()){
+            if((bits & (1 << constant.ordinal())) != 0){
+                subset.add(constant);
+            }
+        }
+        return subset;
+    }
+}
@@ -0,0 +1,54 @@
+package benchmark;
+
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * JMH refuses benchmarks in the default package, which is where the handler lives, so it is reached through the
+ * generated interface and a method handle bound once per trial.
+ */
+final class Handlers {
+
+    private static final String HANDLER = "ProtectionServiceHandler";
+
+    private Handlers(){
+    }
+
+    static ProtectionService.Iface newHandler(){
+        try {
+            return (ProtectionService.Iface) Class.forName(HANDLER).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + HANDLER, e);
+        }
+    }
+
+    /**
+     * @return A handle taking (handler, user, documents) and returning the documents the user can see
+     */
+    static MethodHandle process(){
+        try {
+            Method process = Class.forName(HANDLER).getDeclaredMethod("process", User.class, List.class);
+            process.setAccessible(true);
+            return MethodHandles.lookup().unreflect(process)
+                    .asType(MethodType.methodType(List.class, Object.class, User.class, List.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to access " + HANDLER + ".process", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<ProtectedDocument> invoke(MethodHandle process, Object handler, User user, List<ProtectedDocument> documents){
+        try {
+            return (List<ProtectedDocument>) process.invokeExact(handler, user, documents);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
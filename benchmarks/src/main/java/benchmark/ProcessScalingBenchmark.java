@@ -0,0 +1,75 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards against the filtering path becoming quadratic again: every other document is denied, the pattern that used
+ * to shift the deserialized ArrayList once per removal.  The batch sizes grow tenfold, so the time per batch must
+ * grow no more than about tenfold with them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessScalingBenchmark {
+
+    @Param({"5000", "50000", "500000"})
+    public int batchSize;
+
+    private ProtectionService.Iface handler;
+    private MethodHandle process;
+    private User user;
+    private List<ProtectedDocument> documents;
+
+    @Setup
+    public void setUp(){
+        handler = Handlers.newHandler();
+        process = Handlers.process();
+        SecurityContainer visible = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.noneOf(Group.class),
+                                                          EnumSet.noneOf(Compartment.class));
+        SecurityContainer denied = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                         EnumSet.noneOf(Compartment.class));
+        user = new User(visible);
+        ProtectedKey key = new ProtectedKey("Alpha");
+        documents = new ArrayList<>(batchSize);
+        for(int i = 0; i < batchSize; i++){
+            Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+            fields.put(key, new ProtectedField("some value", visible));
+            documents.add(new ProtectedDocument(fields, i % 2 == 0 ? visible : denied));
+        }
+    }
+
+    @Benchmark
+    public List<ProtectedDocument> process(){
+        return Handlers.invoke(process, handler, user, documents);
+    }
+}
@@ -0,0 +1,167 @@
+package benchmark;
+
+import org.apache.thrift.TBase;
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectionService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of the {@code authorize} arguments, a user plus a list of {@link security.ProtectedDocument},
+ * with each of the protocols and framings the server can be run with.  The {@code packed} markings encode the same
+ * batch as the {@code authorizePacked} arguments instead, with bitmasks in place of the sets.  The {@code bytes} counter of
+ * {@link #serialize(Payload)} is the rate at which the payload is produced, dividing it by the operation rate gives
+ * the size of the payload on the wire.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"binary", "compact", "tuple"})
+    public String protocol;
+
+    @Param({"unframed", "framed", "compressed"})
+    public String transport;
+
+    @Param({"100", "1000", "10000"})
+    public int batchSize;
+
+    @Param({"sets", "packed"})
+    public String markings;
+
+    @Param({"10"})
+    public int fieldsPerDocument;
+
+    @Param({"8"})
+    public int markingCardinality;
+
+    private TProtocolFactory factory;
+    private TTransportFactory transportFactory;
+    private boolean packed;
+    private TBase<?, ?> args;
+    private TByteArrayOutputStream output;
+    private TTransport outputTransport;
+    private TProtocol outputProtocol;
+    private byte[] encoded;
+    private int encodedLength;
+
+    @Setup
+    public void setUp() throws TException {
+        factory = factory(protocol);
+        transportFactory = transportFactory(transport);
+        List<ProtectedDocument> batch = Documents.batch(batchSize, fieldsPerDocument, 0.0, markingCardinality);
+        packed = "packed".equals(markings);
+        args = packed ? new ProtectionService.authorizePacked_args(Documents.user(), pack(batch))
+                      : new ProtectionService.authorize_args(Documents.user(), batch);
+        output = new TByteArrayOutputStream(1024);
+        outputTransport = transportFactory.getTransport(new TIOStreamTransport(output));
+        outputProtocol = factory.getProtocol(outputTransport);
+        args.write(outputProtocol);
+        outputTransport.flush();
+        encoded = output.toByteArray();
+        encodedLength = encoded.length;
+    }
+
+    /**
+     * Counts the bytes written, see the class comment.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Benchmark
+    public int serialize(Payload payload) throws TException {
+        output.reset();
+        args.write(outputProtocol);
+        outputTransport.flush();
+        payload.bytes += output.len();
+        return output.len();
+    }
+
+    @Benchmark
+    public TBase<?, ?> deserialize() throws TException {
+        TBase<?, ?> read = packed ? new ProtectionService.authorizePacked_args() : new ProtectionService.authorize_args();
+        TTransport in = transportFactory.getTransport(new TMemoryInputTransport(encoded, 0, encodedLength));
+        read.read(factory.getProtocol(in));
+        // releases the zlib streams of a compressed transport
+        in.close();
+        return read;
+    }
+
+    static TProtocolFactory factory(String protocol){
+        switch (protocol){
+            case "binary":
+                return new TBinaryProtocol.Factory();
+            case "compact":
+                return new TCompactProtocol.Factory();
+            case "tuple":
+                return new TTupleProtocol.Factory();
+            default:
+                throw new IllegalArgumentException("Unknown protocol " + protocol);
+        }
+    }
+
+    /**
+     * The packing lives in the default package with the server, so it is called reflectively.
+     */
+    @SuppressWarnings("unchecked")
+    static List<PackedDocument> pack(List<ProtectedDocument> documents){
+        try {
+            return (List<PackedDocument>) Class.forName("MarkingPacker").getMethod("pack", List.class).invoke(null, documents);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to pack the batch", e);
+        }
+    }
+
+    /**
+     * The compressed transport lives in the default package with the server, so it is created reflectively.
+     */
+    static TTransportFactory transportFactory(String transport){
+        switch (transport){
+            case "unframed":
+                return new TTransportFactory();
+            case "framed":
+                return new TFramedTransport.Factory();
+            case "compressed":
+                try {
+                    return (TTransportFactory) Class.forName("CompressedFramedTransport$Factory").getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Unable to create the compressed transport", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown transport " + transport);
+        }
+    }
+}
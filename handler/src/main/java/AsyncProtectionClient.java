@@ -0,0 +1,274 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.async.TAsyncClientManager;
+import org.apache.thrift.async.TAsyncMethodCall;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TNonblockingSocket;
+import org.apache.thrift.transport.TTransportException;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.LabeledDocument;
+import security.LabeledUser;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+import security.VisibilityMask;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A client whose calls complete on a future rather than blocking the caller.  Calls are made over up to
+ * {@link ClientSettings#getMaxConnections()} connections driven by a single selector thread, a connection carries one
+ * call at a time and calls made while every connection is busy wait in line for the next one to free up.  The server
+ * must read {@link WireFormat.Transport#FRAMED} calls.
+ *
+ * @see ProtectionClient
+ */
+public class AsyncProtectionClient implements Closeable {
+
+    private final ClientSettings settings;
+    private final TAsyncClientManager manager;
+    private final TProtocolFactory protocolFactory;
+    private final ArrayDeque<Connection> idle = new ArrayDeque<>();
+    private final ArrayDeque<Pending<?>> waiting = new ArrayDeque<>();
+    private int open;
+    private boolean closed;
+
+    /**
+     * @param settings - The server to connect to, whose transport must be {@link WireFormat.Transport#FRAMED}
+     * @throws IOException In the event the selector thread can not be started
+     */
+    public AsyncProtectionClient(ClientSettings settings) throws IOException {
+        if(settings.getTransport() != WireFormat.Transport.FRAMED){
+            throw new IllegalArgumentException("Asynchronous calls are always framed, not " + settings.getTransport());
+        }
+        this.settings = settings;
+        this.manager = new TAsyncClientManager();
+        this.protocolFactory = WireFormat.protocolFactory(settings.getProtocol());
+    }
+
+    public CompletableFuture<List<ProtectedDocument>> authorize(User user, List<ProtectedDocument> documents) {
+        return authorize(user, documents, settings.getCallTimeout());
+    }
+
+    /**
+     * @param user - The user that is requesting access
+     * @param documents - The data that is to be accessed
+     * @param timeout - The longest the call may take once it is sent, in milliseconds
+     * @return The documents the user can see, completed exceptionally with a {@link TException} on failure
+     */
+    public CompletableFuture<List<ProtectedDocument>> authorize(final User user, final List<ProtectedDocument> documents, int timeout) {
+        return submit(timeout, (client, callback) -> client.authorize(user, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorize_call) call).getResult());
+    }
+
+    public CompletableFuture<List<VisibilityMask>> authorizeMany(final List<User> users, final List<ProtectedDocument> documents) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizeMany(users, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizeMany_call) call).getResult());
+    }
+
+    public CompletableFuture<VisibilityMask> authorizeMask(final User user, final List<ProtectedDocument> documents) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizeMask(user, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizeMask_call) call).getResult());
+    }
+
+    public CompletableFuture<VisibilityMask> authorizeMarkings(final User user, final List<MarkedDocument> documents) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizeMarkings(user, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizeMarkings_call) call).getResult());
+    }
+
+    public CompletableFuture<List<EncodedDocument>> authorizeEncoded(final User user, final EncodedBatch batch) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizeEncoded(user, batch, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizeEncoded_call) call).getResult());
+    }
+
+    public CompletableFuture<List<PackedDocument>> authorizePacked(final User user, final List<PackedDocument> documents) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizePacked(user, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizePacked_call) call).getResult());
+    }
+
+    public CompletableFuture<List<LabeledDocument>> authorizeLabeled(final LabeledUser user, final List<LabeledDocument> documents) {
+        return submit(settings.getCallTimeout(), (client, callback) -> client.authorizeLabeled(user, documents, callback),
+                      call -> ((ProtectionService.AsyncClient.authorizeLabeled_call) call).getResult());
+    }
+
+    private <T> CompletableFuture<T> submit(int timeout, Start start, Result<T> result) {
+        Pending<T> pending = new Pending<>(timeout, start, result);
+        Connection client;
+        synchronized (this) {
+            if(closed){
+                pending.future.completeExceptionally(new TTransportException(TTransportException.NOT_OPEN, "The client is closed"));
+                return pending.future;
+            }
+            client = idle.pollFirst();
+            if(null == client && open == settings.getMaxConnections()){
+                waiting.addLast(pending);
+                return pending.future;
+            }
+            if(null == client){
+                open++;
+            }
+        }
+        if(null == client){
+            try {
+                client = connect();
+            } catch (IOException e) {
+                unreachable(pending, e);
+                return pending.future;
+            }
+        }
+        pending.start(client);
+        return pending.future;
+    }
+
+    private Connection connect() throws IOException {
+        TNonblockingSocket socket = new TNonblockingSocket(settings.getHost(), settings.getPort(), settings.getConnectTimeout());
+        return new Connection(protocolFactory, manager, socket);
+    }
+
+    /**
+     * Hands a connection whose call completed to the next waiting call, or back to the idle connections.  A
+     * connection whose call failed is closed, and the next waiting call opens a new one.
+     *
+     * @param client - The connection of the call
+     * @param reusable - False when the call failed, the connection is then closed
+     */
+    private void release(Connection client, boolean reusable){
+        Pending<?> next;
+        synchronized (this) {
+            next = waiting.pollFirst();
+            if(!reusable || closed){
+                client.close();
+                client = null;
+                if(null == next){
+                    open--;
+                    return;
+                }
+            } else if(null == next){
+                idle.addFirst(client);
+                return;
+            }
+        }
+        if(null == client){
+            try {
+                client = connect();
+            } catch (IOException e) {
+                unreachable(next, e);
+                return;
+            }
+        }
+        next.start(client);
+    }
+
+    /**
+     * Fails the supplied call, along with every call waiting for a connection when no other connection is left to
+     * free up for them.
+     */
+    private void unreachable(Pending<?> pending, IOException e){
+        TTransportException failure = new TTransportException(TTransportException.NOT_OPEN, e);
+        List<Pending<?>> failed = new ArrayList<>();
+        failed.add(pending);
+        synchronized (this) {
+            open--;
+            if(open == 0){
+                failed.addAll(waiting);
+                waiting.clear();
+            }
+        }
+        for(Pending<?> call : failed){
+            call.future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Stops the selector thread, calls in flight fail and calls still waiting are failed.
+     */
+    public void close(){
+        synchronized (this) {
+            closed = true;
+            for(Pending<?> pending : waiting){
+                pending.future.completeExceptionally(new TTransportException(TTransportException.NOT_OPEN, "The client is closed"));
+            }
+            waiting.clear();
+            for(Connection client : idle){
+                client.close();
+            }
+            idle.clear();
+        }
+        manager.stop();
+    }
+
+    /**
+     * A call waiting for, or running on, a connection.
+     */
+    private class Pending<T> implements AsyncMethodCallback<TAsyncMethodCall> {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final int timeout;
+        private final Start start;
+        private final Result<T> result;
+        private Connection client;
+
+        Pending(int timeout, Start start, Result<T> result){
+            this.timeout = timeout;
+            this.start = start;
+            this.result = result;
+        }
+
+        void start(Connection client){
+            this.client = client;
+            client.setTimeout(timeout);
+            try {
+                start.start(client, this);
+            } catch (TException | RuntimeException e) {
+                // never sent, but the connection may have been left marked as busy
+                release(client, false);
+                future.completeExceptionally(e);
+            }
+        }
+
+        public void onComplete(TAsyncMethodCall call) {
+            // the connection is freed first, the result is read from the call's own buffer
+            release(client, true);
+            try {
+                future.complete(result.get(call));
+            } catch (TException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        public void onError(Exception e) {
+            release(client, false);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * The generated client, which only closes its connection when a call fails.
+     */
+    private static class Connection extends ProtectionService.AsyncClient {
+
+        Connection(TProtocolFactory protocolFactory, TAsyncClientManager manager, TNonblockingSocket socket){
+            super(protocolFactory, manager, socket);
+        }
+
+        void close(){
+            ___transport.close();
+        }
+    }
+
+    private interface Start {
+        void start(Connection client, AsyncMethodCallback callback) throws TException;
+    }
+
+    private interface Result<T> {
+        T get(TAsyncMethodCall call) throws TException;
+    }
+}
@@ -0,0 +1,101 @@
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.LabeledDocument;
+import security.LabeledUser;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Services calls of the generated {@link security.ProtectionService.AsyncProcessor} by handing each one to a pool of
+ * workers and completing its callback once the blocking handler returns.  The calling thread, a selector thread of
+ * a non blocking server, is never held up by evaluation and goes back to reading and writing other connections
+ * straight away.  Calls the pool rejects are failed immediately, so a saturated server answers with an error
+ * instead of queueing without bound.
+ *
+ * @see AuthorizationServer
+ */
+public class AsyncProtectionServiceHandler implements ProtectionService.AsyncIface {
+
+    private final ProtectionService.Iface handler;
+    private final Executor workers;
+
+    /**
+     * @param handler - The handler evaluating the calls
+     * @param workers - The pool the calls are evaluated on
+     */
+    public AsyncProtectionServiceHandler(ProtectionService.Iface handler, Executor workers){
+        this.handler = handler;
+        this.workers = workers;
+    }
+
+    public void authorize(User user, List<ProtectedDocument> fields, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorize(user, fields));
+    }
+
+    public void authorizeMany(List<User> users, List<ProtectedDocument> documents, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizeMany(users, documents));
+    }
+
+    public void authorizeMask(User user, List<ProtectedDocument> documents, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizeMask(user, documents));
+    }
+
+    public void authorizeMarkings(User user, List<MarkedDocument> documents, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizeMarkings(user, documents));
+    }
+
+    public void authorizeEncoded(User user, EncodedBatch batch, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizeEncoded(user, batch));
+    }
+
+    public void authorizePacked(User user, List<PackedDocument> documents, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizePacked(user, documents));
+    }
+
+    public void authorizeLabeled(LabeledUser user, List<LabeledDocument> documents, AsyncMethodCallback resultHandler) throws TException {
+        submit(resultHandler, () -> handler.authorizeLabeled(user, documents));
+    }
+
+    /**
+     * Evaluates the call on the workers and completes the callback with whatever the call ends with, errors included,
+     * so that the client always gets an answer.
+     */
+    @SuppressWarnings("unchecked")
+    private void submit(AsyncMethodCallback callback, Call call){
+        try {
+            CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.call();
+                } catch (TException e) {
+                    throw new CompletionException(e);
+                }
+            }, workers).whenComplete((result, error) -> {
+                if(null == error){
+                    callback.onComplete(result);
+                    return;
+                }
+                Throwable cause = error instanceof CompletionException && null != error.getCause() ? error.getCause() : error;
+                callback.onError(cause instanceof Exception ? (Exception) cause
+                        : new TApplicationException(TApplicationException.INTERNAL_ERROR, cause.toString()));
+            });
+        } catch (RejectedExecutionException e) {
+            callback.onError(e);
+        }
+    }
+
+    private interface Call {
+        Object call() throws TException;
+    }
+}
@@ -0,0 +1,301 @@
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what the server authorizes and how long it takes.  Recording is kept off the per field path: decisions
+ * are counted into a {@link DecisionTally} owned by the evaluating thread and added to the shared counters once
+ * per batch, and the shared counters are {@link LongAdder}s so that worker threads do not contend on a single
+ * cache line.
+ *
+ * @see AuthorizationMetricsMBean
+ */
+public class AuthorizationMetrics implements AuthorizationMetricsMBean {
+
+    /** The name the metrics are registered under with JMX */
+    public static final String OBJECT_NAME = "ThriftFilter:type=AuthorizationMetrics";
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder documentsIn = new LongAdder();
+    private final LongAdder documentsOut = new LongAdder();
+    private final LongAdder fieldsEvaluated = new LongAdder();
+    private final LongAdder fieldsNulled = new LongAdder();
+    private final LongAdder levelDenials = new LongAdder();
+    private final LongAdder groupDenials = new LongAdder();
+    private final LongAdder compartmentDenials = new LongAdder();
+
+    private final Histogram authorizeLatency = new Histogram();
+    private final Histogram requestLatency = new Histogram();
+    private final Histogram serializationLatency = new Histogram();
+    private final Histogram batchSize = new Histogram();
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsRejected = new LongAdder();
+    private final AtomicLong activeConnections = new AtomicLong();
+    private final Histogram connectionDuration = new Histogram();
+    private final Histogram connectionRequests = new Histogram();
+
+    private final ThreadLocal<DecisionTally> tallies = new ThreadLocal<DecisionTally>(){
+        @Override
+        protected DecisionTally initialValue() {
+            return new DecisionTally();
+        }
+    };
+
+    /**
+     * @return The emptied tally of the calling thread, to be handed back to {@link #flush(DecisionTally)}
+     */
+    public DecisionTally tally(){
+        DecisionTally tally = tallies.get();
+        tally.reset();
+        return tally;
+    }
+
+    /**
+     * Adds the decisions counted by the supplied tally to the totals.
+     *
+     * @param tally - A tally obtained from {@link #tally()} on the calling thread
+     */
+    public void flush(DecisionTally tally){
+        if(tally.documents != 0){
+            documentsIn.add(tally.documents);
+            documentsOut.add(tally.documents - tally.documentsDenied);
+        }
+        if(tally.fields != 0){
+            fieldsEvaluated.add(tally.fields);
+            fieldsNulled.add(tally.fieldsDenied);
+        }
+        if(tally.levelDenials != 0){
+            levelDenials.add(tally.levelDenials);
+        }
+        if(tally.groupDenials != 0){
+            groupDenials.add(tally.groupDenials);
+        }
+        if(tally.compartmentDenials != 0){
+            compartmentDenials.add(tally.compartmentDenials);
+        }
+        tally.reset();
+    }
+
+    /**
+     * @param documents - The number of documents in a batch that was evaluated
+     */
+    public void recordBatch(int documents){
+        batches.increment();
+        batchSize.record(documents);
+    }
+
+    /**
+     * @param nanos - The time taken by the calling thread to evaluate a batch
+     */
+    public void recordEvaluation(long nanos){
+        authorizeLatency.record(nanos);
+        DecisionTally tally = tallies.get();
+        tally.evaluationNanos = tally.evaluationNanos < 0 ? nanos : tally.evaluationNanos + nanos;
+    }
+
+    /**
+     * Marks the start of a request served by the calling thread, see {@link #recordRequest(long)}.
+     */
+    public void startRequest(){
+        tallies.get().evaluationNanos = -1L;
+    }
+
+    /**
+     * Records the time taken by a request, the part of it not spent evaluating is recorded as serialization when
+     * the request evaluated anything.
+     *
+     * @param nanos - The time taken by the calling thread to serve the request
+     */
+    public void recordRequest(long nanos){
+        requestLatency.record(nanos);
+        long evaluationNanos = tallies.get().evaluationNanos;
+        if(evaluationNanos >= 0){
+            serializationLatency.record(nanos - evaluationNanos);
+        }
+    }
+
+    public void connectionOpened(){
+        connectionsOpened.increment();
+        activeConnections.incrementAndGet();
+    }
+
+    /**
+     * @param nanos - The time the connection was open for
+     * @param requests - The number of requests served on the connection
+     */
+    public void connectionClosed(long nanos, long requests){
+        activeConnections.decrementAndGet();
+        connectionDuration.record(nanos);
+        connectionRequests.record(requests);
+    }
+
+    /**
+     * Records a connection closed without being served because the server was at its connection cap.
+     */
+    public void connectionRejected(){
+        connectionsRejected.increment();
+    }
+
+    /**
+     * @param server - The server to register with under {@link #OBJECT_NAME}
+     */
+    public void register(MBeanServer server) throws JMException {
+        server.registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    public long getRequests() {
+        return requestLatency.getCount();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getDocumentsIn() {
+        return documentsIn.sum();
+    }
+
+    public long getDocumentsOut() {
+        return documentsOut.sum();
+    }
+
+    public long getFieldsEvaluated() {
+        return fieldsEvaluated.sum();
+    }
+
+    public long getFieldsNulled() {
+        return fieldsNulled.sum();
+    }
+
+    public long getLevelDenials() {
+        return levelDenials.sum();
+    }
+
+    public long getGroupDenials() {
+        return groupDenials.sum();
+    }
+
+    public long getCompartmentDenials() {
+        return compartmentDenials.sum();
+    }
+
+    public double getLevelDenyRatio() {
+        return ratio(getLevelDenials());
+    }
+
+    public double getGroupDenyRatio() {
+        return ratio(getGroupDenials());
+    }
+
+    public double getCompartmentDenyRatio() {
+        return ratio(getCompartmentDenials());
+    }
+
+    private double ratio(long denials){
+        long decisions = getDocumentsIn() + getFieldsEvaluated();
+        return decisions == 0 ? 0.0 : denials / (double) decisions;
+    }
+
+    public long getAuthorizeLatencyMedian() {
+        return authorizeLatency.getValueAtPercentile(50.0);
+    }
+
+    public long getAuthorizeLatency99th() {
+        return authorizeLatency.getValueAtPercentile(99.0);
+    }
+
+    public long getAuthorizeLatencyMax() {
+        return authorizeLatency.getMax();
+    }
+
+    public long getRequestLatencyMedian() {
+        return requestLatency.getValueAtPercentile(50.0);
+    }
+
+    public long getRequestLatency99th() {
+        return requestLatency.getValueAtPercentile(99.0);
+    }
+
+    public long getRequestLatencyMax() {
+        return requestLatency.getMax();
+    }
+
+    public long getSerializationLatencyMedian() {
+        return serializationLatency.getValueAtPercentile(50.0);
+    }
+
+    public long getSerializationLatency99th() {
+        return serializationLatency.getValueAtPercentile(99.0);
+    }
+
+    public long getSerializationLatencyMax() {
+        return serializationLatency.getMax();
+    }
+
+    public long getBatchSizeMedian() {
+        return batchSize.getValueAtPercentile(50.0);
+    }
+
+    public long getBatchSize99th() {
+        return batchSize.getValueAtPercentile(99.0);
+    }
+
+    public long getBatchSizeMax() {
+        return batchSize.getMax();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public long getConnectionsRejected() {
+        return connectionsRejected.sum();
+    }
+
+    public long getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    public long getConnectionDurationMedian() {
+        return connectionDuration.getValueAtPercentile(50.0);
+    }
+
+    public long getConnectionDurationMax() {
+        return connectionDuration.getMax();
+    }
+
+    public long getRequestsPerConnectionMedian() {
+        return connectionRequests.getValueAtPercentile(50.0);
+    }
+
+    public long getRequestsPerConnectionMax() {
+        return connectionRequests.getMax();
+    }
+
+    public Histogram getAuthorizeLatency() {
+        return authorizeLatency;
+    }
+
+    public Histogram getRequestLatency() {
+        return requestLatency;
+    }
+
+    public Histogram getSerializationLatency() {
+        return serializationLatency;
+    }
+
+    public Histogram getBatchSize() {
+        return batchSize;
+    }
+
+    public Histogram getConnectionDuration() {
+        return connectionDuration;
+    }
+
+    public Histogram getConnectionRequests() {
+        return connectionRequests;
+    }
+}
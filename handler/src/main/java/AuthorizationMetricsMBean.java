@@ -0,0 +1,96 @@
+/**
+ * The JMX view of {@link AuthorizationMetrics}.  Counters and histograms are cumulative since the server started,
+ * latencies are in nanoseconds.
+ * <p>
+ * The {@link ServerSettings.Mode#ASYNC} engine records evaluations, batches and decisions but no requests: its calls
+ * are read and written on the selector thread and evaluated on a worker, so there is no single thread to time a
+ * request on.  Request and serialization figures stay at zero in that mode.
+ */
+public interface AuthorizationMetricsMBean {
+
+    /**
+     * @return The number of requests that went through the server's processor, zero in
+     *         {@link ServerSettings.Mode#ASYNC} mode
+     */
+    long getRequests();
+
+    /**
+     * @return The number of batches evaluated, a request evaluates one batch per authorize call
+     */
+    long getBatches();
+
+    long getDocumentsIn();
+
+    long getDocumentsOut();
+
+    long getFieldsEvaluated();
+
+    long getFieldsNulled();
+
+    long getLevelDenials();
+
+    long getGroupDenials();
+
+    long getCompartmentDenials();
+
+    /**
+     * @return The share of the decisions, documents and fields alike, that the level rule denied
+     */
+    double getLevelDenyRatio();
+
+    double getGroupDenyRatio();
+
+    double getCompartmentDenyRatio();
+
+    long getAuthorizeLatencyMedian();
+
+    long getAuthorizeLatency99th();
+
+    long getAuthorizeLatencyMax();
+
+    /**
+     * @return The median time taken to read a request once its header has arrived, evaluate it and write its reply,
+     *         not recorded in {@link ServerSettings.Mode#ASYNC} mode
+     */
+    long getRequestLatencyMedian();
+
+    long getRequestLatency99th();
+
+    long getRequestLatencyMax();
+
+    /**
+     * @return The median time of a request spent outside evaluation, reading and writing the protocol, not recorded
+     *         in {@link ServerSettings.Mode#ASYNC} mode
+     */
+    long getSerializationLatencyMedian();
+
+    long getSerializationLatency99th();
+
+    long getSerializationLatencyMax();
+
+    long getBatchSizeMedian();
+
+    long getBatchSize99th();
+
+    long getBatchSizeMax();
+
+    /**
+     * @return The number of connections served by the {@link ServerSettings.Mode#VIRTUAL_THREAD} engine
+     */
+    long getConnectionsOpened();
+
+    /**
+     * @return The number of connections closed unserved because the connection cap had been reached
+     */
+    long getConnectionsRejected();
+
+    long getActiveConnections();
+
+    long getConnectionDurationMedian();
+
+    long getConnectionDurationMax();
+
+    long getRequestsPerConnectionMedian();
+
+    long getRequestsPerConnectionMax();
+}
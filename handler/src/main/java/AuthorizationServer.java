@@ -1,43 +1,458 @@
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TServer.Args;
 import org.apache.thrift.server.TSimpleServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
 import security.ProtectionService;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class AuthorizationServer {
 
     public static ProtectionServiceHandler handler;
 
-    public static ProtectionService.Processor processor;
+    public static TProcessor processor;
+
+    public static AuthorizationMetrics metrics;
 
     public static void main(String [] args) {
         try {
-            handler = new ProtectionServiceHandler();
-            processor = new ProtectionService.Processor(handler);
+            final ServerSettings settings = ServerSettings.fromSystemProperties();
+            MarkingDictionary dictionary = new MarkingDictionary(settings.getDictionaryCapacity());
+            metrics = settings.isMetrics() ? new AuthorizationMetrics() : null;
+            AtomicReference<GroupHierarchy> groups = groups(settings);
+            handler = handler(settings, dictionary, metrics, groups);
+            processor = processor(handler, settings, metrics);
+            if(null != metrics){
+                metrics.register(ManagementFactory.getPlatformMBeanServer());
+                report(metrics, settings);
+            }
+            watch(groups, settings);
 
-            Runnable simple = new Runnable() {
+            Runnable serve = new Runnable() {
                 public void run() {
-                    simple(processor);
+                    serve(processor, settings, metrics);
                 }
             };
 
-            new Thread(simple).start();
+            new Thread(serve).start();
         } catch (Exception x) {
             x.printStackTrace();
         }
     }
 
-    public static void simple(ProtectionService.Processor processor) {
+    /**
+     * Builds and runs the server engine selected by the supplied settings, blocking until it stops.
+     *
+     * @param processor - The processor that services requests
+     * @param settings - The engine and sizing to use
+     */
+    public static void serve(TProcessor processor, ServerSettings settings) {
+        serve(processor, settings, null);
+    }
+
+    /**
+     * Builds and runs the server engine selected by the supplied settings, blocking until it stops.
+     *
+     * @param processor - The processor that services requests
+     * @param settings - The engine and sizing to use
+     * @param metrics - The metrics connections are recorded to, NULL to record nothing
+     */
+    public static void serve(TProcessor processor, ServerSettings settings, AuthorizationMetrics metrics) {
         try {
-            TServerTransport serverTransport = new TServerSocket(9090);
-            TServer server = new TSimpleServer(new Args(serverTransport).processor(processor));
+            TServer server = create(processor, settings, metrics);
 
-            System.out.println("Starting the simple server...");
+            System.out.println("Starting the " + settings.getMode() + " server on port " + settings.getPort() + "...");
             server.serve();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * @param settings - The settings holding the parallel filtering configuration
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics evaluation is recorded to, NULL to record nothing
+     * @return A handler that only splits batches across a pool when a threshold has been configured
+     * @throws IOException In the event the labels file can not be read
+     */
+    public static ProtectionServiceHandler handler(ServerSettings settings, MarkingDictionary dictionary, AuthorizationMetrics metrics)
+            throws IOException {
+        return handler(settings, dictionary, metrics, new AtomicReference<>(GroupHierarchy.FLAT));
+    }
+
+    /**
+     * @param settings - The settings holding the parallel filtering configuration
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics evaluation is recorded to, NULL to record nothing
+     * @param groups - The group hierarchy users are compiled against, see {@link #groups(ServerSettings)}
+     * @return A handler that only splits batches across a pool when a threshold has been configured
+     * @throws IOException In the event the labels file can not be read
+     */
+    public static ProtectionServiceHandler handler(ServerSettings settings, MarkingDictionary dictionary, AuthorizationMetrics metrics,
+                                                   AtomicReference<GroupHierarchy> groups) throws IOException {
+        LabelRegistry labels = labels(settings);
+        PolicyEngine policy = PolicyEngine.load(settings.getPolicyEngine());
+        if(settings.getParallelThreshold() == Integer.MAX_VALUE){
+            return new ProtectionServiceHandler(null, Integer.MAX_VALUE, dictionary, metrics, labels, groups, policy);
+        }
+        return new ProtectionServiceHandler(new ForkJoinPool(settings.getParallelism()), settings.getParallelThreshold(), dictionary,
+                                            metrics, labels, groups, policy);
+    }
+
+    /**
+     * @param handler - The handler that services requests
+     * @param settings - The settings selecting between the generated and the streaming processor
+     * @param metrics - The metrics requests are timed into, NULL to time nothing
+     * @return The processor to serve, an asynchronous processor when {@link ServerSettings.Mode#ASYNC} is selected
+     */
+    public static TProcessor processor(ProtectionServiceHandler handler, ServerSettings settings,
+                                       AuthorizationMetrics metrics) {
+        ProtectionService.Iface service = handler;
+        if(settings.getCoalesceWindow() > 0){
+            service = new CoalescingHandler(handler, settings.getCoalesceWindow(), TimeUnit.MICROSECONDS,
+                                            settings.getCoalesceMaxBatch());
+        }
+        if(settings.getMode() == ServerSettings.Mode.ASYNC){
+            // not instrumented, the server only treats the generated processor itself as asynchronous, and a call is
+            // read and written on the selector thread but evaluated on a worker, see AuthorizationMetricsMBean
+            return new ProtectionService.AsyncProcessor(new AsyncProtectionServiceHandler(service, workers("authorization-worker", settings)));
+        }
+        TProcessor processor;
+        if(settings.isStreaming() && settings.getProtocol() == WireFormat.Protocol.TUPLE){
+            throw new IllegalArgumentException("Calls can not be streamed with the tuple protocol, it has no field headers");
+        }
+        if(settings.isStreaming()){
+            // calls are filtered while being read, so they are never coalesced
+            processor = new StreamingProtectionProcessor(handler, metrics, handler.getGroups(), handler.getPolicy());
+        } else {
+            processor = new ProtectionService.Processor(service);
+        }
+        return null == metrics ? processor : new InstrumentedProcessor(processor, metrics);
+    }
+
+    /**
+     * @param settings - The settings naming the labels file, if any, and the capacity of the registry
+     * @return The registry holding the labels of the file, or an empty registry when there is none
+     * @throws IOException In the event the file can not be read
+     */
+    public static LabelRegistry labels(ServerSettings settings) throws IOException {
+        if(null == settings.getLabels()){
+            return new LabelRegistry(settings.getLabelCapacity());
+        }
+        return LabelRegistry.load(settings.getLabelCapacity(), new File(settings.getLabels()));
+    }
+
+    /**
+     * @param settings - The settings naming the group hierarchy file, if any
+     * @return The group hierarchy held by the file, or the flat hierarchy when there is none
+     * @throws IOException In the event the file can not be read
+     */
+    public static AtomicReference<GroupHierarchy> groups(ServerSettings settings) throws IOException {
+        if(null == settings.getGroupHierarchy()){
+            return new AtomicReference<>(GroupHierarchy.FLAT);
+        }
+        return new AtomicReference<>(GroupHierarchy.load(new File(settings.getGroupHierarchy())));
+    }
+
+    /**
+     * Checks the group hierarchy file named by the supplied settings, if any, for changes on a daemon thread, and
+     * swaps in the new hierarchy once it has been read in full.  Requests compile their users against whichever
+     * hierarchy is current when they start, so nothing waits for a reload, and a file that fails to load leaves the
+     * current hierarchy in place.
+     *
+     * @param groups - The group hierarchy to replace
+     * @param settings - The settings naming the file and how often it is checked
+     */
+    public static void watch(final AtomicReference<GroupHierarchy> groups, ServerSettings settings) {
+        if(null == settings.getGroupHierarchy()){
+            return;
+        }
+        final File file = new File(settings.getGroupHierarchy());
+        final long[] lastModified = {file.lastModified()};
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "authorization-group-hierarchy");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        int interval = settings.getGroupHierarchyReloadInterval();
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                long modified = file.lastModified();
+                if(modified == lastModified[0]){
+                    return;
+                }
+                // a file that fails to load is reported once, then waits for its next change
+                lastModified[0] = modified;
+                try {
+                    groups.set(GroupHierarchy.load(file));
+                    System.out.println("Reloaded the group hierarchy from " + file + ": " + groups.get());
+                } catch (IOException | RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts the reporter named by the supplied settings, if any, on a daemon thread.
+     *
+     * @param metrics - The metrics to report
+     * @param settings - The settings naming the reporter and its interval
+     * @throws ReflectiveOperationException In the event the reporter can not be created
+     */
+    public static void report(final AuthorizationMetrics metrics, ServerSettings settings) throws ReflectiveOperationException {
+        if(null == settings.getMetricsReporter()){
+            return;
+        }
+        final MetricsReporter reporter = (MetricsReporter) Class.forName(settings.getMetricsReporter()).getDeclaredConstructor().newInstance();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "authorization-metrics");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        int interval = settings.getMetricsReportInterval();
+        scheduler.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                try {
+                    reporter.report(metrics);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    public static void simple(TProcessor processor) {
+        serve(processor, new ServerSettings());
+    }
+
+    /**
+     * Creates, but does not start, the server engine selected by the supplied settings.
+     *
+     * @param processor - The processor that services requests
+     * @param settings - The engine and sizing to use
+     * @return The server ready to be served
+     * @throws TTransportException In the event the port can not be bound
+     */
+    public static TServer create(TProcessor processor, ServerSettings settings) throws TTransportException {
+        return create(processor, settings, null);
+    }
+
+    /**
+     * Creates, but does not start, the server engine selected by the supplied settings.
+     *
+     * @param processor - The processor that services requests
+     * @param settings - The engine and sizing to use
+     * @param metrics - The metrics connections are recorded to, NULL to record nothing
+     * @return The server ready to be served
+     * @throws TTransportException In the event the port can not be bound
+     */
+    public static TServer create(TProcessor processor, ServerSettings settings, AuthorizationMetrics metrics) throws TTransportException {
+        boolean blocking = settings.getMode() == ServerSettings.Mode.SIMPLE || settings.getMode() == ServerSettings.Mode.THREAD_POOL
+                || settings.getMode() == ServerSettings.Mode.VIRTUAL_THREAD;
+        if(!blocking && (settings.isNegotiate() || settings.getTransport() == WireFormat.Transport.COMPRESSED)){
+            throw new IllegalArgumentException("The " + settings.getMode() + " server only reads framed calls, it can not "
+                    + (settings.isNegotiate() ? "negotiate" : "read " + settings.getTransport() + " calls"));
+        }
+        switch (settings.getMode()){
+            case THREAD_POOL:
+                return threadPool(processor, settings);
+            case THREADED_SELECTOR:
+                return threadedSelector(processor, settings);
+            case HSHA:
+                return hsha(processor, settings);
+            case ASYNC:
+                return async(processor, settings);
+            case VIRTUAL_THREAD:
+                return new VirtualThreadServer(wireFormat(new Args(serverTransport(settings)), settings).processor(processor),
+                                               settings.getMaxConnections(), metrics);
+            case SIMPLE:
+            default:
+                return new TSimpleServer(wireFormat(new Args(serverTransport(settings)), settings).processor(processor));
+        }
+    }
+
+    /**
+     * @return The socket the blocking engines accept connections on, negotiating their wire format when configured
+     */
+    private static TServerTransport serverTransport(ServerSettings settings) throws TTransportException {
+        if(settings.isNegotiate()){
+            WireFormat.Protocol compact = settings.getProtocol() == WireFormat.Protocol.TUPLE
+                    ? WireFormat.Protocol.TUPLE
+                    : WireFormat.Protocol.COMPACT;
+            return new NegotiatingServerTransport(settings.getPort(), compact);
+        }
+        return new TServerSocket(settings.getPort());
+    }
+
+    /**
+     * Applies the configured protocol and framing to the arguments of a blocking engine.
+     */
+    private static <T extends TServer.AbstractServerArgs<T>> T wireFormat(T args, ServerSettings settings) {
+        if(settings.isNegotiate()){
+            return args.protocolFactory(new NegotiatingServerTransport.ProtocolFactory());
+        }
+        return args.transportFactory(WireFormat.transportFactory(settings.getTransport()))
+                   .protocolFactory(WireFormat.protocolFactory(settings.getProtocol()));
+    }
+
+    /**
+     * Applies the configured protocol to the arguments of a non blocking engine, which only reads framed calls.
+     */
+    private static <T extends TServer.AbstractServerArgs<T>> T framed(T args, ServerSettings settings) {
+        return args.transportFactory(new TFramedTransport.Factory())
+                   .protocolFactory(WireFormat.protocolFactory(settings.getProtocol()));
+    }
+
+    private static TServer threadPool(TProcessor processor, ServerSettings settings) throws TTransportException {
+        TThreadPoolServer.Args args = new TThreadPoolServer.Args(serverTransport(settings))
+                .processor(processor)
+                .executorService(connectionWorkers(settings))
+                // a connection beyond the cap is closed at once rather than holding up the accept loop
+                .requestTimeout(0);
+        return new TThreadPoolServer(wireFormat(args, settings));
+    }
+
+    private static TServer threadedSelector(TProcessor processor, ServerSettings settings) throws TTransportException {
+        TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(settings.getPort());
+        TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(serverTransport)
+                .selectorThreads(settings.getSelectorThreads())
+                .acceptQueueSizePerThread(settings.getAcceptQueueSize())
+                .executorService(workers("authorization-worker", settings))
+                .processor(processor);
+        framed(args, settings);
+        args.maxReadBufferBytes = settings.getMaxReadBufferBytes();
+        return new TThreadedSelectorServer(args);
+    }
+
+    private static TServer hsha(TProcessor processor, ServerSettings settings) throws TTransportException {
+        TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(settings.getPort());
+        THsHaServer.Args args = new THsHaServer.Args(serverTransport)
+                .executorService(workers("authorization-worker", settings))
+                .processor(processor);
+        framed(args, settings);
+        args.maxReadBufferBytes = settings.getMaxReadBufferBytes();
+        return new THsHaServer(args);
+    }
+
+    /**
+     * The selector threads invoke the asynchronous processor themselves, it hands evaluation to its own workers.
+     */
+    private static TServer async(TProcessor processor, ServerSettings settings) throws TTransportException {
+        TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(settings.getPort());
+        TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(serverTransport)
+                .selectorThreads(settings.getSelectorThreads())
+                .acceptQueueSizePerThread(settings.getAcceptQueueSize())
+                .executorService(new SelectorExecutor())
+                .processor(processor);
+        framed(args, settings);
+        args.maxReadBufferBytes = settings.getMaxReadBufferBytes();
+        return new TThreadedSelectorServer(args);
+    }
+
+    /**
+     * Runs every invocation on the selector thread handing it over.  The server is given this rather than no
+     * executor at all as it shuts down whatever executor it holds.
+     */
+    private static class SelectorExecutor extends AbstractExecutorService {
+
+        private volatile boolean shutdown;
+
+        public void execute(Runnable command) {
+            if(shutdown){
+                throw new RejectedExecutionException("The server is stopping");
+            }
+            command.run();
+        }
+
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    /**
+     * A worker holds its connection until the client closes it, so connections are never queued behind each other:
+     * the pool grows up to the connection cap, and the server closes connections it can not hand to a worker.
+     *
+     * @return A pool of daemon workers, one per open connection
+     */
+    private static ExecutorService connectionWorkers(ServerSettings settings) {
+        final AtomicInteger count = new AtomicInteger();
+        int core = Math.min(settings.getWorkerThreads(), settings.getMaxConnections());
+        return new ThreadPoolExecutor(core, settings.getMaxConnections(),
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "authorization-connection-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    /**
+     * @return A fixed size pool of daemon workers whose queue is bounded by the supplied settings
+     */
+    private static ExecutorService workers(final String name, ServerSettings settings) {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(settings.getWorkerThreads(), settings.getWorkerThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(settings.getWorkQueueSize()),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+}
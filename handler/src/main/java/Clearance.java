@@ -0,0 +1,204 @@
+import security.SecurityContainer;
+import security.User;
+
+/**
+ * A user's permissions compiled once into bitmasks so that every document and field of a request can be
+ * checked without going back to the user's sets.  A user with a {@code maxLevel} is compiled into an ordered
+ * clearance instead, whose level rule is a range check on the highest level of the data, see
+ * {@link MarkingEvaluator#isWithin(int, int, int)}.
+ *
+ * @see MarkingEvaluator
+ * @see OlsPolicyEngine
+ */
+public final class Clearance implements Policy {
+
+    /** The clearance of a user without permissions, it only permits unmarked data */
+    public static final Clearance NONE = new Clearance(0L, 0L, 0L);
+
+    private final long levels;
+    private final long groups;
+    private final long compartments;
+    private final boolean ordered;
+    private final int minLevel;
+    private final int maxLevel;
+
+    public Clearance(long levels, long groups, long compartments){
+        this.levels = levels;
+        this.groups = groups;
+        this.compartments = compartments;
+        this.ordered = false;
+        this.minLevel = 0;
+        this.maxLevel = 0;
+    }
+
+    /**
+     * Creates an ordered clearance, permitting data whose highest level lies from the minimum up to the maximum.
+     *
+     * @param minLevel - The Thrift value of the lowest level permitted
+     * @param maxLevel - The Thrift value of the highest level permitted, no lower than the minimum
+     * @param groups - The compiled groups of the user
+     * @param compartments - The compiled compartments of the user
+     */
+    public Clearance(int minLevel, int maxLevel, long groups, long compartments){
+        if(minLevel < 0 || minLevel > maxLevel){
+            throw new IllegalArgumentException("minLevel " + minLevel + " must lie from 0 up to maxLevel " + maxLevel);
+        }
+        this.levels = 0L;
+        this.groups = groups;
+        this.compartments = compartments;
+        this.ordered = true;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Compiles the permissions of the supplied user, into an ordered clearance when the user has a
+     * {@code maxLevel}.
+     *
+     * @param user - The user that is requesting access
+     * @return The compiled clearance of the user
+     * @throws IllegalArgumentException In the event the user's minLevel is above its maxLevel
+     */
+    public static Clearance compile(User user){
+        return compile(user, GroupHierarchy.FLAT);
+    }
+
+    /**
+     * Compiles the permissions of the supplied user, whose groups are closed over the supplied hierarchy.
+     *
+     * @param user - The user that is requesting access
+     * @param hierarchy - The groups held by the holders of other groups
+     * @return The compiled clearance of the user
+     * @throws IllegalArgumentException In the event the user's minLevel is above its maxLevel
+     */
+    public static Clearance compile(User user, GroupHierarchy hierarchy){
+        SecurityContainer permissions = user.getPermissions();
+        long groups = hierarchy.close(MarkingEvaluator.groups(permissions));
+        if(user.isSetMaxLevel()){
+            return new Clearance(user.isSetMinLevel() ? user.getMinLevel().getValue() : 0,
+                                 user.getMaxLevel().getValue(),
+                                 groups,
+                                 MarkingEvaluator.compartments(permissions));
+        }
+        // an unknown label held by the user grants nothing
+        return new Clearance(MarkingEvaluator.levels(permissions) & ~MarkingEvaluator.UNKNOWN,
+                             groups,
+                             MarkingEvaluator.compartments(permissions));
+    }
+
+    /**
+     * @param container - The data's permission set
+     * @return True when data carrying the supplied markings can be seen, False otherwise
+     */
+    public boolean permits(SecurityContainer container){
+        return permits(MarkingEvaluator.levels(container),
+                       MarkingEvaluator.groups(container),
+                       MarkingEvaluator.compartments(container));
+    }
+
+    /**
+     * @return True when data carrying the supplied compiled markings can be seen, False otherwise
+     */
+    public boolean permits(long levels, long groups, long compartments){
+        return denials(levels, groups, compartments) == 0;
+    }
+
+    /**
+     * @return The rules denying data carrying the supplied compiled markings, zero when it can be seen
+     * @see MarkingEvaluator#denials
+     */
+    @Override
+    public int denials(long levels, long groups, long compartments){
+        if(!ordered){
+            return MarkingEvaluator.denials(levels, groups, compartments,
+                                            this.levels, this.groups, this.compartments);
+        }
+        int denials = MarkingEvaluator.denials(0L, groups, compartments, 0L, this.groups, this.compartments);
+        if(levels != 0 && !MarkingEvaluator.isWithin(MarkingEvaluator.highestLevel(levels), minLevel, maxLevel)){
+            denials |= MarkingEvaluator.LEVEL_DENIED;
+        }
+        return denials;
+    }
+
+    /**
+     * @return True, a clearance decides by the OLS rules
+     */
+    @Override
+    public boolean supportsCovering(){
+        return true;
+    }
+
+    /**
+     * Decides the markings without a branch on the data, so that the loop can be unrolled and vectorized.
+     */
+    @Override
+    public void denials(long[] levels, long[] groups, long[] compartments, int from, int to, int[] denials){
+        if(ordered){
+            for(int i = from; i < to; i++){
+                denials[i] = denials(levels[i], groups[i], compartments[i]);
+            }
+            return;
+        }
+        long userLevels = this.levels;
+        long userGroups = this.groups;
+        long userCompartments = this.compartments;
+        for(int i = from; i < to; i++){
+            long group = groups[i];
+            denials[i] = nonZero(levels[i] & ~userLevels) * MarkingEvaluator.LEVEL_DENIED
+                       | (nonZero(group) & (nonZero(group & userGroups) ^ 1)) * MarkingEvaluator.GROUP_DENIED
+                       | nonZero(compartments[i] & ~userCompartments) * MarkingEvaluator.COMPARTMENT_DENIED;
+        }
+    }
+
+    /**
+     * @return 1 when the value is not zero, 0 otherwise
+     */
+    private static int nonZero(long value){
+        return (int)((value | -value) >>> 63);
+    }
+
+    public long getLevels() {
+        return levels;
+    }
+
+    public long getGroups() {
+        return groups;
+    }
+
+    public long getCompartments() {
+        return compartments;
+    }
+
+    /**
+     * @return True when levels are judged as a range, the levels mask is then unused
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Clearance)) return false;
+        Clearance that = (Clearance) o;
+        return levels == that.levels && groups == that.groups && compartments == that.compartments
+            && ordered == that.ordered && minLevel == that.minLevel && maxLevel == that.maxLevel;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = levels * 31 * 31 + groups * 31 + compartments;
+        if(ordered){
+            hash = hash * 31 + (minLevel * 64 + maxLevel);
+        }
+        return (int)(hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,187 @@
+import java.util.Properties;
+
+/**
+ * Settings used by {@link ProtectionClient} and {@link AsyncProtectionClient} to reach and pool connections to the
+ * server.  Every value can be supplied as a system property, e.g. {@code -Dauthorization.client.maxConnections=32}.
+ * Durations are in milliseconds.
+ */
+public class ClientSettings {
+
+    public static final String PREFIX = "authorization.client.";
+
+    private String host = "localhost";
+    private int port = 9090;
+    private WireFormat.Protocol protocol = WireFormat.Protocol.BINARY;
+    private WireFormat.Transport transport = WireFormat.Transport.UNFRAMED;
+    private int maxConnections = 8;
+    private int maxWait = 1000;
+    private int connectTimeout = 1000;
+    private int callTimeout = 10000;
+    private int healthCheckInterval = 30000;
+    private int pipelineDepth = 4;
+
+    /**
+     * @return Settings read from the system properties, falling back to the defaults for anything absent
+     */
+    public static ClientSettings fromSystemProperties(){
+        return fromProperties(System.getProperties());
+    }
+
+    /**
+     * @param properties - The properties holding values keyed by {@link #PREFIX} plus the setting name
+     * @return Settings read from the supplied properties, falling back to the defaults for anything absent
+     */
+    public static ClientSettings fromProperties(Properties properties){
+        ClientSettings settings = new ClientSettings();
+        String host = properties.getProperty(PREFIX + "host");
+        if(null != host){
+            settings.setHost(host.trim());
+        }
+        settings.setPort(intProperty(properties, "port", settings.getPort()));
+        String protocol = properties.getProperty(PREFIX + "protocol");
+        if(null != protocol){
+            settings.setProtocol(WireFormat.Protocol.valueOf(protocol.trim().toUpperCase()));
+        }
+        String transport = properties.getProperty(PREFIX + "transport");
+        if(null != transport){
+            settings.setTransport(WireFormat.Transport.valueOf(transport.trim().toUpperCase()));
+        }
+        settings.setMaxConnections(intProperty(properties, "maxConnections", settings.getMaxConnections()));
+        settings.setMaxWait(intProperty(properties, "maxWait", settings.getMaxWait()));
+        settings.setConnectTimeout(intProperty(properties, "connectTimeout", settings.getConnectTimeout()));
+        settings.setCallTimeout(intProperty(properties, "callTimeout", settings.getCallTimeout()));
+        settings.setHealthCheckInterval(intProperty(properties, "healthCheckInterval", settings.getHealthCheckInterval()));
+        settings.setPipelineDepth(intProperty(properties, "pipelineDepth", settings.getPipelineDepth()));
+        return settings;
+    }
+
+    private static int intProperty(Properties properties, String name, int defaultValue){
+        String value = properties.getProperty(PREFIX + name);
+        if(null == value){
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value.trim());
+        if(parsed <= 0){
+            throw new IllegalArgumentException(PREFIX + name + " must be positive but was " + parsed);
+        }
+        return parsed;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * @return The protocol the server expects, see {@link ServerSettings#getProtocol()}
+     */
+    public WireFormat.Protocol getProtocol() {
+        return protocol;
+    }
+
+    public void setProtocol(WireFormat.Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * @return The framing the server expects, the asynchronous client requires {@link WireFormat.Transport#FRAMED}
+     */
+    public WireFormat.Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(WireFormat.Transport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * @return The number of connections open to the server at once, calls beyond it wait for a connection
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * @return The longest a call waits for a connection to become free before failing
+     */
+    public int getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(int maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * @return The longest a call waits on the server, a connection whose call timed out is closed
+     */
+    public int getCallTimeout() {
+        return callTimeout;
+    }
+
+    public void setCallTimeout(int callTimeout) {
+        this.callTimeout = callTimeout;
+    }
+
+    /**
+     * @return The longest a connection may sit idle before it is checked with a call before being reused
+     */
+    public int getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(int healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * @return The number of calls a pipeline sends ahead of the replies it has read.  Fewer are sent ahead when their
+     *         replies might not fit in the socket buffer, see {@link ProtectionClient#pipeline}.
+     */
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    public void setPipelineDepth(int pipelineDepth) {
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSettings{" +
+                "host=" + host +
+                ", port=" + port +
+                ", protocol=" + protocol +
+                ", transport=" + transport +
+                ", maxConnections=" + maxConnections +
+                ", maxWait=" + maxWait +
+                ", connectTimeout=" + connectTimeout +
+                ", callTimeout=" + callTimeout +
+                ", healthCheckInterval=" + healthCheckInterval +
+                ", pipelineDepth=" + pipelineDepth +
+                '}';
+    }
+}
@@ -0,0 +1,244 @@
+import org.apache.thrift.TException;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.LabeledDocument;
+import security.LabeledUser;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+import security.VisibilityMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Merges small concurrent {@code authorize} calls of users with the same accesses into a single batch, so that
+ * the user is compiled and the handler dispatched once for all of them.  The first call of a batch waits up to the
+ * window for others to join it, until the batch holds the maximum number of documents, then evaluates the batch on
+ * its own thread and hands every call its share of the result.  Larger calls, and every other call, go straight to
+ * the handler.  Users are alike when everything but their username is equal, permissions and level bounds alike,
+ * since the whole batch is decided for the user of its first call.
+ * <p>
+ * The handler must return the surviving documents themselves in the order they were supplied, as
+ * {@link ProtectionServiceHandler} does, which is how the result is split back up.
+ */
+public class CoalescingHandler implements ProtectionService.Iface {
+
+    private final ProtectionService.Iface handler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ConcurrentHashMap<User, Batch> open = new ConcurrentHashMap<>();
+
+    /**
+     * @param handler - The handler evaluating the merged batches
+     * @param window - The longest the first call of a batch waits for others to join it
+     * @param unit - The unit of the window
+     * @param maxBatchSize - The most documents merged into one batch, calls of this size or more are never merged
+     */
+    public CoalescingHandler(ProtectionService.Iface handler, long window, TimeUnit unit, int maxBatchSize){
+        if(maxBatchSize < 2){
+            throw new IllegalArgumentException("maxBatchSize must be at least 2 but was " + maxBatchSize);
+        }
+        this.handler = handler;
+        this.windowNanos = unit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> documents) throws TException {
+        if(null == user || !user.isSetPermissions() || null == documents || documents.isEmpty()
+                || documents.size() >= maxBatchSize){
+            return handler.authorize(user, documents);
+        }
+        User accesses = accesses(user);
+        while(true){
+            Batch batch = open.get(accesses);
+            if(null == batch){
+                batch = new Batch(user, documents);
+                if(null == open.putIfAbsent(accesses, batch)){
+                    return batch.lead(accesses);
+                }
+                continue;
+            }
+            int index = batch.join(documents);
+            if(index >= 0){
+                return batch.await(index);
+            }
+            // full or already being evaluated, the next call starts a batch of its own
+            open.remove(accesses, batch);
+        }
+    }
+
+    /**
+     * @return A copy of the user without its username, equal for every user decided alike
+     */
+    private static User accesses(User user){
+        User accesses = user.deepCopy();
+        accesses.unsetUsername();
+        return accesses;
+    }
+
+    public List<VisibilityMask> authorizeMany(List<User> users, List<ProtectedDocument> documents) throws TException {
+        return handler.authorizeMany(users, documents);
+    }
+
+    public VisibilityMask authorizeMask(User user, List<ProtectedDocument> documents) throws TException {
+        return handler.authorizeMask(user, documents);
+    }
+
+    public VisibilityMask authorizeMarkings(User user, List<MarkedDocument> documents) throws TException {
+        return handler.authorizeMarkings(user, documents);
+    }
+
+    public List<EncodedDocument> authorizeEncoded(User user, EncodedBatch batch) throws TException {
+        return handler.authorizeEncoded(user, batch);
+    }
+
+    public List<PackedDocument> authorizePacked(User user, List<PackedDocument> documents) throws TException {
+        return handler.authorizePacked(user, documents);
+    }
+
+    public List<LabeledDocument> authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws TException {
+        return handler.authorizeLabeled(user, documents);
+    }
+
+    /**
+     * The calls merged for one set of accesses.
+     */
+    private class Batch {
+
+        private final User user;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition flush = lock.newCondition();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final List<List<ProtectedDocument>> calls = new ArrayList<>();
+        private int documents;
+        private boolean overflowed;
+        private boolean closed;
+        private List<List<ProtectedDocument>> results;
+        private TException failure;
+        private RuntimeException error;
+
+        Batch(User user, List<ProtectedDocument> documents){
+            this.user = user;
+            this.calls.add(documents);
+            this.documents = documents.size();
+        }
+
+        /**
+         * @return The index of the call's share of the result, -1 when the call does not fit in the batch
+         */
+        int join(List<ProtectedDocument> call){
+            lock.lock();
+            try {
+                if(closed){
+                    return -1;
+                }
+                if(documents + call.size() > maxBatchSize){
+                    overflowed = true;
+                    flush.signal();
+                    return -1;
+                }
+                calls.add(call);
+                documents += call.size();
+                if(documents == maxBatchSize){
+                    flush.signal();
+                }
+                return calls.size() - 1;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits out the window, then evaluates the batch on the calling thread.
+         *
+         * @return The first call's share of the result
+         */
+        List<ProtectedDocument> lead(User accesses) throws TException {
+            lock.lock();
+            try {
+                long remaining = windowNanos;
+                while(remaining > 0 && !overflowed && documents < maxBatchSize){
+                    remaining = flush.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closed = true;
+                lock.unlock();
+            }
+            open.remove(accesses, this);
+            evaluate();
+            return result(0);
+        }
+
+        private void evaluate(){
+            try {
+                List<ProtectedDocument> merged = new ArrayList<>(documents);
+                for(List<ProtectedDocument> call : calls){
+                    merged.addAll(call);
+                }
+                results = split(handler.authorize(user, merged));
+            } catch (TException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                error = e;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        /**
+         * Walks the surviving documents alongside the calls, every survivor is the next document of some call.
+         */
+        private List<List<ProtectedDocument>> split(List<ProtectedDocument> remaining){
+            List<List<ProtectedDocument>> split = new ArrayList<>(calls.size());
+            int next = 0;
+            for(List<ProtectedDocument> call : calls){
+                List<ProtectedDocument> visible = new ArrayList<>(call.size());
+                for(ProtectedDocument document : call){
+                    if(next < remaining.size() && remaining.get(next) == document){
+                        visible.add(document);
+                        next++;
+                    }
+                }
+                split.add(visible);
+            }
+            return split;
+        }
+
+        List<ProtectedDocument> await(int index) throws TException {
+            boolean interrupted = false;
+            while(true){
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // the leader is evaluating the call already, so its result is waited for regardless
+                    interrupted = true;
+                }
+            }
+            if(interrupted){
+                Thread.currentThread().interrupt();
+            }
+            return result(index);
+        }
+
+        private List<ProtectedDocument> result(int index) throws TException {
+            if(null != failure){
+                throw failure;
+            }
+            if(null != error){
+                throw error;
+            }
+            return results.get(index);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+import security.MarkedDocument;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+import security.VisibilityMask;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The markings of a batch of documents compiled once and laid out column by column, one array of masks per
+ * dimension, so that a batch is decided in tight loops over primitive arrays rather than one field at a time through
+ * maps and sets.  Every document is decided in one pass, then every field in another, and the outcome is a
+ * visibility bitset.
+ * <p>
+ * A batch compiled against a {@link MarkingDictionary} also holds the id of every marking, so that it can be
+ * evaluated for any number of users through their {@link DecisionCache}s into {@link security.VisibilityMask}s, its
+ * fields in the order of their keys.  A batch compiled for filtering instead keeps the documents it was compiled from,
+ * their fields in the iteration order of their maps, and {@link #apply(long[])} modifies them in place.
+ */
+public final class CompiledBatch {
+
+    /** The id of missing markings, which are always denied like everywhere else data has no markings */
+    private static final int UNMARKED = -2;
+
+    private final MarkingDictionary dictionary;
+    /** The documents the batch was compiled from, NULL unless compiled for filtering */
+    private final ProtectedDocument[] documents;
+    private final int[] documentIds;
+    private final long[] documentLevels;
+    private final long[] documentGroups;
+    private final long[] documentCompartments;
+    /** Set for the documents whose fields are all visible along with them, see ProtectedDocument#fieldsCovered */
+    private final boolean[] covered;
+    /** The fields of document d are the entries fieldStarts[d] up to fieldStarts[d + 1] */
+    private final int[] fieldStarts;
+    /** The fields the batch was compiled from, NULL unless compiled for filtering */
+    private final ProtectedField[] fields;
+    private final int[] fieldIds;
+    private final long[] fieldLevels;
+    private final long[] fieldGroups;
+    private final long[] fieldCompartments;
+    /** The number of entries without markings, whose decisions are overridden after a policy decided the columns */
+    private int unmarked;
+
+    private CompiledBatch(MarkingDictionary dictionary, int documents, int fields, boolean filtering){
+        this.dictionary = dictionary;
+        this.documents = filtering ? new ProtectedDocument[documents] : null;
+        this.documentIds = new int[documents];
+        this.documentLevels = new long[documents];
+        this.documentGroups = new long[documents];
+        this.documentCompartments = new long[documents];
+        this.covered = new boolean[documents];
+        this.fieldStarts = new int[documents + 1];
+        this.fields = filtering ? new ProtectedField[fields] : null;
+        this.fieldIds = new int[fields];
+        this.fieldLevels = new long[fields];
+        this.fieldGroups = new long[fields];
+        this.fieldCompartments = new long[fields];
+    }
+
+    /**
+     * Compiles a batch to be filtered, see {@link #apply(long[])}.  No dictionary is involved, the batch can only be
+     * evaluated by a {@link Policy}.
+     *
+     * @param documents - The documents to compile, NULL is treated as an empty batch
+     * @return The compiled batch, holding the documents themselves
+     */
+    public static CompiledBatch compile(List<ProtectedDocument> documents){
+        if(null == documents){
+            return new CompiledBatch(null, 0, 0, true);
+        }
+        CompiledBatch batch = new CompiledBatch(null, documents.size(), fieldCount(documents), true);
+        int document = 0;
+        int field = 0;
+        for(ProtectedDocument protectedDocument : documents){
+            batch.documents[document] = protectedDocument;
+            batch.documentIds[document] = batch.compile(protectedDocument.getOverallMarkings(), batch.documentLevels,
+                                                        batch.documentGroups, batch.documentCompartments, document);
+            batch.covered[document] = protectedDocument.isFieldsCovered();
+            batch.fieldStarts[document] = field;
+            Map<ProtectedKey, ProtectedField> documentFields = protectedDocument.getFields();
+            if(null != documentFields){
+                for(ProtectedField protectedField : documentFields.values()){
+                    batch.fields[field] = protectedField;
+                    batch.fieldIds[field] = batch.compile(protectedField.getMarkings(), batch.fieldLevels,
+                                                          batch.fieldGroups, batch.fieldCompartments, field);
+                    field++;
+                }
+            }
+            document++;
+        }
+        batch.fieldStarts[document] = field;
+        return batch;
+    }
+
+    /**
+     * @param documents - The documents to compile, NULL is treated as an empty batch
+     * @param dictionary - The dictionary the markings are interned into
+     * @return The compiled batch, the documents themselves are not kept
+     */
+    public static CompiledBatch compile(List<ProtectedDocument> documents, MarkingDictionary dictionary){
+        if(null == documents){
+            return new CompiledBatch(dictionary, 0, 0, false);
+        }
+        CompiledBatch batch = new CompiledBatch(dictionary, documents.size(), fieldCount(documents), false);
+        int document = 0;
+        int field = 0;
+        for(ProtectedDocument protectedDocument : documents){
+            batch.documentIds[document] = batch.compile(protectedDocument.getOverallMarkings(), batch.documentLevels,
+                                                        batch.documentGroups, batch.documentCompartments, document);
+            batch.covered[document] = protectedDocument.isFieldsCovered();
+            batch.fieldStarts[document] = field;
+            Map<ProtectedKey, ProtectedField> documentFields = protectedDocument.getFields();
+            if(null != documentFields){
+                List<ProtectedKey> keys = new ArrayList<>(documentFields.keySet());
+                Collections.sort(keys);
+                for(ProtectedKey key : keys){
+                    batch.fieldIds[field] = batch.compile(documentFields.get(key).getMarkings(), batch.fieldLevels,
+                                                          batch.fieldGroups, batch.fieldCompartments, field);
+                    field++;
+                }
+            }
+            document++;
+        }
+        batch.fieldStarts[document] = field;
+        return batch;
+    }
+
+    /**
+     * @param documents - The markings of the documents to compile, NULL is treated as an empty batch
+     * @param dictionary - The dictionary the markings are interned into
+     * @return The compiled batch, the documents themselves are not kept
+     */
+    public static CompiledBatch compileMarkings(List<MarkedDocument> documents, MarkingDictionary dictionary){
+        if(null == documents){
+            return new CompiledBatch(dictionary, 0, 0, false);
+        }
+        int fields = 0;
+        for(MarkedDocument document : documents){
+            fields += document.getFieldMarkingsSize();
+        }
+        CompiledBatch batch = new CompiledBatch(dictionary, documents.size(), fields, false);
+        int document = 0;
+        int field = 0;
+        for(MarkedDocument markedDocument : documents){
+            batch.documentIds[document] = batch.compile(markedDocument.getOverallMarkings(), batch.documentLevels,
+                                                        batch.documentGroups, batch.documentCompartments, document);
+            batch.fieldStarts[document] = field;
+            Map<ProtectedKey, SecurityContainer> fieldMarkings = markedDocument.getFieldMarkings();
+            if(null != fieldMarkings){
+                List<ProtectedKey> keys = new ArrayList<>(fieldMarkings.keySet());
+                Collections.sort(keys);
+                for(ProtectedKey key : keys){
+                    batch.fieldIds[field] = batch.compile(fieldMarkings.get(key), batch.fieldLevels,
+                                                          batch.fieldGroups, batch.fieldCompartments, field);
+                    field++;
+                }
+            }
+            document++;
+        }
+        batch.fieldStarts[document] = field;
+        return batch;
+    }
+
+    private static int fieldCount(List<ProtectedDocument> documents){
+        int fields = 0;
+        for(ProtectedDocument document : documents){
+            fields += document.getFieldsSize();
+        }
+        return fields;
+    }
+
+    /**
+     * Compiles the supplied markings into the entry of the supplied columns and interns them when the batch has a
+     * dictionary.
+     *
+     * @return The id of the markings, {@link MarkingDictionary#NOT_INTERNED} when they were not interned or
+     *         {@link #UNMARKED} when there are none
+     */
+    private int compile(SecurityContainer container, long[] levels, long[] groups, long[] compartments, int entry){
+        if(null == container){
+            unmarked++;
+            return UNMARKED;
+        }
+        levels[entry] = MarkingEvaluator.levels(container);
+        groups[entry] = MarkingEvaluator.groups(container);
+        compartments[entry] = MarkingEvaluator.compartments(container);
+        if(null == dictionary){
+            return MarkingDictionary.NOT_INTERNED;
+        }
+        return dictionary.idOf(levels[entry], groups[entry], compartments[entry]);
+    }
+
+    /**
+     * Decides every document and field of the batch.  Bit i of the result is held in word i / 64 at position i % 64,
+     * the bits of the documents come first, in the order of the batch, followed by those of the fields.  The fields
+     * of a document that cannot be seen are never set.
+     *
+     * @param policy - The policy of the user requesting access
+     * @param tally - The tally the decisions are counted in, NULL to count nothing
+     * @return The documents and fields of the batch that the user can see
+     */
+    public long[] evaluate(Policy policy, DecisionTally tally){
+        int[] documentDenials = new int[documentIds.length];
+        int[] fieldDenials = new int[fieldIds.length];
+        policy.denials(documentLevels, documentGroups, documentCompartments, 0, documentIds.length, documentDenials);
+        policy.denials(fieldLevels, fieldGroups, fieldCompartments, 0, fieldIds.length, fieldDenials);
+        if(unmarked > 0){
+            overrideUnmarked(documentIds, documentDenials);
+            overrideUnmarked(fieldIds, fieldDenials);
+        }
+        return visible(documentDenials, fieldDenials, policy.supportsCovering(), tally);
+    }
+
+    private static void overrideUnmarked(int[] ids, int[] denials){
+        for(int i = 0; i < ids.length; i++){
+            if(ids[i] == UNMARKED){
+                denials[i] = DecisionTally.UNMARKED;
+            }
+        }
+    }
+
+    /**
+     * @param decisions - The decisions for the compiled accesses of one user, built on the dictionary of this batch
+     * @return The documents and fields of the batch that the user can see
+     */
+    public VisibilityMask evaluate(DecisionCache decisions){
+        return evaluate(decisions, null);
+    }
+
+    /**
+     * @param decisions - The decisions for the compiled accesses of one user, built on the dictionary of this batch
+     * @param tally - The tally the decisions are counted in, NULL to count nothing
+     * @return The documents and fields of the batch that the user can see
+     */
+    public VisibilityMask evaluate(DecisionCache decisions, DecisionTally tally){
+        int[] documentDenials = new int[documentIds.length];
+        for(int document = 0; document < documentIds.length; document++){
+            documentDenials[document] = denials(decisions, documentIds, documentLevels, documentGroups,
+                                                documentCompartments, document);
+        }
+        int[] fieldDenials = new int[fieldIds.length];
+        for(int field = 0; field < fieldIds.length; field++){
+            fieldDenials[field] = denials(decisions, fieldIds, fieldLevels, fieldGroups, fieldCompartments, field);
+        }
+        long[] visible = visible(documentDenials, fieldDenials, decisions.getClearance().supportsCovering(), tally);
+        // assigned directly as the generated setters copy the buffers
+        VisibilityMask mask = new VisibilityMask();
+        mask.documents = ByteBuffer.wrap(bytes(visible, 0, documentIds.length));
+        mask.fields = ByteBuffer.wrap(bytes(visible, documentIds.length, fieldIds.length));
+        return mask;
+    }
+
+    private static int denials(DecisionCache decisions, int[] ids, long[] levels, long[] groups, long[] compartments,
+                               int entry){
+        int id = ids[entry];
+        if(id == UNMARKED){
+            return DecisionTally.UNMARKED;
+        }
+        if(id == MarkingDictionary.NOT_INTERNED){
+            return decisions.getClearance().denials(levels[entry], groups[entry], compartments[entry]);
+        }
+        return decisions.denials(id);
+    }
+
+    /**
+     * Lays the decisions out as the bitset of {@link #evaluate(Policy, DecisionTally)}.
+     *
+     * @param covering - True when the policy honours covered documents, see {@link Policy#supportsCovering()}
+     */
+    private long[] visible(int[] documentDenials, int[] fieldDenials, boolean covering, DecisionTally tally){
+        int documentCount = documentDenials.length;
+        long[] visible = new long[(documentCount + fieldDenials.length + 63) >>> 6];
+        for(int document = 0; document < documentCount; document++){
+            int denials = documentDenials[document];
+            if(null != tally){
+                tally.document(denials);
+            }
+            if(denials != 0){
+                continue;
+            }
+            visible[document >>> 6] |= 1L << document;
+            int from = fieldStarts[document];
+            int to = fieldStarts[document + 1];
+            if(covering && covered[document]){
+                for(int field = from; field < to; field++){
+                    int bit = documentCount + field;
+                    visible[bit >>> 6] |= 1L << bit;
+                }
+                if(null != tally){
+                    tally.covered(to - from);
+                }
+                continue;
+            }
+            for(int field = from; field < to; field++){
+                if(null != tally){
+                    tally.field(fieldDenials[field]);
+                }
+                int bit = documentCount + field;
+                visible[bit >>> 6] |= (fieldDenials[field] == 0 ? 1L : 0L) << bit;
+            }
+        }
+        return visible;
+    }
+
+    /**
+     * @return The bits from {@code from} up to {@code from + count} of the supplied bitset, eight to a byte
+     */
+    private static byte[] bytes(long[] bits, int from, int count){
+        byte[] bytes = new byte[(count + 7) >>> 3];
+        for(int i = 0; i < count; i++){
+            if(isSet(bits, from + i)){
+                bytes[i >>> 3] |= (byte)(1 << (i & 7));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Nulls out the values of the fields of the visible documents that cannot be seen.
+     *
+     * @param visible - The bitset {@link #evaluate(Policy, DecisionTally)} produced for this batch
+     * @return The documents that can be seen, in the order of the batch
+     * @throws IllegalStateException In the event the batch was not compiled for filtering, see {@link #compile(List)}
+     */
+    public List<ProtectedDocument> apply(long[] visible){
+        if(null == documents){
+            throw new IllegalStateException("The batch does not hold its documents");
+        }
+        int documentCount = documents.length;
+        List<ProtectedDocument> remaining = new ArrayList<>(documentCount);
+        for(int document = 0; document < documentCount; document++){
+            if(!isSet(visible, document)){
+                continue;
+            }
+            remaining.add(documents[document]);
+            for(int field = fieldStarts[document]; field < fieldStarts[document + 1]; field++){
+                if(!isSet(visible, documentCount + field)){
+                    fields[field].setValue(null);
+                }
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * @param bits - A bitset produced by {@link #evaluate(Policy, DecisionTally)}
+     * @param index - The index of a document, or the number of documents plus the index of a field
+     * @return True when the document or field can be seen
+     */
+    public static boolean isSet(long[] bits, int index){
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return The number of documents in the batch
+     */
+    public int getDocumentCount() {
+        return documentIds.length;
+    }
+
+    /**
+     * @return The number of fields across all documents of the batch
+     */
+    public int getFieldCount() {
+        return fieldIds.length;
+    }
+}
@@ -0,0 +1,96 @@
+import security.LabeledSecurityContainer;
+
+import java.util.Arrays;
+
+/**
+ * The labels of a {@link LabeledSecurityContainer} compiled into one {@code long[]} bitset per dimension against a
+ * {@link LabelRegistry}, so that a check costs a pass over a few words however many labels exist rather than a
+ * lookup per label.  Compiled labels never change, may be shared between threads, and are equal when they hold the
+ * same bits.
+ */
+public final class CompiledLabels {
+
+    static final long[] EMPTY = new long[0];
+
+    private final long[] levels;
+    private final long[] groups;
+    private final long[] compartments;
+    /** The {@code *_DENIED} flags of the rules that fail whatever the permissions */
+    private final int denied;
+
+    private CompiledLabels(long[] levels, long[] groups, long[] compartments, int denied){
+        this.levels = levels;
+        this.groups = groups;
+        this.compartments = compartments;
+        this.denied = denied;
+    }
+
+    /**
+     * Compiles the markings of data.  Labels that are not registered can not be held by any user, so markings
+     * carrying one are always denied by the rule of its dimension.
+     *
+     * @param container - The markings of the data, NULL sets are treated as empty
+     * @param registry - The registry assigning the labels their bits
+     * @return The compiled markings
+     */
+    public static CompiledLabels markings(LabeledSecurityContainer container, LabelRegistry registry){
+        int[] unregistered = new int[1];
+        int denied = 0;
+        long[] levels = registry.compile(LabelRegistry.Dimension.LEVEL, container.getLevels(), unregistered);
+        if(unregistered[0] != 0){
+            denied |= MarkingEvaluator.LEVEL_DENIED;
+        }
+        long[] groups = registry.compile(LabelRegistry.Dimension.GROUP, container.getGroups(), unregistered);
+        if(unregistered[0] != 0){
+            denied |= MarkingEvaluator.GROUP_DENIED;
+        }
+        long[] compartments = registry.compile(LabelRegistry.Dimension.COMPARTMENT, container.getCompartments(), unregistered);
+        if(unregistered[0] != 0){
+            denied |= MarkingEvaluator.COMPARTMENT_DENIED;
+        }
+        return new CompiledLabels(levels, groups, compartments, denied);
+    }
+
+    /**
+     * Compiles the permissions of a user, labels that are not registered are left out as no data that can be seen
+     * carries them.
+     *
+     * @param container - The permissions of the user, NULL sets are treated as empty
+     * @param registry - The registry assigning the labels their bits
+     * @return The compiled permissions
+     */
+    public static CompiledLabels permissions(LabeledSecurityContainer container, LabelRegistry registry){
+        int[] unregistered = new int[1];
+        return new CompiledLabels(registry.compile(LabelRegistry.Dimension.LEVEL, container.getLevels(), unregistered),
+                                  registry.compile(LabelRegistry.Dimension.GROUP, container.getGroups(), unregistered),
+                                  registry.compile(LabelRegistry.Dimension.COMPARTMENT, container.getCompartments(), unregistered),
+                                  0);
+    }
+
+    /**
+     * @param permissions - The compiled permissions of the user requesting access
+     * @return The {@code *_DENIED} flags of the rules these markings fail, zero when the data can be seen
+     * @see MarkingEvaluator#denials(long[], long[], long[], long[], long[], long[])
+     */
+    public int denials(CompiledLabels permissions){
+        return denied | MarkingEvaluator.denials(levels, groups, compartments,
+                                                 permissions.levels, permissions.groups, permissions.compartments);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompiledLabels)) return false;
+        CompiledLabels that = (CompiledLabels) o;
+        return denied == that.denied && Arrays.equals(levels, that.levels) && Arrays.equals(groups, that.groups)
+            && Arrays.equals(compartments, that.compartments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(levels);
+        result = 31 * result + Arrays.hashCode(groups);
+        result = 31 * result + Arrays.hashCode(compartments);
+        return 31 * result + denied;
+    }
+}
@@ -0,0 +1,176 @@
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A framed transport whose frames are deflated.  Each frame is written as the length of the compressed payload, the
+ * length of the original payload and the zlib stream, the lengths as big endian ints.  The second length can never
+ * start with a protocol id for frames below 16MB, which is how a {@link NegotiatingServerTransport} tells the two
+ * framings apart.
+ * <p>
+ * Batches repeat the same keys and markings over and over, so even the fastest deflate level shrinks them several
+ * times over at a fraction of the cost of sending them.
+ */
+public class CompressedFramedTransport extends TTransport {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int DEFAULT_MAX_LENGTH = 16384000;
+
+    private final TTransport transport;
+    private final int maxLength;
+    private final Deflater deflater;
+    private final Inflater inflater = new Inflater();
+    private final TByteArrayOutputStream writeBuffer = new TByteArrayOutputStream(1024);
+    private final TMemoryInputTransport readBuffer = new TMemoryInputTransport(new byte[0]);
+    private final byte[] header = new byte[HEADER_SIZE];
+    private byte[] compressed = new byte[1024];
+
+    public CompressedFramedTransport(TTransport transport){
+        this(transport, Deflater.BEST_SPEED, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param transport - The transport the frames are written to and read from
+     * @param level - The deflate level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     * @param maxLength - The largest frame, compressed or not, that is accepted from the peer
+     */
+    public CompressedFramedTransport(TTransport transport, int level, int maxLength){
+        this.transport = transport;
+        this.deflater = new Deflater(level);
+        this.maxLength = maxLength;
+    }
+
+    public boolean isOpen() {
+        return transport.isOpen();
+    }
+
+    public void open() throws TTransportException {
+        transport.open();
+    }
+
+    public void close() {
+        transport.close();
+        deflater.end();
+        inflater.end();
+    }
+
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+        int got = readBuffer.read(buf, off, len);
+        if(got > 0){
+            return got;
+        }
+        readFrame();
+        return readBuffer.read(buf, off, len);
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return readBuffer.getBuffer();
+    }
+
+    @Override
+    public int getBufferPosition() {
+        return readBuffer.getBufferPosition();
+    }
+
+    @Override
+    public int getBytesRemainingInBuffer() {
+        return readBuffer.getBytesRemainingInBuffer();
+    }
+
+    @Override
+    public void consumeBuffer(int len) {
+        readBuffer.consumeBuffer(len);
+    }
+
+    private void readFrame() throws TTransportException {
+        transport.readAll(header, 0, HEADER_SIZE);
+        int compressedLength = decode(header, 0);
+        int length = decode(header, 4);
+        if(compressedLength < 0 || length < 0 || compressedLength > maxLength || length > maxLength){
+            throw new TTransportException("Frame of " + compressedLength + " bytes inflating to " + length
+                    + " bytes exceeds " + maxLength);
+        }
+        if(compressed.length < compressedLength){
+            compressed = new byte[Math.max(compressedLength, compressed.length * 2)];
+        }
+        transport.readAll(compressed, 0, compressedLength);
+        // a new array per frame as protocols hand out slices of the buffer for binary values
+        byte[] frame = new byte[length];
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            int inflated = 0;
+            while(inflated < length && !inflater.finished()){
+                int n = inflater.inflate(frame, inflated, length - inflated);
+                if(n == 0 && (inflater.needsInput() || inflater.needsDictionary())){
+                    break;
+                }
+                inflated += n;
+            }
+            if(inflated != length){
+                throw new TTransportException("Frame inflated to " + inflated + " bytes rather than " + length);
+            }
+        } catch (DataFormatException e) {
+            throw new TTransportException(e);
+        }
+        readBuffer.reset(frame);
+    }
+
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+        writeBuffer.write(buf, off, len);
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+        int length = writeBuffer.len();
+        deflater.reset();
+        deflater.setInput(writeBuffer.get(), 0, length);
+        deflater.finish();
+        int compressedLength = 0;
+        while(!deflater.finished()){
+            if(compressedLength == compressed.length){
+                byte[] grown = new byte[compressed.length * 2];
+                System.arraycopy(compressed, 0, grown, 0, compressedLength);
+                compressed = grown;
+            }
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+        writeBuffer.reset();
+        encode(compressedLength, header, 0);
+        encode(length, header, 4);
+        transport.write(header, 0, HEADER_SIZE);
+        transport.write(compressed, 0, compressedLength);
+        transport.flush();
+    }
+
+    private static void encode(int value, byte[] buf, int offset){
+        buf[offset] = (byte)(value >>> 24);
+        buf[offset + 1] = (byte)(value >>> 16);
+        buf[offset + 2] = (byte)(value >>> 8);
+        buf[offset + 3] = (byte) value;
+    }
+
+    private static int decode(byte[] buf, int offset){
+        return ((buf[offset] & 0xff) << 24) | ((buf[offset + 1] & 0xff) << 16)
+             | ((buf[offset + 2] & 0xff) << 8) | (buf[offset + 3] & 0xff);
+    }
+
+    /**
+     * @see TFramedTransport.Factory
+     */
+    public static class Factory extends TTransportFactory {
+
+        @Override
+        public TTransport getTransport(TTransport base) {
+            return new CompressedFramedTransport(base);
+        }
+    }
+}
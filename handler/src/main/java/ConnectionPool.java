@@ -0,0 +1,262 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.io.Closeable;
+import java.net.SocketException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of connections to the server.  Idle connections are reused most recently used first, so that
+ * connections beyond what the load needs go idle long enough to be checked, and a connection that has been idle for
+ * longer than {@link ClientSettings#getHealthCheckInterval()} is checked with an empty call before it is handed out.
+ */
+public class ConnectionPool implements Closeable {
+
+    /** The user of a health check, it is authorized against nothing */
+    private static final User PROBE = new User(new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                                     EnumSet.noneOf(Compartment.class)));
+
+    private final ClientSettings settings;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed;
+
+    /**
+     * @param settings - The server to connect to and the bounds of the pool
+     */
+    public ConnectionPool(ClientSettings settings){
+        this.settings = settings;
+        this.permits = new Semaphore(settings.getMaxConnections(), true);
+    }
+
+    /**
+     * Hands out an idle connection, or opens one while the pool is below its bound.
+     *
+     * @return A connection to be handed back to {@link #release(Connection, boolean)}
+     * @throws TTransportException In the event no connection became free within {@link ClientSettings#getMaxWait()} or
+     *         a new connection could not be opened
+     */
+    public Connection borrow() throws TTransportException {
+        if(closed){
+            throw new TTransportException(TTransportException.NOT_OPEN, "The connection pool is closed");
+        }
+        try {
+            if(!permits.tryAcquire(settings.getMaxWait(), TimeUnit.MILLISECONDS)){
+                throw new TTransportException(TTransportException.TIMED_OUT,
+                        "No connection to " + settings.getHost() + ":" + settings.getPort() + " became free within "
+                                + settings.getMaxWait() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTransportException(TTransportException.TIMED_OUT, e);
+        }
+        try {
+            Connection connection;
+            while(null != (connection = idle.pollFirst())){
+                if(connection.isHealthy()){
+                    return connection;
+                }
+                connection.close();
+            }
+            return open();
+        } catch (TTransportException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @param connection - A connection obtained from {@link #borrow()}
+     * @param reusable - False when the connection failed or may be out of step with the server, it is then closed
+     */
+    public void release(Connection connection, boolean reusable){
+        if(reusable && !closed){
+            connection.lastUsed = System.nanoTime();
+            idle.offerFirst(connection);
+            if(closed && idle.remove(connection)){
+                connection.close();
+            }
+        } else {
+            connection.close();
+        }
+        permits.release();
+    }
+
+    private Connection open() throws TTransportException {
+        TSocket socket = new TSocket(settings.getHost(), settings.getPort(), settings.getConnectTimeout());
+        socket.open();
+        CountingTransport counted = new CountingTransport(socket);
+        return new Connection(socket, new PipelinedClient(WireFormat.client(counted, settings.getProtocol(),
+                                                                            settings.getTransport()), counted));
+    }
+
+    /**
+     * @return The number of connections open and waiting to be borrowed
+     */
+    public int getIdle(){
+        return idle.size();
+    }
+
+    /**
+     * Closes the idle connections, connections still borrowed are closed as they are released.
+     */
+    public void close(){
+        closed = true;
+        Connection connection;
+        while(null != (connection = idle.pollFirst())){
+            connection.close();
+        }
+    }
+
+    /**
+     * A connection and the client calling over it, only ever used by the thread that borrowed it.
+     */
+    public class Connection {
+
+        private final TSocket socket;
+        private final PipelinedClient client;
+        private long lastUsed = System.nanoTime();
+
+        Connection(TSocket socket, PipelinedClient client){
+            this.socket = socket;
+            this.client = client;
+        }
+
+        public PipelinedClient client(){
+            return client;
+        }
+
+        /**
+         * @param timeout - The longest the next calls wait on the server, in milliseconds
+         */
+        public void setTimeout(int timeout){
+            socket.setTimeout(timeout);
+        }
+
+        /**
+         * @return The size of the receive buffer of the socket, the replies the server can write while none are read
+         */
+        public int getReceiveBufferSize(){
+            try {
+                return socket.getSocket().getReceiveBufferSize();
+            } catch (SocketException e) {
+                return 0;
+            }
+        }
+
+        boolean isHealthy(){
+            if(!socket.isOpen()){
+                return false;
+            }
+            if(System.nanoTime() - lastUsed < TimeUnit.MILLISECONDS.toNanos(settings.getHealthCheckInterval())){
+                return true;
+            }
+            try {
+                setTimeout(settings.getCallTimeout());
+                client.authorizeMask(PROBE, Collections.<ProtectedDocument>emptyList());
+                return true;
+            } catch (TException e) {
+                return false;
+            }
+        }
+
+        void close(){
+            client.getInputProtocol().getTransport().close();
+        }
+    }
+
+    /**
+     * A client whose replies can be read after further calls have been sent, see {@link ProtectionClient#pipeline}.
+     */
+    public static class PipelinedClient extends ProtectionService.Client {
+
+        private final CountingTransport counted;
+
+        PipelinedClient(TProtocol protocol, CountingTransport counted){
+            super(protocol);
+            this.counted = counted;
+        }
+
+        /**
+         * @return The number of bytes written to the connection so far
+         */
+        public long written(){
+            return counted.written;
+        }
+
+        /**
+         * @return The sequence id of the last call sent
+         */
+        public int sent(){
+            return seqid_;
+        }
+
+        /**
+         * @param seqid - The sequence id of the call whose reply is next on the connection
+         * @return The documents of the reply
+         */
+        public List<ProtectedDocument> recv_authorize(int seqid) throws TException {
+            int sent = seqid_;
+            seqid_ = seqid;
+            try {
+                return recv_authorize();
+            } finally {
+                seqid_ = sent;
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written to the connection, below any framing, so that they are the bytes on the wire.
+     */
+    private static class CountingTransport extends TTransport {
+
+        private final TTransport transport;
+        private long written;
+
+        CountingTransport(TTransport transport){
+            this.transport = transport;
+        }
+
+        public boolean isOpen() {
+            return transport.isOpen();
+        }
+
+        public void open() throws TTransportException {
+            transport.open();
+        }
+
+        public void close() {
+            transport.close();
+        }
+
+        public int read(byte[] buf, int off, int len) throws TTransportException {
+            return transport.read(buf, off, len);
+        }
+
+        public void write(byte[] buf, int off, int len) throws TTransportException {
+            transport.write(buf, off, len);
+            written += len;
+        }
+
+        @Override
+        public void flush() throws TTransportException {
+            transport.flush();
+        }
+    }
+}
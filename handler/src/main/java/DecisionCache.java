@@ -0,0 +1,63 @@
+/**
+ * Remembers the decisions made for one clearance, keyed by the ids of a {@link MarkingDictionary}, so that
+ * markings repeated across a batch are evaluated once and then cost a single array lookup.  Callers hand in ids
+ * they already hold, such as those of a {@link CompiledBatch}, markings are never compiled again to be looked up.
+ * <p>
+ * A cache may be shared by the threads filtering one request: decisions are deterministic, so a racing thread at
+ * worst evaluates the same markings again.
+ */
+public final class DecisionCache {
+
+    /**
+     * Decisions hold the denials of the markings plus one, so that zero marks markings not yet evaluated.  A policy
+     * may report denials as any int, the addition wraps around and is undone exactly on the way out, and a policy
+     * reporting -1 merely has its markings decided again every time.
+     */
+    private static final int UNKNOWN = 0;
+
+    private final Policy clearance;
+    private final MarkingDictionary dictionary;
+    private final int[] decisions;
+
+    /**
+     * Creates a cache sized to the markings interned so far, ids handed out afterwards are decided without being
+     * remembered.  Create it once the batch it decides has been compiled.
+     *
+     * @param clearance - The compiled accesses decisions are made for
+     * @param dictionary - The dictionary assigning ids to markings
+     */
+    public DecisionCache(Policy clearance, MarkingDictionary dictionary){
+        this.clearance = clearance;
+        this.dictionary = dictionary;
+        this.decisions = new int[dictionary.size()];
+    }
+
+    /**
+     * @param id - An id handed out by the dictionary of this cache
+     * @return True when data carrying the markings of the supplied id can be seen, False otherwise
+     */
+    public boolean permits(int id){
+        return denials(id) == 0;
+    }
+
+    /**
+     * @param id - An id handed out by the dictionary of this cache
+     * @return The rules denying data carrying the markings of the supplied id, zero when it can be seen
+     */
+    public int denials(int id){
+        if(id >= decisions.length){
+            return clearance.denials(dictionary.levels(id), dictionary.groups(id), dictionary.compartments(id));
+        }
+        int decision = decisions[id];
+        if(decision == UNKNOWN){
+            int denials = clearance.denials(dictionary.levels(id), dictionary.groups(id), dictionary.compartments(id));
+            decisions[id] = denials + 1;
+            return denials;
+        }
+        return decision - 1;
+    }
+
+    public Policy getClearance() {
+        return clearance;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Plain counters of the decisions made by one thread while it works through (part of) a batch.  A tally is only
+ * ever touched by its own thread, so counting costs a few increments, and it is handed to
+ * {@link AuthorizationMetrics#flush(DecisionTally)} once the thread is done with its documents.
+ */
+public final class DecisionTally {
+
+    /** Denied because the data carried no markings at all */
+    public static final int UNMARKED = 1 << 3;
+
+    long documents;
+    long documentsDenied;
+    long fields;
+    long fieldsDenied;
+    long levelDenials;
+    long groupDenials;
+    long compartmentDenials;
+
+    /** The evaluation time of the request being served by this thread, -1 when nothing was evaluated */
+    long evaluationNanos = -1L;
+
+    /**
+     * @param denials - The dimensions that denied the document, see {@link MarkingEvaluator#denials}
+     */
+    public void document(int denials){
+        documents++;
+        if(denials != 0){
+            documentsDenied++;
+            dimensions(denials);
+        }
+    }
+
+    /**
+     * @param denials - The dimensions that denied the field, see {@link MarkingEvaluator#denials}
+     */
+    public void field(int denials){
+        fields++;
+        if(denials != 0){
+            fieldsDenied++;
+            dimensions(denials);
+        }
+    }
+
+    /**
+     * @param fields - The number of fields permitted along with their document without being evaluated, see
+     *               {@link security.ProtectedDocument#fieldsCovered}
+     */
+    public void covered(int fields){
+        this.fields += fields;
+    }
+
+    private void dimensions(int denials){
+        if((denials & MarkingEvaluator.LEVEL_DENIED) != 0){
+            levelDenials++;
+        }
+        if((denials & MarkingEvaluator.GROUP_DENIED) != 0){
+            groupDenials++;
+        }
+        if((denials & MarkingEvaluator.COMPARTMENT_DENIED) != 0){
+            compartmentDenials++;
+        }
+    }
+
+    void reset(){
+        documents = 0L;
+        documentsDenied = 0L;
+        fields = 0L;
+        fieldsDenied = 0L;
+        levelDenials = 0L;
+        groupDenials = 0L;
+        compartmentDenials = 0L;
+    }
+}
@@ -0,0 +1,52 @@
+import security.ProtectedDocument;
+import security.ProtectedField;
+
+import java.util.List;
+
+/**
+ * Works out the {@code fieldsCovered} summary of documents, for producers to set before sending documents to be
+ * authorized.  A document is covered when none of its fields is marked more restrictively than the document itself,
+ * which is how most data is marked, and the server then decides the whole document with a single evaluation.
+ * <p>
+ * The server trusts the summary as it trusts the markings, a wrong summary exposes fields just as wrong markings do.
+ */
+public final class DocumentSummary {
+
+    private DocumentSummary(){
+    }
+
+    /**
+     * @param document - The document to summarize, its {@code fieldsCovered} summary is set
+     * @return True when every field of the document is visible to whoever can see the document
+     */
+    public static boolean summarize(ProtectedDocument document){
+        boolean covered = covers(document);
+        document.setFieldsCovered(covered);
+        return covered;
+    }
+
+    /**
+     * @param documents - The documents to summarize, see {@link #summarize(ProtectedDocument)}
+     */
+    public static void summarize(List<ProtectedDocument> documents){
+        for(ProtectedDocument document : documents){
+            summarize(document);
+        }
+    }
+
+    /**
+     * @param document - The document to examine, it is not modified
+     * @return True when every field of the document is visible to whoever can see the document
+     */
+    public static boolean covers(ProtectedDocument document){
+        if(null == document.getFields()){
+            return true;
+        }
+        for(ProtectedField field : document.getFields().values()){
+            if(!MarkingEvaluator.covers(document.getOverallMarkings(), field.getMarkings())){
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+import security.Group;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The tree of groups, in which a user holding a group also holds every group below it, so that a user in a parent
+ * group sees data marked with its child groups.  Every group's transitive closure is precomputed as a bitmask when
+ * the hierarchy is built, and a user's groups are closed once when its {@link Clearance} is compiled, so the group
+ * rule stays a single mask overlap per field however deep the tree.
+ * <p>
+ * A hierarchy never changes once built, reloading it swaps in a new one, see {@link AuthorizationServer#watch}.
+ */
+public final class GroupHierarchy {
+
+    /** The hierarchy in which no group holds another, every group only matches itself */
+    public static final GroupHierarchy FLAT = new GroupHierarchy(new long[64]);
+
+    private static final Group[] GROUPS = Group.values();
+
+    /** The groups held by the holder of group n, itself included, at index n */
+    private final long[] closures;
+
+    private GroupHierarchy(long[] children){
+        long[] closures = new long[children.length];
+        for(int i = 0; i < closures.length; i++){
+            closures[i] = (1L << i) | children[i];
+        }
+        // every pass extends each closure by one more level of the tree, cycles simply make their groups equivalent
+        boolean changed = true;
+        while(changed){
+            changed = false;
+            for(int i = 0; i < closures.length; i++){
+                long closure = close(closures, closures[i]);
+                if(closure != closures[i]){
+                    closures[i] = closure;
+                    changed = true;
+                }
+            }
+        }
+        this.closures = closures;
+    }
+
+    /**
+     * Builds a hierarchy from properties naming a parent group and, as the value, its comma separated child groups,
+     * e.g. {@code HR=IT}.
+     *
+     * @param properties - The children of every parent group
+     * @return The hierarchy
+     * @throws IllegalArgumentException In the event a name is not a group
+     */
+    public static GroupHierarchy parse(Properties properties){
+        long[] children = new long[64];
+        for(Map.Entry<Object, Object> entry : properties.entrySet()){
+            int parent = Group.valueOf(entry.getKey().toString().trim()).getValue();
+            for(String child : entry.getValue().toString().split(",")){
+                if(!child.trim().isEmpty()){
+                    children[parent] |= 1L << Group.valueOf(child.trim()).getValue();
+                }
+            }
+        }
+        return new GroupHierarchy(children);
+    }
+
+    /**
+     * @param file - A properties file in the format of {@link #parse(Properties)}
+     * @return The hierarchy held by the file
+     * @throws IOException In the event the file can not be read
+     * @throws IllegalArgumentException In the event a name is not a group
+     */
+    public static GroupHierarchy load(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+        return parse(properties);
+    }
+
+    /**
+     * @param groups - A compiled groups mask
+     * @return The supplied groups along with every group below them
+     */
+    public long close(long groups){
+        return close(closures, groups);
+    }
+
+    private static long close(long[] closures, long groups){
+        long closed = groups;
+        for(long bits = groups; bits != 0; bits &= bits - 1){
+            closed |= closures[Long.numberOfTrailingZeros(bits)];
+        }
+        return closed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("GroupHierarchy{");
+        String separator = "";
+        for(Group group : GROUPS){
+            long below = closures[group.getValue()] & ~(1L << group.getValue());
+            if(below != 0){
+                builder.append(separator).append(group).append("=[");
+                String childSeparator = "";
+                for(Group child : GROUPS){
+                    if((below & (1L << child.getValue())) != 0){
+                        builder.append(childSeparator).append(child);
+                        childSeparator = ", ";
+                    }
+                }
+                builder.append(']');
+                separator = ", ";
+            }
+        }
+        return builder.append('}').toString();
+    }
+}
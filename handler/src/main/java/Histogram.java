@@ -0,0 +1,95 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size histogram of non negative longs in the style of HdrHistogram: every power of two is split into
+ * {@code 16} linear buckets, so any recorded value is reported within 1/16th (about 6%) of its magnitude while the
+ * whole range of a long fits in under a thousand counters.  Recording takes two atomic adds and never allocates.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param value - The value to record, negative values are recorded as zero
+     */
+    public void record(long value){
+        if(value < 0){
+            value = 0;
+        }
+        counts.getAndIncrement(bucket(value));
+        sum.add(value);
+        long current = max.get();
+        while(value > current && !max.compareAndSet(current, value)){
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return The number of values recorded
+     */
+    public long getCount(){
+        long count = 0L;
+        for(int i = 0; i < BUCKETS; i++){
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getMax(){
+        return max.get();
+    }
+
+    /**
+     * @return The mean of the recorded values, zero when nothing has been recorded
+     */
+    public double getMean(){
+        long count = getCount();
+        return count == 0 ? 0.0 : sum.sum() / (double) count;
+    }
+
+    /**
+     * @param percentile - The percentile, between 0 and 100
+     * @return The largest value equivalent to the one at the supplied percentile, zero when nothing has been
+     *         recorded
+     */
+    public long getValueAtPercentile(double percentile){
+        long count = getCount();
+        if(count == 0){
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0L;
+        for(int i = 0; i < BUCKETS; i++){
+            seen += counts.get(i);
+            if(seen >= target){
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucket(long value){
+        if(value < SUB_BUCKETS){
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int)((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long highestEquivalentValue(int bucket){
+        if(bucket < SUB_BUCKETS){
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long lowest = (long)(SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,69 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.scheme.IScheme;
+
+/**
+ * Times every request passing through the wrapped processor, from reading the header of the call to writing its
+ * reply.  The blocking engines call a processor before the next call has arrived, so the clock only starts once the
+ * header has been read, the time spent waiting for the client is never counted.
+ *
+ * @see AuthorizationMetrics#recordRequest(long)
+ */
+public class InstrumentedProcessor implements TProcessor {
+
+    private final TProcessor delegate;
+    private final AuthorizationMetrics metrics;
+
+    public InstrumentedProcessor(TProcessor delegate, AuthorizationMetrics metrics){
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public boolean process(TProtocol in, TProtocol out) throws TException {
+        TimedProtocol timed = new TimedProtocol(in);
+        try {
+            return delegate.process(timed, out);
+        } finally {
+            if(timed.started){
+                metrics.recordRequest(System.nanoTime() - timed.start);
+            }
+        }
+    }
+
+    /**
+     * Starts the request once the header of its call has been read.
+     */
+    private class TimedProtocol extends TProtocolDecorator {
+
+        private final TProtocol protocol;
+        private boolean started;
+        private long start;
+
+        TimedProtocol(TProtocol protocol){
+            super(protocol);
+            this.protocol = protocol;
+        }
+
+        /**
+         * The generated code picks the scheme of the structs it reads by this, the tuple protocol has one of its own.
+         */
+        @Override
+        public Class<? extends IScheme> getScheme() {
+            return protocol.getScheme();
+        }
+
+        @Override
+        public TMessage readMessageBegin() throws TException {
+            TMessage message = super.readMessageBegin();
+            if(!started){
+                started = true;
+                metrics.startRequest();
+                start = System.nanoTime();
+            }
+            return message;
+        }
+    }
+}
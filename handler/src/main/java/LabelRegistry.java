@@ -0,0 +1,203 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns the labels of {@link security.LabeledSecurityContainer}s small dense ids, one id space per dimension, so
+ * that labeled markings compile into {@code long[]} bitsets holding bit n for the label of id n.  New labels need
+ * neither an IDL change nor a restart, but only the server registers them: from the file named by
+ * {@link ServerSettings#getLabels()}, see {@link #parse}, or through {@link #register}.  Requests never register
+ * anything, data carrying a label that is not registered is denied and users holding one simply do not hold it.
+ * Lookups are lock free, ids are only assigned under a lock, and once a dimension holds {@code capacity} labels
+ * further labels are reported as {@link #NOT_REGISTERED}.
+ *
+ * @see CompiledLabels
+ */
+public final class LabelRegistry {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The id reported for labels that did not fit in their dimension */
+    public static final int NOT_REGISTERED = -1;
+
+    public enum Dimension {
+        LEVEL,
+        GROUP,
+        COMPARTMENT
+    }
+
+    private final int capacity;
+    private final Space[] spaces = new Space[Dimension.values().length];
+
+    public LabelRegistry(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity - The number of distinct labels registered per dimension
+     */
+    public LabelRegistry(int capacity){
+        if(capacity < 1){
+            throw new IllegalArgumentException("capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        for(int i = 0; i < spaces.length; i++){
+            spaces[i] = new Space();
+        }
+    }
+
+    /**
+     * Builds a registry from properties naming a dimension and, as the value, its comma separated labels, e.g.
+     * {@code GROUP=payroll,audit}.
+     *
+     * @param capacity - The number of distinct labels registered per dimension
+     * @param properties - The labels of every dimension
+     * @return The registry holding the labels
+     * @throws IllegalArgumentException In the event a name is not a dimension or a dimension holds more labels than
+     *                                  the capacity
+     */
+    public static LabelRegistry parse(int capacity, Properties properties){
+        LabelRegistry registry = new LabelRegistry(capacity);
+        for(Map.Entry<Object, Object> entry : properties.entrySet()){
+            Dimension dimension = Dimension.valueOf(entry.getKey().toString().trim().toUpperCase());
+            for(String label : entry.getValue().toString().split(",")){
+                if(!label.trim().isEmpty() && registry.register(dimension, label.trim()) == NOT_REGISTERED){
+                    throw new IllegalArgumentException("More than " + capacity + " " + dimension + " labels");
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * @param capacity - The number of distinct labels registered per dimension
+     * @param file - A properties file in the format of {@link #parse(int, Properties)}
+     * @return The registry holding the labels of the file
+     * @throws IOException In the event the file can not be read
+     * @throws IllegalArgumentException In the event a name is not a dimension or a dimension holds more labels than
+     *                                  the capacity
+     */
+    public static LabelRegistry load(int capacity, File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+        return parse(capacity, properties);
+    }
+
+    /**
+     * Registers a label on behalf of the server, never call it with labels taken from a request.
+     *
+     * @param dimension - The dimension the label belongs to
+     * @param label - The name of the label
+     * @return The id of the label, assigning the next free id if it was not registered yet, or
+     *         {@link #NOT_REGISTERED} if the dimension is full
+     */
+    public int register(Dimension dimension, String label){
+        Space space = spaces[dimension.ordinal()];
+        Integer id = space.ids.get(label);
+        if(null != id){
+            return id;
+        }
+        synchronized (space) {
+            id = space.ids.get(label);
+            if(null != id){
+                return id;
+            }
+            if(space.size == capacity){
+                return NOT_REGISTERED;
+            }
+            String[] names = space.names;
+            if(space.size == names.length){
+                String[] grown = new String[Math.min(capacity, names.length * 2)];
+                System.arraycopy(names, 0, grown, 0, names.length);
+                names = grown;
+            }
+            names[space.size] = label;
+            space.names = names;
+            id = space.size;
+            // published after the name so that a lookup finding the id also finds the name
+            space.ids.put(label, id);
+            space.size++;
+            return id;
+        }
+    }
+
+    /**
+     * @return The id of the label, or {@link #NOT_REGISTERED} if it was never registered
+     */
+    public int idOf(Dimension dimension, String label){
+        Integer id = spaces[dimension.ordinal()].ids.get(label);
+        return null == id ? NOT_REGISTERED : id;
+    }
+
+    /**
+     * @param id - An id handed out for the dimension
+     * @return The name of the label holding the id
+     */
+    public String nameOf(Dimension dimension, int id){
+        Space space = spaces[dimension.ordinal()];
+        synchronized (space) {
+            if(id < 0 || id >= space.size){
+                throw new IllegalArgumentException("No " + dimension + " label has the id " + id);
+            }
+            return space.names[id];
+        }
+    }
+
+    /**
+     * @return The number of labels registered for the dimension
+     */
+    public int size(Dimension dimension){
+        return spaces[dimension.ordinal()].ids.size();
+    }
+
+    public int capacity(){
+        return capacity;
+    }
+
+    /**
+     * Sets the bits of the supplied labels, see {@link CompiledLabels}.  Nothing is registered.
+     *
+     * @param dimension - The dimension of the labels
+     * @param labels - The labels to compile, a NULL set is treated as empty
+     * @param unregistered - Receives at index 0 the number of labels that are not registered
+     * @return The bitset of the labels, holding just enough words for the highest id set
+     */
+    long[] compile(Dimension dimension, Set<String> labels, int[] unregistered){
+        unregistered[0] = 0;
+        if(null == labels || labels.isEmpty()){
+            return CompiledLabels.EMPTY;
+        }
+        long[] bits = CompiledLabels.EMPTY;
+        for(String label : labels){
+            int id = idOf(dimension, label);
+            if(id == NOT_REGISTERED){
+                unregistered[0]++;
+                continue;
+            }
+            int word = id >>> 6;
+            if(word >= bits.length){
+                long[] grown = new long[word + 1];
+                System.arraycopy(bits, 0, grown, 0, bits.length);
+                bits = grown;
+            }
+            bits[word] |= 1L << id;
+        }
+        return bits;
+    }
+
+    /**
+     * The labels of one dimension.
+     */
+    private static final class Space {
+        private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+        private String[] names = new String[64];
+        private int size;
+    }
+}
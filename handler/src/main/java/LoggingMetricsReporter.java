@@ -0,0 +1,24 @@
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a one line summary of the metrics to the log.
+ */
+public class LoggingMetricsReporter implements MetricsReporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+
+    public void report(AuthorizationMetrics metrics) {
+        LOG.info("requests={} batches={} documents={}/{} fieldsNulled={}/{} denyRatio[level={} group={} compartment={}]"
+                 + " authorizeNanos[p50={} p99={} max={}] requestNanos[p50={} p99={} max={}]"
+                 + " serializationNanos[p50={} p99={}] batchSize[p50={} p99={} max={}]",
+                 metrics.getRequests(), metrics.getBatches(),
+                 metrics.getDocumentsOut(), metrics.getDocumentsIn(),
+                 metrics.getFieldsNulled(), metrics.getFieldsEvaluated(),
+                 metrics.getLevelDenyRatio(), metrics.getGroupDenyRatio(), metrics.getCompartmentDenyRatio(),
+                 metrics.getAuthorizeLatencyMedian(), metrics.getAuthorizeLatency99th(), metrics.getAuthorizeLatencyMax(),
+                 metrics.getRequestLatencyMedian(), metrics.getRequestLatency99th(), metrics.getRequestLatencyMax(),
+                 metrics.getSerializationLatencyMedian(), metrics.getSerializationLatency99th(),
+                 metrics.getBatchSizeMedian(), metrics.getBatchSize99th(), metrics.getBatchSizeMax());
+    }
+}
@@ -0,0 +1,155 @@
+import security.SecurityContainer;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Interns distinct markings, assigning each a small dense id.  Lookups are lock free, ids are only assigned under a
+ * lock, and once the dictionary holds {@code capacity} markings further unseen markings are reported as
+ * {@link #NOT_INTERNED} rather than evicting anything.
+ *
+ * @see DecisionCache
+ */
+public final class MarkingDictionary {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The largest capacity whose table, four slots per marking of three keys each, still fits in an array */
+    public static final int MAX_CAPACITY = 1 << 27;
+
+    /** The id reported for markings that did not fit in the dictionary */
+    public static final int NOT_INTERNED = -1;
+
+    private static final int EMPTY = -1;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] slotKeys;
+    private final AtomicIntegerArray slotIds;
+    private final long[] levels;
+    private final long[] groups;
+    private final long[] compartments;
+    private volatile int size;
+
+    public MarkingDictionary(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity - The number of distinct markings that will be interned, at most {@link #MAX_CAPACITY}
+     */
+    public MarkingDictionary(int capacity){
+        if(capacity < 1){
+            throw new IllegalArgumentException("capacity must be positive but was " + capacity);
+        }
+        if(capacity > MAX_CAPACITY){
+            throw new IllegalArgumentException("capacity must be at most " + MAX_CAPACITY + " but was " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity) << 2;
+        this.capacity = capacity;
+        this.mask = slots - 1;
+        this.slotKeys = new long[slots * 3];
+        this.slotIds = new AtomicIntegerArray(slots);
+        for(int i = 0; i < slots; i++){
+            slotIds.set(i, EMPTY);
+        }
+        this.levels = new long[capacity];
+        this.groups = new long[capacity];
+        this.compartments = new long[capacity];
+    }
+
+    /**
+     * @param container - The markings to intern
+     * @return The id of the supplied markings or {@link #NOT_INTERNED} if the dictionary is full
+     */
+    public int intern(SecurityContainer container){
+        return idOf(MarkingEvaluator.levels(container),
+                    MarkingEvaluator.groups(container),
+                    MarkingEvaluator.compartments(container));
+    }
+
+    /**
+     * @return The id of the supplied compiled markings or {@link #NOT_INTERNED} if the dictionary is full
+     */
+    public int idOf(long levels, long groups, long compartments){
+        int id = find(levels, groups, compartments);
+        if(id != EMPTY){
+            return id;
+        }
+        return insert(levels, groups, compartments);
+    }
+
+    private int find(long levels, long groups, long compartments){
+        int slot = hash(levels, groups, compartments) & mask;
+        while(true){
+            int id = slotIds.get(slot);
+            if(id == EMPTY){
+                return EMPTY;
+            }
+            int key = slot * 3;
+            if(slotKeys[key] == levels && slotKeys[key + 1] == groups && slotKeys[key + 2] == compartments){
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private synchronized int insert(long levels, long groups, long compartments){
+        int slot = hash(levels, groups, compartments) & mask;
+        while(true){
+            int id = slotIds.get(slot);
+            if(id == EMPTY){
+                break;
+            }
+            int key = slot * 3;
+            if(slotKeys[key] == levels && slotKeys[key + 1] == groups && slotKeys[key + 2] == compartments){
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int id = size;
+        if(id == capacity){
+            return NOT_INTERNED;
+        }
+        int key = slot * 3;
+        slotKeys[key] = levels;
+        slotKeys[key + 1] = groups;
+        slotKeys[key + 2] = compartments;
+        this.levels[id] = levels;
+        this.groups[id] = groups;
+        this.compartments[id] = compartments;
+        // the volatile writes publish everything above to readers that observe the id
+        slotIds.set(slot, id);
+        size = id + 1;
+        return id;
+    }
+
+    public long levels(int id){
+        return levels[id];
+    }
+
+    public long groups(int id){
+        return groups[id];
+    }
+
+    public long compartments(int id){
+        return compartments[id];
+    }
+
+    /**
+     * @return The number of distinct markings interned so far
+     */
+    public int size(){
+        return size;
+    }
+
+    public int capacity(){
+        return capacity;
+    }
+
+    private static int hash(long levels, long groups, long compartments){
+        long hash = levels * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ groups) * 0xC2B2AE3D27D4EB4FL;
+        hash = (hash ^ compartments) * 0x165667B19E3779F9L;
+        return (int)(hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,96 @@
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.EncodedField;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts documents to and from the dictionary encoding of {@link security.ProtectionService.Iface#authorizeEncoded}, so
+ * that callers holding {@link ProtectedDocument}s can send each distinct marking of a batch once.
+ */
+public final class MarkingEncoder {
+
+    /** The index of missing markings, it lies outside every dictionary so the data is never seen */
+    public static final int UNMARKED = -1;
+
+    private MarkingEncoder(){
+    }
+
+    /**
+     * @param documents - The documents to encode, they are not modified
+     * @return A batch holding every distinct marking of the documents once, in the order they were first met
+     */
+    public static EncodedBatch encode(List<ProtectedDocument> documents){
+        Map<SecurityContainer, Integer> indexes = new HashMap<>();
+        List<SecurityContainer> markings = new ArrayList<>();
+        List<EncodedDocument> encoded = new ArrayList<>(documents.size());
+        for(ProtectedDocument document : documents){
+            EncodedDocument encodedDocument = new EncodedDocument();
+            encodedDocument.setOverallMarkings(index(document.getOverallMarkings(), indexes, markings));
+            if(document.isSetFieldsCovered()){
+                encodedDocument.setFieldsCovered(document.isFieldsCovered());
+            }
+            if(null != document.getFields()){
+                Map<ProtectedKey, EncodedField> fields = new HashMap<>();
+                for(Map.Entry<ProtectedKey, ProtectedField> entry : document.getFields().entrySet()){
+                    ProtectedField field = entry.getValue();
+                    fields.put(entry.getKey(), new EncodedField(field.getValue()).setMarkings(index(field.getMarkings(), indexes, markings)));
+                }
+                encodedDocument.setFields(fields);
+            }
+            encoded.add(encodedDocument);
+        }
+        return new EncodedBatch(markings, encoded);
+    }
+
+    private static int index(SecurityContainer container, Map<SecurityContainer, Integer> indexes,
+                             List<SecurityContainer> markings){
+        if(null == container){
+            return UNMARKED;
+        }
+        Integer index = indexes.get(container);
+        if(null == index){
+            index = markings.size();
+            indexes.put(container, index);
+            markings.add(container);
+        }
+        return index;
+    }
+
+    /**
+     * @param markings - The dictionary of the batch the documents were sent in
+     * @param documents - The documents to decode, e.g. those returned by {@code authorizeEncoded}
+     * @return The documents carrying their markings again, an index outside the dictionary decodes to NULL markings
+     */
+    public static List<ProtectedDocument> decode(List<SecurityContainer> markings, List<EncodedDocument> documents){
+        List<ProtectedDocument> decoded = new ArrayList<>(documents.size());
+        for(EncodedDocument document : documents){
+            ProtectedDocument decodedDocument = new ProtectedDocument();
+            decodedDocument.setOverallMarkings(markings(markings, document.getOverallMarkings()));
+            if(document.isSetFieldsCovered()){
+                decodedDocument.setFieldsCovered(document.isFieldsCovered());
+            }
+            if(null != document.getFields()){
+                Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+                for(Map.Entry<ProtectedKey, EncodedField> entry : document.getFields().entrySet()){
+                    EncodedField field = entry.getValue();
+                    fields.put(entry.getKey(), new ProtectedField(field.getValue(), markings(markings, field.getMarkings())));
+                }
+                decodedDocument.setFields(fields);
+            }
+            decoded.add(decodedDocument);
+        }
+        return decoded;
+    }
+
+    private static SecurityContainer markings(List<SecurityContainer> markings, int index){
+        return null != markings && index >= 0 && index < markings.size() ? markings.get(index) : null;
+    }
+}
@@ -0,0 +1,310 @@
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.SecurityContainer;
+
+import java.util.Set;
+
+/**
+ * Compiles the sets held by a {@link security.SecurityContainer} into primitive bitmasks and evaluates the
+ * OLS rules against them.  Each enum constant occupies the bit matching its Thrift value, so a dimension can
+ * carry at most 64 labels, larger runtime label spaces are evaluated as {@code long[]} bitsets instead, see
+ * {@link CompiledLabels}.  None of the methods allocate.
+ * <p>
+ * A label this server does not know, which the generated code decodes as a NULL element of the set, is compiled
+ * into the {@link #UNKNOWN} level, whatever dimension it came from, so that the data is denied rather than treated
+ * as carrying fewer markings.
+ *
+ * @see security.SecurityContainer
+ */
+public final class MarkingEvaluator {
+
+    /** Set in the result of {@link #denials} when the data holds a level the user lacks */
+    public static final int LEVEL_DENIED = 1;
+    /** Set in the result of {@link #denials} when the user holds none of the data's groups */
+    public static final int GROUP_DENIED = 1 << 1;
+    /** Set in the result of {@link #denials} when the data holds a compartment the user lacks */
+    public static final int COMPARTMENT_DENIED = 1 << 2;
+
+    /**
+     * The level compiled into the markings of data carrying a label that is unknown, in any dimension.  No clearance
+     * holds it, so such data is always denied, reported as {@link #LEVEL_DENIED}.
+     */
+    public static final long UNKNOWN = 1L << 63;
+
+    private static final Level[] LEVELS = Level.values();
+    private static final Group[] GROUPS = Group.values();
+    private static final Compartment[] COMPARTMENTS = Compartment.values();
+
+    private static final long KNOWN_LEVELS;
+    private static final long KNOWN_GROUPS;
+    private static final long KNOWN_COMPARTMENTS;
+
+    static {
+        long levels = 0L;
+        for(Level level : LEVELS){
+            // the highest bit is taken by UNKNOWN
+            checkBit(level.getValue(), Long.SIZE - 1);
+            levels |= 1L << level.getValue();
+        }
+        long groups = 0L;
+        for(Group group : GROUPS){
+            checkBit(group.getValue(), Long.SIZE);
+            groups |= 1L << group.getValue();
+        }
+        long compartments = 0L;
+        for(Compartment compartment : COMPARTMENTS){
+            checkBit(compartment.getValue(), Long.SIZE);
+            compartments |= 1L << compartment.getValue();
+        }
+        KNOWN_LEVELS = levels;
+        KNOWN_GROUPS = groups;
+        KNOWN_COMPARTMENTS = compartments;
+    }
+
+    private MarkingEvaluator(){
+    }
+
+    /**
+     * Determines if data carrying the supplied markings can be seen by the holder of the supplied permissions.
+     *
+     * @param container - The data's permission set
+     * @param permissions - The user's accesses
+     * @return True when every rule is satisfied, False otherwise
+     */
+    public static boolean isVisible(SecurityContainer container, SecurityContainer permissions){
+        return isVisible(levels(container), groups(container), compartments(container),
+                         levels(permissions) & ~UNKNOWN, groups(permissions), compartments(permissions));
+    }
+
+    /**
+     * Evaluates the OLS rules against compiled masks:
+     * <ul>
+     *     <li>Level - the data's levels must be a subset of the user's levels</li>
+     *     <li>Group - the user must hold at least one of the data's groups, if the data has any</li>
+     *     <li>Compartment - the data's compartments must be a subset of the user's compartments</li>
+     * </ul>
+     *
+     * @return True when every rule is satisfied, False otherwise
+     */
+    public static boolean isVisible(long levels, long groups, long compartments,
+                                    long userLevels, long userGroups, long userCompartments){
+        return (levels & ~userLevels) == 0
+            && (groups == 0 || (groups & userGroups) != 0)
+            && (compartments & ~userCompartments) == 0;
+    }
+
+    /**
+     * Evaluates the same rules as {@link #isVisible(long, long, long, long, long, long)} but reports every rule that
+     * failed rather than stopping at the first.
+     *
+     * @return The {@code *_DENIED} flags of the failed rules, zero when the data is visible
+     */
+    public static int denials(long levels, long groups, long compartments,
+                              long userLevels, long userGroups, long userCompartments){
+        int denials = 0;
+        if((levels & ~userLevels) != 0){
+            denials |= LEVEL_DENIED;
+        }
+        if(groups != 0 && (groups & userGroups) == 0){
+            denials |= GROUP_DENIED;
+        }
+        if((compartments & ~userCompartments) != 0){
+            denials |= COMPARTMENT_DENIED;
+        }
+        return denials;
+    }
+
+    /**
+     * @param levels - A compiled levels mask
+     * @return The Thrift value of the highest of the levels, which dominates the others, -1 when there are none
+     */
+    public static int highestLevel(long levels){
+        return 63 - Long.numberOfLeadingZeros(levels);
+    }
+
+    /**
+     * The level rule of an ordered clearance, a single unsigned comparison: a level below the minimum wraps around
+     * to a difference larger than any range.
+     *
+     * @param level - The Thrift value of the data's level
+     * @param minLevel - The lowest level permitted
+     * @param maxLevel - The highest level permitted, no lower than the minimum
+     * @return True when the level lies from the minimum up to the maximum
+     */
+    public static boolean isWithin(int level, int minLevel, int maxLevel){
+        return Integer.compareUnsigned(level - minLevel, maxLevel - minLevel) <= 0;
+    }
+
+    /**
+     * Evaluates the same rules as {@link #denials(long, long, long, long, long, long)} against bitsets of any length,
+     * for label spaces larger than a single word, see {@link CompiledLabels}.  Words missing from the shorter of two
+     * bitsets are treated as zero.
+     *
+     * @return The {@code *_DENIED} flags of the failed rules, zero when the data is visible
+     */
+    public static int denials(long[] levels, long[] groups, long[] compartments,
+                              long[] userLevels, long[] userGroups, long[] userCompartments){
+        int denials = 0;
+        if(!isSubset(levels, userLevels)){
+            denials |= LEVEL_DENIED;
+        }
+        if(!isEmpty(groups) && !intersects(groups, userGroups)){
+            denials |= GROUP_DENIED;
+        }
+        if(!isSubset(compartments, userCompartments)){
+            denials |= COMPARTMENT_DENIED;
+        }
+        return denials;
+    }
+
+    private static boolean isSubset(long[] bits, long[] of){
+        for(int i = 0; i < bits.length; i++){
+            if((bits[i] & ~(i < of.length ? of[i] : 0L)) != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean intersects(long[] bits, long[] other){
+        int words = Math.min(bits.length, other.length);
+        for(int i = 0; i < words; i++){
+            if((bits[i] & other[i]) != 0){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isEmpty(long[] bits){
+        for(long word : bits){
+            if(word != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if whoever can see data carrying the first markings can also see data carrying the second, whatever
+     * their permissions.  Data without markings is never treated as covered.
+     *
+     * @param container - The markings of the data that is seen, e.g. a document's
+     * @param covered - The markings of the data that is to be seen along with it, e.g. one of its fields
+     * @return True when the second markings are no more restrictive than the first
+     */
+    public static boolean covers(SecurityContainer container, SecurityContainer covered){
+        if(null == container || null == covered){
+            return false;
+        }
+        return covers(levels(container), groups(container), compartments(container),
+                      levels(covered), groups(covered), compartments(covered));
+    }
+
+    /**
+     * Applies {@link #covers(SecurityContainer, SecurityContainer)} to compiled masks: the covered levels and
+     * compartments must be a subset of the covering ones, and a user holding any of the covering groups must hold
+     * one of the covered groups, which for a covering data without groups means the covered data has none either.
+     * Covered levels must also share the highest covering level, as an ordered clearance with a {@code minLevel}
+     * decides on the highest level alone and would deny a lower one.
+     *
+     * @return True when the second markings are no more restrictive than the first
+     */
+    public static boolean covers(long levels, long groups, long compartments,
+                                 long coveredLevels, long coveredGroups, long coveredCompartments){
+        return (coveredLevels & ~levels) == 0
+            && (coveredLevels == 0 || highestLevel(coveredLevels) == highestLevel(levels))
+            && (coveredGroups == 0 || (groups != 0 && (groups & ~coveredGroups) == 0))
+            && (coveredCompartments & ~compartments) == 0;
+    }
+
+    /**
+     * @return The levels of the supplied container as a bitmask, a NULL set is treated as empty.  The mask holds
+     *         {@link #UNKNOWN} when any of the container's sets holds an unknown label.
+     */
+    public static long levels(SecurityContainer container){
+        Set<Level> levels = container.getLevels();
+        long mask = 0L;
+        if(null != levels && !levels.isEmpty()){
+            for(int i = 0; i < LEVELS.length; i++){
+                if(levels.contains(LEVELS[i])){
+                    mask |= 1L << LEVELS[i].getValue();
+                }
+            }
+            if(Long.bitCount(mask) != levels.size()){
+                mask |= UNKNOWN;
+            }
+        }
+        if(holdsUnknown(container.getGroups()) || holdsUnknown(container.getCompartments())){
+            mask |= UNKNOWN;
+        }
+        return mask;
+    }
+
+    /**
+     * @return True when the set holds a NULL element, which is how the generated code decodes a value without a label
+     */
+    private static boolean holdsUnknown(Set<?> labels){
+        if(null == labels || labels.isEmpty()){
+            return false;
+        }
+        try {
+            return labels.contains(null);
+        } catch (NullPointerException e) {
+            // a set that rejects NULL cannot hold it either
+            return false;
+        }
+    }
+
+    /**
+     * Applies the unknown rule of {@link #levels(SecurityContainer)} to masks that did not come from sets, e.g. packed
+     * markings, where a bit without a label is unknown.
+     *
+     * @return The supplied levels, holding {@link #UNKNOWN} when any dimension holds a bit without a label
+     */
+    public static long checked(long levels, long groups, long compartments){
+        if((levels & ~KNOWN_LEVELS) != 0 || (groups & ~KNOWN_GROUPS) != 0 || (compartments & ~KNOWN_COMPARTMENTS) != 0){
+            return levels | UNKNOWN;
+        }
+        return levels;
+    }
+
+    /**
+     * @return The groups of the supplied container as a bitmask, a NULL set is treated as empty
+     */
+    public static long groups(SecurityContainer container){
+        Set<Group> groups = container.getGroups();
+        long mask = 0L;
+        if(null != groups && !groups.isEmpty()){
+            for(int i = 0; i < GROUPS.length; i++){
+                if(groups.contains(GROUPS[i])){
+                    mask |= 1L << GROUPS[i].getValue();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return The compartments of the supplied container as a bitmask, a NULL set is treated as empty
+     */
+    public static long compartments(SecurityContainer container){
+        Set<Compartment> compartments = container.getCompartments();
+        long mask = 0L;
+        if(null != compartments && !compartments.isEmpty()){
+            for(int i = 0; i < COMPARTMENTS.length; i++){
+                if(compartments.contains(COMPARTMENTS[i])){
+                    mask |= 1L << COMPARTMENTS[i].getValue();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static void checkBit(int value, int bits){
+        if(value < 0 || value >= bits){
+            throw new IllegalStateException("Label value " + value + " does not fit in a " + bits + " bit mask");
+        }
+    }
+}
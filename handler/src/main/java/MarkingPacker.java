@@ -0,0 +1,121 @@
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.PackedDocument;
+import security.PackedField;
+import security.PackedSecurityContainer;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts markings to and from the bitmasks of {@link PackedSecurityContainer}, which are the masks
+ * {@link MarkingEvaluator} compiles containers into.  Missing markings stay missing in both directions.
+ */
+public final class MarkingPacker {
+
+    private MarkingPacker(){
+    }
+
+    /**
+     * @param container - The markings to pack, NULL for data without markings
+     * @return The packed markings, NULL when the supplied markings were NULL
+     */
+    public static PackedSecurityContainer pack(SecurityContainer container){
+        if(null == container){
+            return null;
+        }
+        return new PackedSecurityContainer(MarkingEvaluator.levels(container), MarkingEvaluator.groups(container),
+                                           MarkingEvaluator.compartments(container));
+    }
+
+    /**
+     * @param packed - The markings to unpack, NULL for data without markings
+     * @return The markings as sets, NULL when the supplied markings were NULL
+     * @throws IllegalArgumentException In the event a bit is set for which no label exists, dropping it would
+     *         loosen the markings
+     */
+    public static SecurityContainer unpack(PackedSecurityContainer packed){
+        if(null == packed){
+            return null;
+        }
+        EnumSet<Level> levels = EnumSet.noneOf(Level.class);
+        for(long bits = packed.getLevels(); bits != 0; bits &= bits - 1){
+            levels.add(label(Level.findByValue(Long.numberOfTrailingZeros(bits)), "level", bits));
+        }
+        EnumSet<Group> groups = EnumSet.noneOf(Group.class);
+        for(long bits = packed.getGroups(); bits != 0; bits &= bits - 1){
+            groups.add(label(Group.findByValue(Long.numberOfTrailingZeros(bits)), "group", bits));
+        }
+        EnumSet<Compartment> compartments = EnumSet.noneOf(Compartment.class);
+        for(long bits = packed.getCompartments(); bits != 0; bits &= bits - 1){
+            compartments.add(label(Compartment.findByValue(Long.numberOfTrailingZeros(bits)), "compartment", bits));
+        }
+        return new SecurityContainer(levels, groups, compartments);
+    }
+
+    private static <T> T label(T label, String dimension, long bits){
+        if(null == label){
+            throw new IllegalArgumentException("No " + dimension + " has the value " + Long.numberOfTrailingZeros(bits));
+        }
+        return label;
+    }
+
+    /**
+     * @param documents - The documents to pack, they are not modified
+     * @return The documents carrying packed markings, in the supplied order
+     */
+    public static List<PackedDocument> pack(List<ProtectedDocument> documents){
+        List<PackedDocument> packed = new ArrayList<>(documents.size());
+        for(ProtectedDocument document : documents){
+            PackedDocument packedDocument = new PackedDocument();
+            packedDocument.setOverallMarkings(pack(document.getOverallMarkings()));
+            if(document.isSetFieldsCovered()){
+                packedDocument.setFieldsCovered(document.isFieldsCovered());
+            }
+            if(null != document.getFields()){
+                Map<ProtectedKey, PackedField> fields = new HashMap<>();
+                for(Map.Entry<ProtectedKey, ProtectedField> entry : document.getFields().entrySet()){
+                    ProtectedField field = entry.getValue();
+                    fields.put(entry.getKey(), new PackedField(field.getValue(), pack(field.getMarkings())));
+                }
+                packedDocument.setFields(fields);
+            }
+            packed.add(packedDocument);
+        }
+        return packed;
+    }
+
+    /**
+     * @param documents - The documents to unpack, e.g. those returned by {@code authorizePacked}
+     * @return The documents carrying their markings as sets again, in the supplied order
+     * @throws IllegalArgumentException In the event a bit is set for which no label exists
+     */
+    public static List<ProtectedDocument> unpack(List<PackedDocument> documents){
+        List<ProtectedDocument> unpacked = new ArrayList<>(documents.size());
+        for(PackedDocument document : documents){
+            ProtectedDocument unpackedDocument = new ProtectedDocument();
+            unpackedDocument.setOverallMarkings(unpack(document.getOverallMarkings()));
+            if(document.isSetFieldsCovered()){
+                unpackedDocument.setFieldsCovered(document.isFieldsCovered());
+            }
+            if(null != document.getFields()){
+                Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+                for(Map.Entry<ProtectedKey, PackedField> entry : document.getFields().entrySet()){
+                    PackedField field = entry.getValue();
+                    fields.put(entry.getKey(), new ProtectedField(field.getValue(), unpack(field.getMarkings())));
+                }
+                unpackedDocument.setFields(fields);
+            }
+            unpacked.add(unpackedDocument);
+        }
+        return unpacked;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Publishes {@link AuthorizationMetrics} somewhere other than JMX.  The server creates the reporter named by
+ * {@code authorization.server.metricsReporter} through its public no argument constructor and calls it every
+ * {@code authorization.server.metricsReportInterval} seconds from a single background thread.
+ *
+ * @see LoggingMetricsReporter
+ */
+public interface MetricsReporter {
+
+    /**
+     * @param metrics - The metrics of the server, cumulative since it started
+     */
+    void report(AuthorizationMetrics metrics);
+}
@@ -0,0 +1,258 @@
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * A server socket whose connections work out the protocol and framing of their client from the first bytes it sends,
+ * so that clients can be moved from one {@link WireFormat} to another without a flag day.  Connections must be read
+ * through a {@link ProtocolFactory}, and are only usable by the blocking engines as the first call is waited for on
+ * the thread serving the connection.
+ * <p>
+ * An unframed call starts with the protocol id, 0x80 for the binary protocol and 0x82 for the compact one.  A framed
+ * call starts with the frame length followed by the protocol id, and a compressed call with the two frame lengths,
+ * the second of which starts with a zero byte for any frame the server accepts.  The tuple protocol writes the same
+ * message header as the compact protocol, so a connection negotiates one or the other, as configured.
+ */
+public class NegotiatingServerTransport extends TServerTransport {
+
+    private static final byte BINARY_ID = (byte) 0x80;
+    private static final byte COMPACT_ID = (byte) 0x82;
+
+    private final TServerSocket socket;
+    private final WireFormat.Protocol compact;
+
+    /**
+     * @param port - The port to listen on
+     * @param compact - The protocol of calls starting with the compact protocol id, {@link WireFormat.Protocol#COMPACT}
+     *                  or {@link WireFormat.Protocol#TUPLE}
+     * @throws TTransportException In the event the port can not be bound
+     */
+    public NegotiatingServerTransport(int port, WireFormat.Protocol compact) throws TTransportException {
+        if(compact == WireFormat.Protocol.BINARY){
+            throw new IllegalArgumentException("The binary protocol can not be negotiated from the compact protocol id");
+        }
+        this.socket = new TServerSocket(port);
+        this.compact = compact;
+    }
+
+    @Override
+    public void listen() throws TTransportException {
+        socket.listen();
+    }
+
+    @Override
+    protected TTransport acceptImpl() throws TTransportException {
+        return new NegotiatedTransport(socket.accept(), compact);
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    @Override
+    public void interrupt() {
+        socket.interrupt();
+    }
+
+    /**
+     * An accepted connection, the wire format is read on the first use of {@link #resolve()}.
+     */
+    public static class NegotiatedTransport extends TTransport {
+
+        private final TTransport socket;
+        private final WireFormat.Protocol compact;
+        private TTransport transport;
+        private WireFormat.Protocol protocol;
+        private WireFormat.Transport framing;
+
+        /**
+         * @param socket - The accepted connection
+         * @param compact - The protocol of calls starting with the compact protocol id
+         */
+        public NegotiatedTransport(TTransport socket, WireFormat.Protocol compact){
+            this.socket = socket;
+            this.compact = compact;
+        }
+
+        /**
+         * Reads enough of the first call to tell its protocol and framing apart, blocking until it arrives.
+         *
+         * @return The framing transport the connection is to be read and written through
+         * @throws TTransportException In the event the connection fails or the client speaks no known protocol
+         */
+        public TTransport resolve() throws TTransportException {
+            if(null != transport){
+                return transport;
+            }
+            byte[] head = new byte[5];
+            socket.readAll(head, 0, 1);
+            if(isProtocolId(head[0])){
+                protocol = protocol(head[0]);
+                framing = WireFormat.Transport.UNFRAMED;
+                transport = new Replay(head, 1, socket);
+                return transport;
+            }
+            socket.readAll(head, 1, 4);
+            TTransport frames;
+            if(isProtocolId(head[4])){
+                framing = WireFormat.Transport.FRAMED;
+                frames = new TFramedTransport(new Replay(head, 5, socket));
+            } else {
+                framing = WireFormat.Transport.COMPRESSED;
+                frames = new CompressedFramedTransport(new Replay(head, 5, socket));
+            }
+            byte[] id = new byte[1];
+            frames.readAll(id, 0, 1);
+            if(!isProtocolId(id[0])){
+                throw new TTransportException("Unknown protocol id " + (id[0] & 0xff) + " in a " + framing + " call");
+            }
+            protocol = protocol(id[0]);
+            transport = new Replay(id, 1, frames);
+            return transport;
+        }
+
+        /**
+         * @return The protocol of the client, NULL until the connection has been resolved
+         */
+        public WireFormat.Protocol getProtocol() {
+            return protocol;
+        }
+
+        /**
+         * @return The framing of the client, NULL until the connection has been resolved
+         */
+        public WireFormat.Transport getFraming() {
+            return framing;
+        }
+
+        private WireFormat.Protocol protocol(byte id){
+            return id == BINARY_ID ? WireFormat.Protocol.BINARY : compact;
+        }
+
+        private static boolean isProtocolId(byte id){
+            return id == BINARY_ID || id == COMPACT_ID;
+        }
+
+        public boolean isOpen() {
+            return socket.isOpen();
+        }
+
+        public void open() throws TTransportException {
+            socket.open();
+        }
+
+        public void close() {
+            if(null != transport){
+                transport.close();
+            } else {
+                socket.close();
+            }
+        }
+
+        public int read(byte[] buf, int off, int len) throws TTransportException {
+            return resolve().read(buf, off, len);
+        }
+
+        public void write(byte[] buf, int off, int len) throws TTransportException {
+            resolve().write(buf, off, len);
+        }
+
+        @Override
+        public void flush() throws TTransportException {
+            resolve().flush();
+        }
+    }
+
+    /**
+     * Creates the protocol a connection's client turned out to speak, waiting for its first call to arrive.  The
+     * protocol can not be settled lazily behind a delegating protocol as the tuple scheme requires the tuple protocol
+     * itself.
+     */
+    public static class ProtocolFactory implements TProtocolFactory {
+
+        public TProtocol getProtocol(TTransport transport) {
+            NegotiatedTransport negotiated = (NegotiatedTransport) transport;
+            try {
+                TTransport resolved = negotiated.resolve();
+                return WireFormat.protocolFactory(negotiated.getProtocol()).getProtocol(resolved);
+            } catch (TTransportException e) {
+                // the first read of the server fails the same way, and is handled like any other failed connection
+                return new TBinaryProtocol(negotiated);
+            }
+        }
+    }
+
+    /**
+     * Hands back the bytes read while negotiating before reading on from the connection.
+     */
+    private static class Replay extends TTransport {
+
+        private final byte[] replayed;
+        private final int length;
+        private final TTransport transport;
+        private int position;
+
+        Replay(byte[] replayed, int length, TTransport transport){
+            this.replayed = replayed;
+            this.length = length;
+            this.transport = transport;
+        }
+
+        public boolean isOpen() {
+            return transport.isOpen();
+        }
+
+        public void open() throws TTransportException {
+            transport.open();
+        }
+
+        public void close() {
+            transport.close();
+        }
+
+        public int read(byte[] buf, int off, int len) throws TTransportException {
+            if(position == length){
+                return transport.read(buf, off, len);
+            }
+            int n = Math.min(len, length - position);
+            System.arraycopy(replayed, position, buf, off, n);
+            position += n;
+            return n;
+        }
+
+        public void write(byte[] buf, int off, int len) throws TTransportException {
+            transport.write(buf, off, len);
+        }
+
+        @Override
+        public void flush() throws TTransportException {
+            transport.flush();
+        }
+
+        @Override
+        public byte[] getBuffer() {
+            return position == length ? transport.getBuffer() : null;
+        }
+
+        @Override
+        public int getBufferPosition() {
+            return position == length ? transport.getBufferPosition() : 0;
+        }
+
+        @Override
+        public int getBytesRemainingInBuffer() {
+            return position == length ? transport.getBytesRemainingInBuffer() : -1;
+        }
+
+        @Override
+        public void consumeBuffer(int len) {
+            transport.consumeBuffer(len);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+import security.User;
+
+/**
+ * The OLS rules of {@link MarkingEvaluator}, with the ordered levels of users carrying a {@code maxLevel}, compiled
+ * into a {@link Clearance}.  Users without permissions only see unmarked data.
+ */
+public final class OlsPolicyEngine implements PolicyEngine {
+
+    public static final String NAME = "ols";
+
+    public String getName() {
+        return NAME;
+    }
+
+    public Policy compile(User user, GroupHierarchy groups) {
+        return null != user && user.isSetPermissions() ? Clearance.compile(user, groups) : Clearance.NONE;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * A user's permissions compiled by a {@link PolicyEngine}, the clearance every marking of a request is decided
+ * against.  Markings are handed over as the masks of {@link MarkingEvaluator}, so a policy never sees the sets
+ * they came from and deciding need not allocate.
+ * <p>
+ * A policy is immutable and must implement {@code equals} and {@code hashCode} over everything its decisions depend
+ * on, so that equal policies can stand in for one another.
+ */
+public interface Policy {
+
+    /**
+     * @param levels - The compiled levels of the data
+     * @param groups - The compiled groups of the data
+     * @param compartments - The compiled compartments of the data
+     * @return The {@code *_DENIED} flags of {@link MarkingEvaluator} for the rules the data fails, zero when it can
+     *         be seen.  A policy with rules of its own reports them as any non-zero value.
+     */
+    int denials(long levels, long groups, long compartments);
+
+    /**
+     * Tells whether a document whose fields are covered, see {@link security.ProtectedDocument#fieldsCovered}, may have
+     * its fields permitted along with it without deciding them.  Covering is worked out by
+     * {@link MarkingEvaluator#covers} for the OLS rules, and clients set it, so only policies deciding by those rules
+     * may honour it.
+     *
+     * @return True when the fields of covered documents need not be decided, False by default
+     */
+    default boolean supportsCovering(){
+        return false;
+    }
+
+    /**
+     * Decides a run of markings held column by column, entry i being {@code levels[i]}, {@code groups[i]} and
+     * {@code compartments[i]}.  Policies whose rules are plain mask arithmetic should override this with a loop the
+     * JIT can unroll and vectorize, free of calls and branches on the data.
+     *
+     * @param levels - The compiled levels of the markings
+     * @param groups - The compiled groups of the markings
+     * @param compartments - The compiled compartments of the markings
+     * @param from - The first entry to decide
+     * @param to - The entry after the last one to decide
+     * @param denials - Receives the denials of entry i at index i
+     */
+    default void denials(long[] levels, long[] groups, long[] compartments, int from, int to, int[] denials){
+        for(int i = from; i < to; i++){
+            denials[i] = denials(levels[i], groups[i], compartments[i]);
+        }
+    }
+}
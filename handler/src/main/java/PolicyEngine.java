@@ -0,0 +1,45 @@
+import security.User;
+
+import java.util.ServiceLoader;
+
+/**
+ * Compiles users into the {@link Policy} their requests are decided against, so that the access rules can be
+ * replaced without touching the handler.  The engine in use is named by {@link ServerSettings#getPolicyEngine()},
+ * {@link OlsPolicyEngine} applying the OLS rules is built in, and further engines are found through
+ * {@link ServiceLoader} by listing their class names in {@code META-INF/services/PolicyEngine}.
+ * <p>
+ * An engine is called once per request, and must be safe to call from many threads at once.
+ */
+public interface PolicyEngine {
+
+    /**
+     * @return The name the engine is selected by
+     */
+    String getName();
+
+    /**
+     * @param user - The user that is requesting access, NULL or a user without permissions when the request did not
+     *             carry any
+     * @param groups - The group hierarchy in force for the request
+     * @return The policy the markings of the request are decided against
+     * @throws IllegalArgumentException In the event the user's permissions are inconsistent
+     */
+    Policy compile(User user, GroupHierarchy groups);
+
+    /**
+     * @param name - The name of the engine
+     * @return The built in engine or the first engine found through {@link ServiceLoader} with the supplied name
+     * @throws IllegalArgumentException In the event no engine has the name
+     */
+    static PolicyEngine load(String name){
+        if(OlsPolicyEngine.NAME.equals(name)){
+            return new OlsPolicyEngine();
+        }
+        for(PolicyEngine engine : ServiceLoader.load(PolicyEngine.class)){
+            if(engine.getName().equals(name)){
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("No policy engine is named " + name);
+    }
+}
@@ -0,0 +1,146 @@
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.LabeledDocument;
+import security.LabeledUser;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+import security.VisibilityMask;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A client for long lived callers.  Calls are made over pooled connections rather than a connection per call, may be
+ * given their own timeout, and batches can be pipelined so that the server works on one while the next is sent.
+ * The client is safe for use by many threads, each call holds a connection of its own.
+ *
+ * @see AsyncProtectionClient
+ */
+public class ProtectionClient implements ProtectionService.Iface, Closeable {
+
+    private final ClientSettings settings;
+    private final ConnectionPool pool;
+
+    public ProtectionClient(ClientSettings settings){
+        this.settings = settings;
+        this.pool = new ConnectionPool(settings);
+    }
+
+    public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> documents) throws TException {
+        return authorize(user, documents, settings.getCallTimeout());
+    }
+
+    /**
+     * @param user - The user that is requesting access
+     * @param documents - The data that is to be accessed
+     * @param timeout - The longest the call waits on the server, in milliseconds
+     * @return The documents the user can see
+     */
+    public List<ProtectedDocument> authorize(final User user, final List<ProtectedDocument> documents, int timeout) throws TException {
+        return call(timeout, client -> client.authorize(user, documents));
+    }
+
+    public List<VisibilityMask> authorizeMany(final List<User> users, final List<ProtectedDocument> documents) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizeMany(users, documents));
+    }
+
+    public VisibilityMask authorizeMask(final User user, final List<ProtectedDocument> documents) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizeMask(user, documents));
+    }
+
+    public VisibilityMask authorizeMarkings(final User user, final List<MarkedDocument> documents) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizeMarkings(user, documents));
+    }
+
+    public List<EncodedDocument> authorizeEncoded(final User user, final EncodedBatch batch) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizeEncoded(user, batch));
+    }
+
+    public List<PackedDocument> authorizePacked(final User user, final List<PackedDocument> documents) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizePacked(user, documents));
+    }
+
+    public List<LabeledDocument> authorizeLabeled(final LabeledUser user, final List<LabeledDocument> documents) throws TException {
+        return call(settings.getCallTimeout(), client -> client.authorizeLabeled(user, documents));
+    }
+
+    /**
+     * Authorizes several batches over a single connection, sending up to {@link ClientSettings#getPipelineDepth()}
+     * batches ahead of the replies read so far.  The server answers calls on a connection in the order they were sent.
+     * <p>
+     * The server writes each reply in full before it reads the next call, and no timeout covers writes, so the replies
+     * not yet read must always fit in the receive buffer of the connection.  A reply is never larger than its call, so
+     * a batch is only sent ahead while the calls awaiting their replies fit in that buffer, and batches larger than
+     * it are sent one at a time.
+     *
+     * @param user - The user that is requesting access
+     * @param batches - The batches of data that are to be accessed
+     * @return The documents the user can see, a list per batch in the order of the batches
+     */
+    public List<List<ProtectedDocument>> pipeline(User user, List<List<ProtectedDocument>> batches) throws TException {
+        ConnectionPool.Connection connection = pool.borrow();
+        boolean reusable = false;
+        try {
+            connection.setTimeout(settings.getCallTimeout());
+            ConnectionPool.PipelinedClient client = connection.client();
+            int buffered = connection.getReceiveBufferSize();
+            List<List<ProtectedDocument>> authorized = new ArrayList<>(batches.size());
+            // the bytes written up to and including each call sent
+            long[] written = new long[batches.size()];
+            long answered = client.written();
+            int first = client.sent() + 1;
+            int sent = 0;
+            while(authorized.size() < batches.size()){
+                while(sent < batches.size() && sent - authorized.size() < settings.getPipelineDepth()
+                        && (sent == authorized.size() || client.written() - answered <= buffered)){
+                    client.send_authorize(user, batches.get(sent));
+                    written[sent++] = client.written();
+                }
+                authorized.add(client.recv_authorize(first + authorized.size()));
+                answered = written[authorized.size() - 1];
+            }
+            reusable = true;
+            return authorized;
+        } finally {
+            pool.release(connection, reusable);
+        }
+    }
+
+    private <T> T call(int timeout, Call<T> call) throws TException {
+        ConnectionPool.Connection connection = pool.borrow();
+        boolean reusable = false;
+        try {
+            connection.setTimeout(timeout);
+            T result = call.call(connection.client());
+            reusable = true;
+            return result;
+        } catch (TApplicationException e) {
+            // the reply was read in full, so the connection is still in step with the server
+            reusable = e.getType() != TApplicationException.BAD_SEQUENCE_ID;
+            throw e;
+        } finally {
+            pool.release(connection, reusable);
+        }
+    }
+
+    /**
+     * @return The pool the calls are made over
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    public void close(){
+        pool.close();
+    }
+
+    private interface Call<T> {
+        T call(ProtectionService.Client client) throws TException;
+    }
+}
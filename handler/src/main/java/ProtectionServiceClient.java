@@ -1,8 +1,4 @@
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
 import security.Compartment;
 import security.Group;
 import security.Level;
@@ -23,24 +19,15 @@ public class ProtectionServiceClient {
     public static void main(String [] args) {
 
 
-        try {
-            TTransport transport;
-
-            transport = new TSocket("localhost", 9090);
-            transport.open();
-
-            TProtocol protocol = new  TBinaryProtocol(transport);
-            ProtectionService.Client client = new ProtectionService.Client(protocol);
-
+        // speaks whatever the server is configured with, e.g. -Dauthorization.client.protocol=COMPACT
+        try (ProtectionClient client = new ProtectionClient(ClientSettings.fromSystemProperties())) {
             perform(client);
-
-            transport.close();
         } catch (TException x) {
             x.printStackTrace();
         }
     }
 
-    private static void perform(ProtectionService.Client client) throws TException
+    private static void perform(ProtectionService.Iface client) throws TException
     {
         SecurityContainer container = new SecurityContainer();
         container.setCompartments(EnumSet.of(Compartment.ALPHA));
@@ -1,81 +1,600 @@
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.thrift.TException;
-import security.Compartment;
-import security.Group;
-import security.Level;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.EncodedField;
+import security.LabeledDocument;
+import security.LabeledField;
+import security.LabeledSecurityContainer;
+import security.LabeledUser;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.PackedField;
+import security.PackedSecurityContainer;
 import security.ProtectedDocument;
 import security.ProtectedField;
-import security.ProtectedKey;
 import security.ProtectionService;
 import security.SecurityContainer;
 import security.User;
+import security.VisibilityMask;
 
 import java.util.ArrayDeque;
-import java.util.EnumSet;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ProtectionServiceHandler implements ProtectionService.Iface{
 
+    /**
+     * The number of leaf tasks created per worker of the pool, more than one so that workers finishing
+     * early can steal from those that drew expensive documents.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+
+    private final int parallelThreshold;
+
+    private final MarkingDictionary dictionary;
+
+    private final AuthorizationMetrics metrics;
+
+    private final LabelRegistry labels;
+
+    private final AtomicReference<GroupHierarchy> groups;
+
+    private final PolicyEngine policy;
+
+    /**
+     * Creates a handler that filters every batch on the calling thread.
+     */
+    public ProtectionServiceHandler(){
+        this(null, Integer.MAX_VALUE);
+    }
+
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold){
+        this(pool, parallelThreshold, new MarkingDictionary());
+    }
+
+    /**
+     * Creates a handler that splits batches of at least {@code parallelThreshold} documents across the supplied
+     * pool.  Smaller batches are filtered on the calling thread.
+     *
+     * @param pool - The pool used for large batches, NULL to always filter on the calling thread
+     * @param parallelThreshold - The smallest batch that is filtered in parallel
+     * @param dictionary - The dictionary interning the markings of compiled batches across requests, so that
+     *                   each batch evaluates every distinct marking once per user
+     */
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold, MarkingDictionary dictionary){
+        this(pool, parallelThreshold, dictionary, null);
+    }
+
+    /**
+     * @param pool - The pool used for large batches, NULL to always filter on the calling thread
+     * @param parallelThreshold - The smallest batch that is filtered in parallel
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics every evaluated batch is recorded to, NULL to record nothing
+     */
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold, MarkingDictionary dictionary,
+                                    AuthorizationMetrics metrics){
+        this(pool, parallelThreshold, dictionary, metrics, new LabelRegistry());
+    }
+
+
+    /**
+     * @param pool - The pool used for large batches, NULL to always filter on the calling thread
+     * @param parallelThreshold - The smallest batch that is filtered in parallel
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics every evaluated batch is recorded to, NULL to record nothing
+     * @param labels - The registry of the runtime labels of {@link #authorizeLabeled}
+     */
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold, MarkingDictionary dictionary,
+                                    AuthorizationMetrics metrics, LabelRegistry labels){
+        this(pool, parallelThreshold, dictionary, metrics, labels, new AtomicReference<>(GroupHierarchy.FLAT));
+    }
+
+    /**
+     * @param pool - The pool used for large batches, NULL to always filter on the calling thread
+     * @param parallelThreshold - The smallest batch that is filtered in parallel
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics every evaluated batch is recorded to, NULL to record nothing
+     * @param labels - The registry of the runtime labels of {@link #authorizeLabeled}
+     * @param groups - The group hierarchy users are compiled against, read once per request so that it can be
+     *               swapped while requests are being served
+     */
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold, MarkingDictionary dictionary,
+                                    AuthorizationMetrics metrics, LabelRegistry labels,
+                                    AtomicReference<GroupHierarchy> groups){
+        this(pool, parallelThreshold, dictionary, metrics, labels, groups, new OlsPolicyEngine());
+    }
+
+    /**
+     * @param pool - The pool used for large batches, NULL to always filter on the calling thread
+     * @param parallelThreshold - The smallest batch that is filtered in parallel
+     * @param dictionary - The dictionary interning markings across requests
+     * @param metrics - The metrics every evaluated batch is recorded to, NULL to record nothing
+     * @param labels - The registry of the runtime labels of {@link #authorizeLabeled}
+     * @param groups - The group hierarchy users are compiled against, read once per request
+     * @param policy - The engine compiling users into the policy their markings are decided against
+     */
+    public ProtectionServiceHandler(ForkJoinPool pool, int parallelThreshold, MarkingDictionary dictionary,
+                                    AuthorizationMetrics metrics, LabelRegistry labels,
+                                    AtomicReference<GroupHierarchy> groups, PolicyEngine policy){
+        if(parallelThreshold < 1){
+            throw new IllegalArgumentException("parallelThreshold must be positive but was " + parallelThreshold);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.dictionary = dictionary;
+        this.metrics = metrics;
+        this.labels = labels;
+        this.groups = groups;
+        this.policy = policy;
+    }
+
+    /**
+     * @return The group hierarchy users are compiled against
+     */
+    public AtomicReference<GroupHierarchy> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @return The engine compiling users into the policy their markings are decided against
+     */
+    public PolicyEngine getPolicy() {
+        return policy;
+    }
+
     public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> fields) throws TException {
-        return new LinkedList<>(process(user,fields));
+        return process(user,fields);
     }
 
     /**
-     * Processes the supplied documents and appropriately nulls out values that the supplied user
-     * should not have access to.
+     * Evaluates one batch for several users, the markings of the batch are compiled once and every distinct marking
+     * is decided once per user.  Users without permissions only see unmarked data.
+     *
+     * @param users - The users that are requesting access
+     * @param documents - The data that is to be accessed, it is not modified
+     *
+     * @return One mask per user, in the order of the supplied users
+     */
+    public List<VisibilityMask> authorizeMany(List<User> users, List<ProtectedDocument> documents) throws TException {
+        if(null == users || users.isEmpty()){
+            return new ArrayList<>(0);
+        }
+        CompiledBatch batch = CompiledBatch.compile(documents, dictionary);
+        List<VisibilityMask> masks = new ArrayList<>(users.size());
+        for(User user : users){
+            masks.add(evaluate(batch, decisions(policy(user))));
+        }
+        return masks;
+    }
+
+    /**
+     * Determines what the supplied user can see without returning the documents, the caller applies the mask to
+     * the copy it already holds.
+     *
+     * @param user - The user that is requesting access, NULL or a user without permissions sees only unmarked data
+     * @param documents - The data that is to be accessed, it is not modified
+     *
+     * @return The documents and fields the user can see
+     */
+    public VisibilityMask authorizeMask(User user, List<ProtectedDocument> documents) throws TException {
+        CompiledBatch batch = CompiledBatch.compile(documents, dictionary);
+        return evaluate(batch, decisions(policy(user)));
+    }
+
+    /**
+     * Determines what the supplied user can see from the markings of the documents alone.
+     *
+     * @param user - The user that is requesting access, NULL or a user without permissions sees only unmarked data
+     * @param documents - The markings of the data that is to be accessed
+     *
+     * @return The documents and fields the user can see
+     */
+    public VisibilityMask authorizeMarkings(User user, List<MarkedDocument> documents) throws TException {
+        CompiledBatch batch = CompiledBatch.compileMarkings(documents, dictionary);
+        return evaluate(batch, decisions(policy(user)));
+    }
+
+    /**
+     * Processes documents that refer to the markings of their batch by index.  Every entry of the dictionary is
+     * evaluated once for the request, however many documents and fields refer to it, and an index outside the
+     * dictionary is denied like data without markings.
+     *
+     * @param user - The user that is requesting access
+     * @param batch - The data that is to be accessed and filtered, along with its dictionary of markings
+     *
+     * @return The remaining documents that can be seen, their indexes still refer to the dictionary of the batch
+     *
+     * @see MarkingEncoder
+     */
+    public List<EncodedDocument> authorizeEncoded(User user, EncodedBatch batch) throws TException {
+        if(null == user || null == batch || null == batch.getDocuments() || batch.getDocuments().isEmpty()){
+            return new ArrayList<>(0);
+        }
+        long start = System.nanoTime();
+        Policy clearance = policy(user);
+        int[] denials = denials(clearance, batch.getMarkings());
+        DecisionTally tally = null == metrics ? null : metrics.tally();
+        List<EncodedDocument> remaining = new ArrayList<>(batch.getDocumentsSize());
+        for(EncodedDocument document : batch.getDocuments()){
+            if(filter(document, denials, clearance.supportsCovering(), tally)){
+                remaining.add(document);
+            }
+        }
+        record(tally, start, batch.getDocumentsSize());
+        return remaining;
+    }
+
+    /**
+     * Processes documents whose markings are packed into bitmasks, which are evaluated as they are without being
+     * expanded into sets.
      *
      * @param user - The user that is requesting access
      * @param documents - The data that is to be accessed and filtered
      *
      * @return The remaining documents that can be seen
      *
+     * @see MarkingPacker
+     */
+    public List<PackedDocument> authorizePacked(User user, List<PackedDocument> documents) throws TException {
+        if(null == user || null == documents || documents.isEmpty()){
+            return new ArrayList<>(0);
+        }
+        long start = System.nanoTime();
+        Policy clearance = policy(user);
+        DecisionTally tally = null == metrics ? null : metrics.tally();
+        List<PackedDocument> remaining = new ArrayList<>(documents.size());
+        for(PackedDocument document : documents){
+            if(filter(document, clearance, tally)){
+                remaining.add(document);
+            }
+        }
+        record(tally, start, documents.size());
+        return remaining;
+    }
+
+    /**
+     * Processes documents marked with runtime labels, decided against the labels registered with the server.  Data
+     * carrying a label the server does not know is denied, and a label the user holds that the server does not know
+     * is ignored.
+     *
+     * @param user - The user that is requesting access, a user without permissions sees only data without labels
+     * @param documents - The data that is to be accessed and filtered
+     *
+     * @return The remaining documents that can be seen
+     *
+     * @see LabelRegistry
+     */
+    public List<LabeledDocument> authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws TException {
+        if(null == user || null == documents || documents.isEmpty()){
+            return new ArrayList<>(0);
+        }
+        long start = System.nanoTime();
+        LabeledSecurityContainer permissions = user.isSetPermissions() ? user.getPermissions() : new LabeledSecurityContainer();
+        CompiledLabels compiled = CompiledLabels.permissions(permissions, labels);
+        DecisionTally tally = null == metrics ? null : metrics.tally();
+        List<LabeledDocument> remaining = new ArrayList<>(documents.size());
+        for(LabeledDocument document : documents){
+            if(filter(document, compiled, tally)){
+                remaining.add(document);
+            }
+        }
+        record(tally, start, documents.size());
+        return remaining;
+    }
+
+    private void record(DecisionTally tally, long start, int documents){
+        if(null != metrics){
+            metrics.flush(tally);
+            metrics.recordEvaluation(System.nanoTime() - start);
+            metrics.recordBatch(documents);
+        }
+    }
+
+    /**
+     * @param clearance - The compiled accesses of the user requesting access
+     * @param markings - The dictionary of a batch
+     * @return The denials of every entry of the dictionary, in the order of the dictionary
+     */
+    private static int[] denials(Policy clearance, List<SecurityContainer> markings){
+        if(null == markings){
+            return new int[0];
+        }
+        int[] denials = new int[markings.size()];
+        int index = 0;
+        for(SecurityContainer container : markings){
+            denials[index++] = null == container ? DecisionTally.UNMARKED
+                    : clearance.denials(MarkingEvaluator.levels(container),
+                                        MarkingEvaluator.groups(container),
+                                        MarkingEvaluator.compartments(container));
+        }
+        return denials;
+    }
+
+    /**
+     * @param denials - The denials of every entry of the dictionary of the batch
+     * @param set - False when no index was sent, which must not be mistaken for the first entry
+     * @param index - The index of the markings in the dictionary
+     */
+    private static int denials(int[] denials, boolean set, int index){
+        return set && index >= 0 && index < denials.length ? denials[index] : DecisionTally.UNMARKED;
+    }
+
+    /**
+     * Nulls out the values of the fields whose dictionary entry is denied.
+     *
+     * @param document - The document to filter
+     * @param denials - The denials of every entry of the dictionary of the batch
+     * @param covering - True when the policy of the request honours covered documents
+     * @param tally - The tally the decisions are counted in, NULL when metrics are disabled
+     * @return True when the document itself can be seen, False when it must be removed
+     */
+    private static boolean filter(EncodedDocument document, int[] denials, boolean covering, DecisionTally tally){
+        int documentDenials = denials(denials, document.isSetOverallMarkings(), document.getOverallMarkings());
+        if(null != tally){
+            tally.document(documentDenials);
+        }
+        if(documentDenials != 0){
+            return false;
+        }
+        if(null == document.getFields()){
+            return true;
+        }
+        if(covering && document.isFieldsCovered()){
+            if(null != tally){
+                tally.covered(document.getFieldsSize());
+            }
+            return true;
+        }
+        for(EncodedField field : document.getFields().values()){
+            int fieldDenials = denials(denials, field.isSetMarkings(), field.getMarkings());
+            if(null != tally){
+                tally.field(fieldDenials);
+            }
+            if(fieldDenials != 0){
+                field.setValue(null);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Nulls out the values of the fields whose packed markings are denied.
+     *
+     * @param document - The document to filter
+     * @param clearance - The compiled accesses of the user requesting access
+     * @param tally - The tally the decisions are counted in, NULL when metrics are disabled
+     * @return True when the document itself can be seen, False when it must be removed
+     */
+    private static boolean filter(PackedDocument document, Policy clearance, DecisionTally tally){
+        int documentDenials = denials(document.getOverallMarkings(), clearance);
+        if(null != tally){
+            tally.document(documentDenials);
+        }
+        if(documentDenials != 0){
+            return false;
+        }
+        if(null == document.getFields()){
+            return true;
+        }
+        if(clearance.supportsCovering() && document.isFieldsCovered()){
+            if(null != tally){
+                tally.covered(document.getFieldsSize());
+            }
+            return true;
+        }
+        for(PackedField field : document.getFields().values()){
+            int fieldDenials = denials(field.getMarkings(), clearance);
+            if(null != tally){
+                tally.field(fieldDenials);
+            }
+            if(fieldDenials != 0){
+                field.setValue(null);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Nulls out the values of the fields whose labels are denied.
+     *
+     * @param document - The document to filter
+     * @param permissions - The compiled permissions of the user requesting access
+     * @param tally - The tally the decisions are counted in, NULL when metrics are disabled
+     * @return True when the document itself can be seen, False when it must be removed
+     */
+    private boolean filter(LabeledDocument document, CompiledLabels permissions, DecisionTally tally){
+        int documentDenials = denials(document.getOverallMarkings(), permissions);
+        if(null != tally){
+            tally.document(documentDenials);
+        }
+        if(documentDenials != 0){
+            return false;
+        }
+        if(null == document.getFields()){
+            return true;
+        }
+        if(document.isFieldsCovered()){
+            if(null != tally){
+                tally.covered(document.getFieldsSize());
+            }
+            return true;
+        }
+        for(LabeledField field : document.getFields().values()){
+            int fieldDenials = denials(field.getMarkings(), permissions);
+            if(null != tally){
+                tally.field(fieldDenials);
+            }
+            if(fieldDenials != 0){
+                field.setValue(null);
+            }
+        }
+        return true;
+    }
+
+    private static int denials(PackedSecurityContainer markings, Policy clearance){
+        if(null == markings){
+            return DecisionTally.UNMARKED;
+        }
+        long groups = markings.getGroups();
+        long compartments = markings.getCompartments();
+        return clearance.denials(MarkingEvaluator.checked(markings.getLevels(), groups, compartments), groups, compartments);
+    }
+
+    private VisibilityMask evaluate(CompiledBatch batch, DecisionCache decisions){
+        if(null == metrics){
+            return batch.evaluate(decisions, null);
+        }
+        long start = System.nanoTime();
+        DecisionTally tally = metrics.tally();
+        VisibilityMask mask = batch.evaluate(decisions, tally);
+        metrics.flush(tally);
+        metrics.recordEvaluation(System.nanoTime() - start);
+        metrics.recordBatch(batch.getDocumentCount());
+        return mask;
+    }
+
+    private Policy policy(User user){
+        return policy.compile(user, groups.get());
+    }
+
+    /**
+     * @param clearance - The compiled accesses of the user requesting access
+     * @return The decisions for the ids of a batch, to be called once the batch has been compiled
+     */
+    private DecisionCache decisions(Policy clearance){
+        return new DecisionCache(clearance, dictionary);
+    }
+
+    /**
+     * Processes the supplied documents and appropriately nulls out values that the supplied user
+     * should not have access to.  The markings are laid out as a {@link CompiledBatch} and decided by the user's
+     * policy a column at a time.
+     *
+     * @param user - The user that is requesting access
+     * @param documents - The data that is to be accessed and filtered
+     *
+     * @return The remaining documents that can be seen, the supplied list itself is left untouched
+     *
      * @see security.User
      * @see security.ProtectedDocument
      */
     @VisibleForTesting
     protected List<ProtectedDocument> process(User user, List<ProtectedDocument> documents){
         if(null == documents || null == user || documents.isEmpty()){
-            return new LinkedList<>();
-        }
-        Iterator<ProtectedDocument> documentIterator = documents.iterator();
-        while(documentIterator.hasNext()){
-            ProtectedDocument document = documentIterator.next();
-            if(shouldRemove(document.getOverallMarkings(),user)){
-                documentIterator.remove();
-                continue;
-            }
-            for(ProtectedKey key : document.getFields().keySet()){
-                ProtectedField field = document.getFields().get(key);
-                if(shouldRemove(field.getMarkings(),user)){
-                    document.getFields().get(key).setValue(null);
-                    continue;
-                }
+            return new ArrayList<>(0);
+        }
+        return process(policy(user), documents);
+    }
+
+    /**
+     * Processes the supplied documents against a clearance that has already been compiled for the request.
+     *
+     * @param clearance - The compiled accesses of the user requesting access
+     * @param documents - The data that is to be accessed and filtered
+     *
+     * @return The remaining documents that can be seen
+     */
+    private List<ProtectedDocument> process(Policy clearance, List<ProtectedDocument> documents){
+        if(null == metrics){
+            return filter(clearance, documents);
+        }
+        long start = System.nanoTime();
+        List<ProtectedDocument> remaining = filter(clearance, documents);
+        metrics.recordEvaluation(System.nanoTime() - start);
+        metrics.recordBatch(documents.size());
+        return remaining;
+    }
+
+    private List<ProtectedDocument> filter(Policy clearance, List<ProtectedDocument> documents){
+        if(null != pool && documents.size() >= parallelThreshold){
+            return processInParallel(clearance, documents);
+        }
+        DecisionTally tally = null == metrics ? null : metrics.tally();
+        CompiledBatch batch = CompiledBatch.compile(documents);
+        List<ProtectedDocument> remaining = batch.apply(batch.evaluate(clearance, tally));
+        if(null != tally){
+            metrics.flush(tally);
+        }
+        return remaining;
+    }
+
+    /**
+     * Filters the supplied documents across the pool, the surviving documents keep their relative order.
+     *
+     * @param clearance - The compiled accesses of the user requesting access
+     * @param documents - The data that is to be accessed and filtered
+     *
+     * @return The remaining documents that can be seen
+     */
+    private List<ProtectedDocument> processInParallel(Policy clearance, List<ProtectedDocument> documents){
+        ProtectedDocument[] batch = documents.toArray(new ProtectedDocument[documents.size()]);
+        boolean[] visible = new boolean[batch.length];
+        int granularity = Math.max(1, batch.length / (pool.getParallelism() * TASKS_PER_WORKER));
+        pool.invoke(new FilterTask(clearance, batch, visible, 0, batch.length, granularity));
+
+        List<ProtectedDocument> remaining = new ArrayList<>(batch.length);
+        for(int i = 0; i < batch.length; i++){
+            if(visible[i]){
+                remaining.add(batch[i]);
             }
         }
-        return documents;
+        return remaining;
+    }
+
+    /**
+     * Compiles labeled markings and decides them straight away, compiling costs as much as looking a decision up.
+     */
+    private int denials(LabeledSecurityContainer markings, CompiledLabels permissions){
+        return null == markings ? DecisionTally.UNMARKED : CompiledLabels.markings(markings, labels).denials(permissions);
     }
 
     /**
-     * Determines if the record should be removed based on supplied parameters.
-     * @param container - The data's permission set
-     * @param user - The user's accesses
-     * @return  True in the event that an audit has failed, False otherwise
+     * Filters a range of a batch, splitting it in halves until it is no larger than the granularity.  Each range is
+     * laid out as a {@link CompiledBatch} of its own.
      */
-    private boolean shouldRemove(SecurityContainer container, User user){
-        EnumSet<Level> levels = EnumSet.copyOf(container.getLevels());
-        levels.removeAll(user.getPermissions().getLevels());
+    private class FilterTask extends RecursiveAction {
 
-        EnumSet<Group> groups = EnumSet.copyOf(container.getGroups());
-        groups.retainAll(user.getPermissions().getGroups());
+        private final Policy clearance;
+        private final ProtectedDocument[] batch;
+        private final boolean[] visible;
+        private final int from;
+        private final int to;
+        private final int granularity;
 
-        EnumSet<Compartment> compartments = EnumSet.copyOf(container.getCompartments());
-        compartments.removeAll(user.getPermissions().getCompartments());
+        FilterTask(Policy clearance, ProtectedDocument[] batch, boolean[] visible, int from, int to, int granularity){
+            this.clearance = clearance;
+            this.batch = batch;
+            this.visible = visible;
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+        }
 
-        return (   ( !levels.isEmpty())
-                 ||( groups.isEmpty() && !container.getGroups().isEmpty())
-                 ||( !compartments.isEmpty())
-               );
+        @Override
+        protected void compute() {
+            if(to - from <= granularity){
+                DecisionTally tally = null == metrics ? null : metrics.tally();
+                CompiledBatch columns = CompiledBatch.compile(Arrays.asList(batch).subList(from, to));
+                long[] bits = columns.evaluate(clearance, tally);
+                columns.apply(bits);
+                for(int i = from; i < to; i++){
+                    visible[i] = CompiledBatch.isSet(bits, i - from);
+                }
+                if(null != tally){
+                    metrics.flush(tally);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterTask(clearance, batch, visible, from, middle, granularity),
+                      new FilterTask(clearance, batch, visible, middle, to, granularity));
+        }
     }
 }
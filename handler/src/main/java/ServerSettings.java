@@ -0,0 +1,458 @@
+import java.util.Properties;
+
+/**
+ * Settings used by {@link AuthorizationServer} to pick and size its server engine.  Every value can be supplied
+ * as a system property, e.g. {@code -Dauthorization.server.mode=THREADED_SELECTOR}.
+ */
+public class ServerSettings {
+
+    public static final String PREFIX = "authorization.server.";
+
+    /**
+     * The available server engines.  The non blocking engines require clients to use a framed transport.
+     */
+    public enum Mode {
+        /** A single thread serving one connection at a time */
+        SIMPLE,
+        /**
+         * A blocking server handing each connection to a pooled worker thread of its own, the pool growing from
+         * {@link ServerSettings#getWorkerThreads()} up to {@link ServerSettings#getMaxConnections()} threads
+         */
+        THREAD_POOL,
+        /** A non blocking server with a pool of selector threads and a pool of worker threads */
+        THREADED_SELECTOR,
+        /** A non blocking server with a single selector thread and a pool of worker threads */
+        HSHA,
+        /**
+         * A non blocking server whose selector threads read each call and hand it to a pool of worker threads,
+         * the reply is written once the worker completes it.  Calls are never streamed in this mode, and requests
+         * are not timed, see {@link AuthorizationMetricsMBean}.
+         */
+        ASYNC,
+        /**
+         * A blocking server serving each connection on its own virtual thread, up to
+         * {@link ServerSettings#getMaxConnections()} connections at once
+         */
+        VIRTUAL_THREAD
+    }
+
+    private Mode mode = Mode.SIMPLE;
+    private int port = 9090;
+    private int selectorThreads = 2;
+    private int workerThreads = Runtime.getRuntime().availableProcessors();
+    private int acceptQueueSize = 4;
+    private int workQueueSize = 1024;
+    private long maxReadBufferBytes = Long.MAX_VALUE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int parallelThreshold = Integer.MAX_VALUE;
+    private boolean streaming = false;
+    private int dictionaryCapacity = MarkingDictionary.DEFAULT_CAPACITY;
+    private int labelCapacity = LabelRegistry.DEFAULT_CAPACITY;
+    private String labels;
+    private String groupHierarchy;
+    private int groupHierarchyReloadInterval = 30;
+    private String policyEngine = OlsPolicyEngine.NAME;
+    private int maxConnections = 10000;
+    private boolean metrics = true;
+    private String metricsReporter;
+    private int metricsReportInterval = 60;
+    private WireFormat.Protocol protocol = WireFormat.Protocol.BINARY;
+    private WireFormat.Transport transport = WireFormat.Transport.UNFRAMED;
+    private boolean negotiate = false;
+    private int coalesceWindow = 0;
+    private int coalesceMaxBatch = 64;
+
+    /**
+     * @return Settings read from the system properties, falling back to the defaults for anything absent
+     */
+    public static ServerSettings fromSystemProperties(){
+        return fromProperties(System.getProperties());
+    }
+
+    /**
+     * @param properties - The properties holding values keyed by {@link #PREFIX} plus the setting name
+     * @return Settings read from the supplied properties, falling back to the defaults for anything absent
+     */
+    public static ServerSettings fromProperties(Properties properties){
+        ServerSettings settings = new ServerSettings();
+        String mode = properties.getProperty(PREFIX + "mode");
+        if(null != mode){
+            settings.setMode(Mode.valueOf(mode.trim().toUpperCase()));
+        }
+        settings.setPort(intProperty(properties, "port", settings.getPort()));
+        settings.setSelectorThreads(intProperty(properties, "selectorThreads", settings.getSelectorThreads()));
+        settings.setWorkerThreads(intProperty(properties, "workerThreads", settings.getWorkerThreads()));
+        settings.setAcceptQueueSize(intProperty(properties, "acceptQueueSize", settings.getAcceptQueueSize()));
+        settings.setWorkQueueSize(intProperty(properties, "workQueueSize", settings.getWorkQueueSize()));
+        settings.setParallelism(intProperty(properties, "parallelism", settings.getParallelism()));
+        settings.setParallelThreshold(intProperty(properties, "parallelThreshold", settings.getParallelThreshold()));
+        settings.setDictionaryCapacity(intProperty(properties, "dictionaryCapacity", settings.getDictionaryCapacity()));
+        settings.setLabelCapacity(intProperty(properties, "labelCapacity", settings.getLabelCapacity()));
+        String labels = properties.getProperty(PREFIX + "labels");
+        if(null != labels){
+            settings.setLabels(labels.trim());
+        }
+        String groupHierarchy = properties.getProperty(PREFIX + "groupHierarchy");
+        if(null != groupHierarchy){
+            settings.setGroupHierarchy(groupHierarchy.trim());
+        }
+        settings.setGroupHierarchyReloadInterval(intProperty(properties, "groupHierarchyReloadInterval",
+                                                             settings.getGroupHierarchyReloadInterval()));
+        String policyEngine = properties.getProperty(PREFIX + "policyEngine");
+        if(null != policyEngine){
+            settings.setPolicyEngine(policyEngine.trim());
+        }
+        settings.setMaxConnections(intProperty(properties, "maxConnections", settings.getMaxConnections()));
+        String streaming = properties.getProperty(PREFIX + "streaming");
+        if(null != streaming){
+            settings.setStreaming(Boolean.parseBoolean(streaming.trim()));
+        }
+        String metrics = properties.getProperty(PREFIX + "metrics");
+        if(null != metrics){
+            settings.setMetrics(Boolean.parseBoolean(metrics.trim()));
+        }
+        String metricsReporter = properties.getProperty(PREFIX + "metricsReporter");
+        if(null != metricsReporter){
+            settings.setMetricsReporter(metricsReporter.trim());
+        }
+        settings.setMetricsReportInterval(intProperty(properties, "metricsReportInterval", settings.getMetricsReportInterval()));
+        settings.setCoalesceWindow(intProperty(properties, "coalesceWindow", settings.getCoalesceWindow(), 0));
+        settings.setCoalesceMaxBatch(intProperty(properties, "coalesceMaxBatch", settings.getCoalesceMaxBatch()));
+        String protocol = properties.getProperty(PREFIX + "protocol");
+        if(null != protocol){
+            settings.setProtocol(WireFormat.Protocol.valueOf(protocol.trim().toUpperCase()));
+        }
+        String transport = properties.getProperty(PREFIX + "transport");
+        if(null != transport){
+            settings.setTransport(WireFormat.Transport.valueOf(transport.trim().toUpperCase()));
+        }
+        String negotiate = properties.getProperty(PREFIX + "negotiate");
+        if(null != negotiate){
+            settings.setNegotiate(Boolean.parseBoolean(negotiate.trim()));
+        }
+        String maxReadBufferBytes = properties.getProperty(PREFIX + "maxReadBufferBytes");
+        if(null != maxReadBufferBytes){
+            settings.setMaxReadBufferBytes(Long.parseLong(maxReadBufferBytes.trim()));
+        }
+        return settings;
+    }
+
+    private static int intProperty(Properties properties, String name, int defaultValue){
+        return intProperty(properties, name, defaultValue, 1);
+    }
+
+    /**
+     * @param minimum - The lowest value accepted
+     */
+    private static int intProperty(Properties properties, String name, int defaultValue, int minimum){
+        String value = properties.getProperty(PREFIX + name);
+        if(null == value){
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value.trim());
+        if(parsed < minimum){
+            throw new IllegalArgumentException(PREFIX + name + " must be at least " + minimum + " but was " + parsed);
+        }
+        return parsed;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getSelectorThreads() {
+        return selectorThreads;
+    }
+
+    public void setSelectorThreads(int selectorThreads) {
+        this.selectorThreads = selectorThreads;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * @return The number of accepted connections each selector thread may have waiting to be registered
+     */
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+    /**
+     * @return The number of requests that may wait for a worker, connections of {@link Mode#THREAD_POOL} never wait
+     */
+    public int getWorkQueueSize() {
+        return workQueueSize;
+    }
+
+    public void setWorkQueueSize(int workQueueSize) {
+        this.workQueueSize = workQueueSize;
+    }
+
+    /**
+     * @return The upper bound on memory the non blocking engines may use for buffering incoming frames
+     */
+    public long getMaxReadBufferBytes() {
+        return maxReadBufferBytes;
+    }
+
+    public void setMaxReadBufferBytes(long maxReadBufferBytes) {
+        this.maxReadBufferBytes = maxReadBufferBytes;
+    }
+
+    /**
+     * @return The number of threads used to filter a single large batch
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return The smallest batch that is filtered in parallel, batches are never split by default
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @return True when authorize calls are filtered while being read, see {@link StreamingProtectionProcessor}
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * @return The number of distinct markings interned, see {@link MarkingDictionary}
+     */
+    public int getDictionaryCapacity() {
+        return dictionaryCapacity;
+    }
+
+    public void setDictionaryCapacity(int dictionaryCapacity) {
+        this.dictionaryCapacity = dictionaryCapacity;
+    }
+
+    /**
+     * @return The number of distinct runtime labels registered per dimension, see {@link LabelRegistry}
+     */
+    public int getLabelCapacity() {
+        return labelCapacity;
+    }
+
+    public void setLabelCapacity(int labelCapacity) {
+        this.labelCapacity = labelCapacity;
+    }
+
+    /**
+     * @return The path of the properties file holding the runtime labels the server knows, see
+     *         {@link LabelRegistry#parse}, NULL when only labels registered by code are known
+     */
+    public String getLabels() {
+        return labels;
+    }
+
+    public void setLabels(String labels) {
+        this.labels = labels;
+    }
+
+    /**
+     * @return The path of the properties file holding the group hierarchy, see {@link GroupHierarchy#parse}, NULL
+     *         when groups only match themselves
+     */
+    public String getGroupHierarchy() {
+        return groupHierarchy;
+    }
+
+    public void setGroupHierarchy(String groupHierarchy) {
+        this.groupHierarchy = groupHierarchy;
+    }
+
+    /**
+     * @return The number of seconds between two checks of the group hierarchy file for changes
+     */
+    public int getGroupHierarchyReloadInterval() {
+        return groupHierarchyReloadInterval;
+    }
+
+    public void setGroupHierarchyReloadInterval(int groupHierarchyReloadInterval) {
+        this.groupHierarchyReloadInterval = groupHierarchyReloadInterval;
+    }
+
+    /**
+     * @return The name of the {@link PolicyEngine} deciding access, {@link OlsPolicyEngine#NAME} by default
+     */
+    public String getPolicyEngine() {
+        return policyEngine;
+    }
+
+    public void setPolicyEngine(String policyEngine) {
+        this.policyEngine = policyEngine;
+    }
+
+    /**
+     * @return The number of connections the {@link Mode#VIRTUAL_THREAD} and {@link Mode#THREAD_POOL} engines serve
+     *         at once, further connections are closed once they are accepted
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * @return True when authorization is measured and published over JMX, see {@link AuthorizationMetrics}
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The class name of the {@link MetricsReporter} to run, NULL when metrics are only published over JMX
+     */
+    public String getMetricsReporter() {
+        return metricsReporter;
+    }
+
+    public void setMetricsReporter(String metricsReporter) {
+        this.metricsReporter = metricsReporter;
+    }
+
+    /**
+     * @return The number of seconds between two reports of the metrics reporter
+     */
+    public int getMetricsReportInterval() {
+        return metricsReportInterval;
+    }
+
+    public void setMetricsReportInterval(int metricsReportInterval) {
+        this.metricsReportInterval = metricsReportInterval;
+    }
+
+    /**
+     * @return The protocol calls are encoded with, see {@link WireFormat}
+     */
+    public WireFormat.Protocol getProtocol() {
+        return protocol;
+    }
+
+    public void setProtocol(WireFormat.Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * @return The framing of calls, the non blocking engines always read {@link WireFormat.Transport#FRAMED} calls
+     */
+    public WireFormat.Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(WireFormat.Transport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * @return True when the blocking engines work out the protocol and framing of each connection from its first
+     *         call, see {@link NegotiatingServerTransport}.  The configured protocol then only decides whether calls
+     *         with the compact protocol id are read as compact or tuple calls.
+     */
+    public boolean isNegotiate() {
+        return negotiate;
+    }
+
+    public void setNegotiate(boolean negotiate) {
+        this.negotiate = negotiate;
+    }
+
+    /**
+     * @return The number of microseconds a small authorize call waits for calls of users with the same permissions
+     *         to be merged with, 0 to never merge calls, see {@link CoalescingHandler}
+     */
+    public int getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(int coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    /**
+     * @return The most documents merged into a single batch, larger calls are never merged
+     */
+    public int getCoalesceMaxBatch() {
+        return coalesceMaxBatch;
+    }
+
+    public void setCoalesceMaxBatch(int coalesceMaxBatch) {
+        this.coalesceMaxBatch = coalesceMaxBatch;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSettings{" +
+                "mode=" + mode +
+                ", port=" + port +
+                ", selectorThreads=" + selectorThreads +
+                ", workerThreads=" + workerThreads +
+                ", acceptQueueSize=" + acceptQueueSize +
+                ", workQueueSize=" + workQueueSize +
+                ", maxReadBufferBytes=" + maxReadBufferBytes +
+                ", parallelism=" + parallelism +
+                ", parallelThreshold=" + parallelThreshold +
+                ", streaming=" + streaming +
+                ", dictionaryCapacity=" + dictionaryCapacity +
+                ", labelCapacity=" + labelCapacity +
+                ", labels=" + labels +
+                ", groupHierarchy=" + groupHierarchy +
+                ", groupHierarchyReloadInterval=" + groupHierarchyReloadInterval +
+                ", policyEngine=" + policyEngine +
+                ", maxConnections=" + maxConnections +
+                ", metrics=" + metrics +
+                ", metricsReporter=" + metricsReporter +
+                ", metricsReportInterval=" + metricsReportInterval +
+                ", protocol=" + protocol +
+                ", transport=" + transport +
+                ", negotiate=" + negotiate +
+                ", coalesceWindow=" + coalesceWindow +
+                ", coalesceMaxBatch=" + coalesceMaxBatch +
+                '}';
+    }
+}
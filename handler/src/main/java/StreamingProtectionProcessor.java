@@ -0,0 +1,500 @@
+import org.apache.thrift.ProcessFunction;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMap;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.scheme.StandardScheme;
+import security.ProtectionService;
+import security.User;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A processor that filters {@code authorize} calls while they are being read off the wire.  Markings are decoded
+ * straight into bitmasks, field values are carried as the raw bytes handed out by the protocol (a slice of the
+ * frame for framed and non blocking transports) and never turned into Strings, and denied documents and values are
+ * dropped before the reply is written straight to the output protocol.
+ * <p>
+ * Only protocols using the standard scheme are streamed, anything else (e.g. the tuple protocol) and every other
+ * method is handed to the generated {@link security.ProtectionService.Processor}.  Data whose markings are missing
+ * is treated as denied.
+ *
+ * @see ProtectionServiceHandler
+ */
+public class StreamingProtectionProcessor implements TProcessor {
+
+    private static final String AUTHORIZE = "authorize";
+
+    private static final TStruct RESULT_STRUCT = new TStruct("authorize_result");
+    private static final TField SUCCESS_FIELD = new TField("success", TType.LIST, (short)0);
+    private static final TStruct DOCUMENT_STRUCT = new TStruct("ProtectedDocument");
+    private static final TField FIELDS_FIELD = new TField("fields", TType.MAP, (short)1);
+    private static final TField OVERALL_MARKINGS_FIELD = new TField("overallMarkings", TType.STRUCT, (short)2);
+    private static final TField FIELDS_COVERED_FIELD = new TField("fieldsCovered", TType.BOOL, (short)3);
+    private static final TStruct KEY_STRUCT = new TStruct("ProtectedKey");
+    private static final TField NAME_FIELD = new TField("name", TType.STRING, (short)1);
+    private static final TStruct FIELD_STRUCT = new TStruct("ProtectedField");
+    private static final TField VALUE_FIELD = new TField("value", TType.STRING, (short)1);
+    private static final TField MARKINGS_FIELD = new TField("markings", TType.STRUCT, (short)2);
+    private static final TStruct CONTAINER_STRUCT = new TStruct("SecurityContainer");
+    private static final TField LEVELS_FIELD = new TField("levels", TType.SET, (short)1);
+    private static final TField GROUPS_FIELD = new TField("groups", TType.SET, (short)2);
+    private static final TField COMPARTMENTS_FIELD = new TField("compartments", TType.SET, (short)3);
+
+    private final ProtectionService.Iface iface;
+    private final Map<String, ProcessFunction<ProtectionService.Iface, ? extends TBase>> processMap;
+    private final AuthorizationMetrics metrics;
+    private final AtomicReference<GroupHierarchy> groups;
+    private final PolicyEngine policy;
+
+    public StreamingProtectionProcessor(ProtectionService.Iface iface){
+        this(iface, null);
+    }
+
+    /**
+     * @param iface - The handler that services every call that is not streamed
+     * @param metrics - The metrics the decisions of streamed calls are recorded to, NULL to record nothing.  The
+     *                handler records the calls it services itself.
+     */
+    public StreamingProtectionProcessor(ProtectionService.Iface iface, AuthorizationMetrics metrics){
+        this(iface, metrics, new AtomicReference<>(GroupHierarchy.FLAT));
+    }
+
+    /**
+     * @param iface - The handler that services every call that is not streamed
+     * @param metrics - The metrics the decisions of streamed calls are recorded to, NULL to record nothing
+     * @param groups - The group hierarchy users are compiled against, that of the handler
+     */
+    public StreamingProtectionProcessor(ProtectionService.Iface iface, AuthorizationMetrics metrics,
+                                        AtomicReference<GroupHierarchy> groups){
+        this(iface, metrics, groups, new OlsPolicyEngine());
+    }
+
+    /**
+     * @param iface - The handler that services every call that is not streamed
+     * @param metrics - The metrics the decisions of streamed calls are recorded to, NULL to record nothing
+     * @param groups - The group hierarchy users are compiled against, that of the handler
+     * @param policy - The engine compiling users into the policy their markings are decided against, that of the
+     *               handler
+     */
+    public StreamingProtectionProcessor(ProtectionService.Iface iface, AuthorizationMetrics metrics,
+                                        AtomicReference<GroupHierarchy> groups, PolicyEngine policy){
+        this.iface = iface;
+        this.metrics = metrics;
+        this.groups = groups;
+        this.policy = policy;
+        this.processMap = new ProtectionService.Processor<ProtectionService.Iface>(iface).getProcessMapView();
+    }
+
+    public boolean process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        if(AUTHORIZE.equals(message.name) && StandardScheme.class.equals(in.getScheme())){
+            authorize(message.seqid, in, out);
+            return true;
+        }
+        ProcessFunction<ProtectionService.Iface, ? extends TBase> function = processMap.get(message.name);
+        if(null == function){
+            TProtocolUtil.skip(in, TType.STRUCT);
+            in.readMessageEnd();
+            TApplicationException x = new TApplicationException(TApplicationException.UNKNOWN_METHOD, "Invalid method name: '" + message.name + "'");
+            writeException(out, message, x);
+            return true;
+        }
+        function.process(message.seqid, in, out, iface);
+        return true;
+    }
+
+    private void authorize(int seqid, TProtocol in, TProtocol out) throws TException {
+        List<StreamedDocument> documents;
+        try {
+            documents = readArguments(in);
+        } catch (TProtocolException e) {
+            in.readMessageEnd();
+            TApplicationException x = new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage());
+            writeException(out, new TMessage(AUTHORIZE, TMessageType.CALL, seqid), x);
+            return;
+        }
+        in.readMessageEnd();
+
+        out.writeMessageBegin(new TMessage(AUTHORIZE, TMessageType.REPLY, seqid));
+        out.writeStructBegin(RESULT_STRUCT);
+        out.writeFieldBegin(SUCCESS_FIELD);
+        out.writeListBegin(new TList(TType.STRUCT, documents.size()));
+        for(StreamedDocument document : documents){
+            document.write(out);
+        }
+        out.writeListEnd();
+        out.writeFieldEnd();
+        out.writeFieldStop();
+        out.writeStructEnd();
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+
+    /**
+     * Reads the {@code authorize_args} struct, keeping only the documents the requesting user can see.  The user
+     * precedes the documents on the wire, should a peer send them the other way around the documents are decided
+     * once the user has been read.  Reading and deciding are interleaved, so streamed calls record their decisions
+     * and batch size but no evaluation time.
+     *
+     * @return The visible documents in the order they were received
+     */
+    private List<StreamedDocument> readArguments(TProtocol in) throws TException {
+        Policy clearance = null;
+        DecisionTally tally = null == metrics ? null : metrics.tally();
+        int received = 0;
+        List<StreamedDocument> documents = new ArrayList<>(0);
+        List<StreamedDocument> undecided = null;
+        in.readStructBegin();
+        while(true){
+            TField field = in.readFieldBegin();
+            if(field.type == TType.STOP){
+                break;
+            }
+            if(field.id == 1 && field.type == TType.STRUCT){
+                User user = new User();
+                user.read(in);
+                clearance = policy.compile(user, groups.get());
+            } else if(field.id == 2 && field.type == TType.LIST){
+                TList list = in.readListBegin();
+                if(null == clearance){
+                    undecided = new ArrayList<>(list.size);
+                }
+                documents = new ArrayList<>(list.size);
+                for(int i = 0; i < list.size; i++){
+                    if(list.elemType != TType.STRUCT){
+                        TProtocolUtil.skip(in, list.elemType);
+                        continue;
+                    }
+                    StreamedDocument document = StreamedDocument.read(in, clearance, tally);
+                    received++;
+                    if(null != undecided){
+                        undecided.add(document);
+                    } else if(document.isVisible()){
+                        documents.add(document);
+                    }
+                }
+                in.readListEnd();
+            } else {
+                TProtocolUtil.skip(in, field.type);
+            }
+            in.readFieldEnd();
+        }
+        in.readStructEnd();
+
+        if(null == clearance){
+            return new ArrayList<>(0);
+        }
+        if(null != undecided){
+            for(StreamedDocument document : undecided){
+                if(document.decide(clearance, tally)){
+                    documents.add(document);
+                }
+            }
+        }
+        if(null != tally){
+            metrics.flush(tally);
+            metrics.recordBatch(received);
+        }
+        return documents;
+    }
+
+    private static void writeException(TProtocol out, TMessage message, TApplicationException x) throws TException {
+        out.writeMessageBegin(new TMessage(message.name, TMessageType.EXCEPTION, message.seqid));
+        x.write(out);
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+
+    /**
+     * Reads a {@code SecurityContainer} into three masks stored at the supplied offset.
+     *
+     * @return True when the container was present, False when the field held another type and was skipped
+     */
+    private static boolean readMarkings(TProtocol in, TField field, long[] masks, int offset) throws TException {
+        if(field.type != TType.STRUCT){
+            TProtocolUtil.skip(in, field.type);
+            return false;
+        }
+        masks[offset] = 0L;
+        masks[offset + 1] = 0L;
+        masks[offset + 2] = 0L;
+        in.readStructBegin();
+        while(true){
+            TField dimension = in.readFieldBegin();
+            if(dimension.type == TType.STOP){
+                break;
+            }
+            if(dimension.id >= 1 && dimension.id <= 3 && dimension.type == TType.SET){
+                masks[offset + dimension.id - 1] = readMask(in);
+            } else {
+                TProtocolUtil.skip(in, dimension.type);
+            }
+            in.readFieldEnd();
+        }
+        in.readStructEnd();
+        return true;
+    }
+
+    private static long readMask(TProtocol in) throws TException {
+        TSet set = in.readSetBegin();
+        long mask = 0L;
+        for(int i = 0; i < set.size; i++){
+            if(set.elemType != TType.I32){
+                TProtocolUtil.skip(in, set.elemType);
+                continue;
+            }
+            int value = in.readI32();
+            if(value < 0 || value >= Long.SIZE){
+                throw new TProtocolException(TProtocolException.INVALID_DATA, "Label value " + value + " is out of range");
+            }
+            mask |= 1L << value;
+        }
+        in.readSetEnd();
+        return mask;
+    }
+
+    private static void writeMarkings(TProtocol out, long[] masks, int offset) throws TException {
+        out.writeStructBegin(CONTAINER_STRUCT);
+        writeMask(out, LEVELS_FIELD, masks[offset]);
+        writeMask(out, GROUPS_FIELD, masks[offset + 1]);
+        writeMask(out, COMPARTMENTS_FIELD, masks[offset + 2]);
+        out.writeFieldStop();
+        out.writeStructEnd();
+    }
+
+    private static void writeMask(TProtocol out, TField field, long mask) throws TException {
+        out.writeFieldBegin(field);
+        out.writeSetBegin(new TSet(TType.I32, Long.bitCount(mask)));
+        while(mask != 0L){
+            out.writeI32(Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        out.writeSetEnd();
+        out.writeFieldEnd();
+    }
+
+    /**
+     * A document held as parallel arrays of raw keys, raw values and marking masks.
+     */
+    private static final class StreamedDocument {
+
+        private static final int MASKS_PER_CONTAINER = 3;
+
+        private final long[] overallMarkings = new long[MASKS_PER_CONTAINER];
+        private boolean marked;
+        private boolean covered;
+        private boolean visible;
+        private boolean hasFields;
+        private int size;
+        private ByteBuffer[] keys;
+        private ByteBuffer[] values;
+        private long[] markings;
+        private boolean[] fieldMarked;
+
+        /**
+         * @param clearance - The compiled accesses to decide visibility with, NULL to defer the decision
+         * @param tally - The tally the decisions are counted in, NULL to count nothing
+         */
+        static StreamedDocument read(TProtocol in, Policy clearance, DecisionTally tally) throws TException {
+            StreamedDocument document = new StreamedDocument();
+            in.readStructBegin();
+            while(true){
+                TField field = in.readFieldBegin();
+                if(field.type == TType.STOP){
+                    break;
+                }
+                if(field.id == 1 && field.type == TType.MAP){
+                    document.readFields(in);
+                } else if(field.id == 2){
+                    document.marked = readMarkings(in, field, document.overallMarkings, 0);
+                } else if(field.id == 3 && field.type == TType.BOOL){
+                    document.covered = in.readBool();
+                } else {
+                    TProtocolUtil.skip(in, field.type);
+                }
+                in.readFieldEnd();
+            }
+            in.readStructEnd();
+            if(null != clearance){
+                document.decide(clearance, tally);
+            }
+            return document;
+        }
+
+        private void readFields(TProtocol in) throws TException {
+            TMap map = in.readMapBegin();
+            hasFields = true;
+            keys = new ByteBuffer[map.size];
+            values = new ByteBuffer[map.size];
+            markings = new long[map.size * MASKS_PER_CONTAINER];
+            fieldMarked = new boolean[map.size];
+            for(int i = 0; i < map.size; i++){
+                if(map.keyType != TType.STRUCT || map.valueType != TType.STRUCT){
+                    TProtocolUtil.skip(in, map.keyType);
+                    TProtocolUtil.skip(in, map.valueType);
+                    continue;
+                }
+                keys[size] = readKey(in);
+                readField(in, size);
+                size++;
+            }
+            in.readMapEnd();
+        }
+
+        private static ByteBuffer readKey(TProtocol in) throws TException {
+            ByteBuffer name = null;
+            in.readStructBegin();
+            while(true){
+                TField field = in.readFieldBegin();
+                if(field.type == TType.STOP){
+                    break;
+                }
+                if(field.id == 1 && field.type == TType.STRING){
+                    name = in.readBinary();
+                } else {
+                    TProtocolUtil.skip(in, field.type);
+                }
+                in.readFieldEnd();
+            }
+            in.readStructEnd();
+            return name;
+        }
+
+        private void readField(TProtocol in, int index) throws TException {
+            in.readStructBegin();
+            while(true){
+                TField field = in.readFieldBegin();
+                if(field.type == TType.STOP){
+                    break;
+                }
+                if(field.id == 1 && field.type == TType.STRING){
+                    values[index] = in.readBinary();
+                } else if(field.id == 2){
+                    fieldMarked[index] = readMarkings(in, field, markings, index * MASKS_PER_CONTAINER);
+                } else {
+                    TProtocolUtil.skip(in, field.type);
+                }
+                in.readFieldEnd();
+            }
+            in.readStructEnd();
+        }
+
+        /**
+         * Decides the visibility of the document and drops the values of the fields that can not be seen.
+         *
+         * @param tally - The tally the decisions are counted in, NULL to count nothing
+         * @return True when the document can be seen, False otherwise
+         */
+        boolean decide(Policy clearance, DecisionTally tally){
+            int denials = marked ? denials(clearance, overallMarkings, 0) : DecisionTally.UNMARKED;
+            if(null != tally){
+                tally.document(denials);
+            }
+            visible = denials == 0;
+            if(!visible){
+                keys = null;
+                values = null;
+                markings = null;
+                return false;
+            }
+            if(covered && clearance.supportsCovering()){
+                if(null != tally){
+                    tally.covered(size);
+                }
+                return true;
+            }
+            for(int i = 0; i < size; i++){
+                int offset = i * MASKS_PER_CONTAINER;
+                denials = fieldMarked[i] ? denials(clearance, markings, offset) : DecisionTally.UNMARKED;
+                if(null != tally){
+                    tally.field(denials);
+                }
+                if(denials != 0){
+                    values[i] = null;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Decides the markings at the supplied offset, labels without a value this server knows being unknown, see
+         * {@link MarkingEvaluator#checked}.  The masks themselves are written back as they were read.
+         */
+        private static int denials(Policy clearance, long[] masks, int offset){
+            long groups = masks[offset + 1];
+            long compartments = masks[offset + 2];
+            return clearance.denials(MarkingEvaluator.checked(masks[offset], groups, compartments), groups, compartments);
+        }
+
+        boolean isVisible(){
+            return visible;
+        }
+
+        void write(TProtocol out) throws TException {
+            out.writeStructBegin(DOCUMENT_STRUCT);
+            if(hasFields){
+                out.writeFieldBegin(FIELDS_FIELD);
+                out.writeMapBegin(new TMap(TType.STRUCT, TType.STRUCT, size));
+                for(int i = 0; i < size; i++){
+                    writeKey(out, keys[i]);
+                    writeField(out, i);
+                }
+                out.writeMapEnd();
+                out.writeFieldEnd();
+            }
+            out.writeFieldBegin(OVERALL_MARKINGS_FIELD);
+            writeMarkings(out, overallMarkings, 0);
+            out.writeFieldEnd();
+            if(covered){
+                out.writeFieldBegin(FIELDS_COVERED_FIELD);
+                out.writeBool(true);
+                out.writeFieldEnd();
+            }
+            out.writeFieldStop();
+            out.writeStructEnd();
+        }
+
+        private static void writeKey(TProtocol out, ByteBuffer name) throws TException {
+            out.writeStructBegin(KEY_STRUCT);
+            if(null != name){
+                out.writeFieldBegin(NAME_FIELD);
+                out.writeBinary(name);
+                out.writeFieldEnd();
+            }
+            out.writeFieldStop();
+            out.writeStructEnd();
+        }
+
+        private void writeField(TProtocol out, int index) throws TException {
+            out.writeStructBegin(FIELD_STRUCT);
+            if(null != values[index]){
+                out.writeFieldBegin(VALUE_FIELD);
+                out.writeBinary(values[index]);
+                out.writeFieldEnd();
+            }
+            if(fieldMarked[index]){
+                out.writeFieldBegin(MARKINGS_FIELD);
+                writeMarkings(out, markings, index * MASKS_PER_CONTAINER);
+                out.writeFieldEnd();
+            }
+            out.writeFieldStop();
+            out.writeStructEnd();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A blocking server serving each connection on its own virtual thread.  A virtual thread parked on a socket read
+ * costs a few hundred bytes rather than a platform thread's stack, so thousands of long lived, mostly idle
+ * connections can be held open while requests are served in the plain blocking style of {@link TServer}.
+ * <p>
+ * Connections beyond the configured cap are closed as soon as they are accepted, leaving clients to retry or fail
+ * over rather than queueing behind connections that may never close.
+ *
+ * @see ServerSettings.Mode#VIRTUAL_THREAD
+ */
+public class VirtualThreadServer extends TServer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadServer.class);
+
+    private final Semaphore connections;
+    private final AuthorizationMetrics metrics;
+    private final Thread.Builder threads = Thread.ofVirtual().name("authorization-connection-", 0);
+
+    private volatile boolean stopped;
+
+    /**
+     * @param args - The transport, processor and protocols to serve
+     * @param maxConnections - The number of connections served at once
+     * @param metrics - The metrics connections are recorded to, NULL to record nothing
+     */
+    public VirtualThreadServer(AbstractServerArgs args, int maxConnections, AuthorizationMetrics metrics){
+        super(args);
+        if(maxConnections < 1){
+            throw new IllegalArgumentException("maxConnections must be positive but was " + maxConnections);
+        }
+        this.connections = new Semaphore(maxConnections);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void serve() {
+        try {
+            serverTransport_.listen();
+        } catch (TTransportException e) {
+            LOG.error("Error occurred during listening.", e);
+            return;
+        }
+        if(null != eventHandler_){
+            eventHandler_.preServe();
+        }
+        stopped = false;
+        setServing(true);
+        while(!stopped){
+            TTransport client;
+            try {
+                client = serverTransport_.accept();
+            } catch (TTransportException e) {
+                if(!stopped){
+                    LOG.warn("Transport error occurred during acceptance of message.", e);
+                }
+                continue;
+            }
+            if(!connections.tryAcquire()){
+                if(null != metrics){
+                    metrics.connectionRejected();
+                }
+                client.close();
+                continue;
+            }
+            threads.start(new Connection(client));
+        }
+        setServing(false);
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        serverTransport_.interrupt();
+    }
+
+    /**
+     * Serves the requests of one connection until the client goes away.
+     */
+    private class Connection implements Runnable {
+
+        private final TTransport client;
+
+        Connection(TTransport client){
+            this.client = client;
+        }
+
+        public void run() {
+            long opened = System.nanoTime();
+            long requests = 0;
+            if(null != metrics){
+                metrics.connectionOpened();
+            }
+            TTransport inputTransport = null;
+            TTransport outputTransport = null;
+            TProtocol inputProtocol = null;
+            TProtocol outputProtocol = null;
+            ServerContext context = null;
+            try {
+                TProcessor processor = processorFactory_.getProcessor(client);
+                inputTransport = inputTransportFactory_.getTransport(client);
+                outputTransport = outputTransportFactory_.getTransport(client);
+                inputProtocol = inputProtocolFactory_.getProtocol(inputTransport);
+                outputProtocol = outputProtocolFactory_.getProtocol(outputTransport);
+                if(null != eventHandler_){
+                    context = eventHandler_.createContext(inputProtocol, outputProtocol);
+                }
+                while(!stopped){
+                    if(null != eventHandler_){
+                        eventHandler_.processContext(context, inputTransport, outputTransport);
+                    }
+                    if(!processor.process(inputProtocol, outputProtocol)){
+                        break;
+                    }
+                    requests++;
+                }
+            } catch (TTransportException e) {
+                // the client went away
+            } catch (TException e) {
+                LOG.error("Thrift error occurred during processing of message.", e);
+            } catch (RuntimeException e) {
+                LOG.error("Error occurred during processing of message.", e);
+            } finally {
+                if(null != eventHandler_){
+                    eventHandler_.deleteContext(context, inputProtocol, outputProtocol);
+                }
+                if(null != inputTransport){
+                    inputTransport.close();
+                }
+                if(null != outputTransport){
+                    outputTransport.close();
+                }
+                client.close();
+                connections.release();
+                if(null != metrics){
+                    metrics.connectionClosed(System.nanoTime() - opened, requests);
+                }
+            }
+        }
+    }
+}
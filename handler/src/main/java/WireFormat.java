@@ -0,0 +1,85 @@
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportFactory;
+
+/**
+ * The protocols and transports the server and its clients can be run with.  Both sides must agree, unless the
+ * server negotiates, see {@link NegotiatingServerTransport}.
+ */
+public final class WireFormat {
+
+    /**
+     * The encodings of a call.  The compact protocol encodes the repeated sets and keys of a batch in roughly half the
+     * bytes of the binary one, the tuple protocol drops field headers altogether but can not be told apart from the
+     * compact protocol on the wire.
+     */
+    public enum Protocol {
+        BINARY,
+        COMPACT,
+        TUPLE
+    }
+
+    /**
+     * The framings of a call.  The non blocking engines only read {@link #FRAMED} calls.
+     */
+    public enum Transport {
+        /** Calls are written straight to the socket */
+        UNFRAMED,
+        /** Every call is preceded by its length */
+        FRAMED,
+        /** Every call is deflated and preceded by its lengths, see {@link CompressedFramedTransport} */
+        COMPRESSED
+    }
+
+    private WireFormat(){
+    }
+
+    /**
+     * @param protocol - The protocol to encode calls with
+     * @return A factory of the supplied protocol
+     */
+    public static TProtocolFactory protocolFactory(Protocol protocol){
+        switch (protocol){
+            case COMPACT:
+                return new TCompactProtocol.Factory();
+            case TUPLE:
+                return new TTupleProtocol.Factory();
+            case BINARY:
+            default:
+                return new TBinaryProtocol.Factory();
+        }
+    }
+
+    /**
+     * @param transport - The framing to wrap connections in
+     * @return A factory wrapping connections in the supplied framing
+     */
+    public static TTransportFactory transportFactory(Transport transport){
+        switch (transport){
+            case FRAMED:
+                return new TFramedTransport.Factory();
+            case COMPRESSED:
+                return new CompressedFramedTransport.Factory();
+            case UNFRAMED:
+            default:
+                return new TTransportFactory();
+        }
+    }
+
+    /**
+     * Builds the client side of a connection.
+     *
+     * @param connection - The connection to the server, e.g. a {@link org.apache.thrift.transport.TSocket}
+     * @param protocol - The protocol the server expects
+     * @param transport - The framing the server expects
+     * @return The protocol to hand to a {@link security.ProtectionService.Client}
+     */
+    public static TProtocol client(TTransport connection, Protocol protocol, Transport transport){
+        return protocolFactory(protocol).getProtocol(transportFactory(transport).getTransport(connection));
+    }
+}
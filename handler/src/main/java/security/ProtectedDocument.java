@@ -44,6 +44,7 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
 
   private static final org.apache.thrift.protocol.TField FIELDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fields", org.apache.thrift.protocol.TType.MAP, (short)1);
   private static final org.apache.thrift.protocol.TField OVERALL_MARKINGS_FIELD_DESC = new org.apache.thrift.protocol.TField("overallMarkings", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+  private static final org.apache.thrift.protocol.TField FIELDS_COVERED_FIELD_DESC = new org.apache.thrift.protocol.TField("fieldsCovered", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -53,11 +54,13 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
 
   public Map<ProtectedKey,ProtectedField> fields; // required
   public SecurityContainer overallMarkings; // required
+  public boolean fieldsCovered; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     FIELDS((short)1, "fields"),
-    OVERALL_MARKINGS((short)2, "overallMarkings");
+    OVERALL_MARKINGS((short)2, "overallMarkings"),
+    FIELDS_COVERED((short)3, "fieldsCovered");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -76,6 +79,8 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
           return FIELDS;
         case 2: // OVERALL_MARKINGS
           return OVERALL_MARKINGS;
+        case 3: // FIELDS_COVERED
+          return FIELDS_COVERED;
         default:
           return null;
       }
@@ -116,6 +121,9 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
   }
 
   // isset id assignments
+  private static final int __FIELDS_COVERED_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.FIELDS_COVERED};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -125,6 +133,8 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
             new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedField.class))));
     tmpMap.put(_Fields.OVERALL_MARKINGS, new org.apache.thrift.meta_data.FieldMetaData("overallMarkings", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SecurityContainer.class)));
+    tmpMap.put(_Fields.FIELDS_COVERED, new org.apache.thrift.meta_data.FieldMetaData("fieldsCovered", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ProtectedDocument.class, metaDataMap);
   }
@@ -145,6 +155,7 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
    * Performs a deep copy on <i>other</i>.
    */
   public ProtectedDocument(ProtectedDocument other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetFields()) {
       Map<ProtectedKey,ProtectedField> __this__fields = new HashMap<ProtectedKey,ProtectedField>(other.fields.size());
       for (Map.Entry<ProtectedKey, ProtectedField> other_element : other.fields.entrySet()) {
@@ -163,6 +174,7 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
     if (other.isSetOverallMarkings()) {
       this.overallMarkings = new SecurityContainer(other.overallMarkings);
     }
+    this.fieldsCovered = other.fieldsCovered;
   }
 
   public ProtectedDocument deepCopy() {
@@ -173,6 +185,8 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
   public void clear() {
     this.fields = null;
     this.overallMarkings = null;
+    setFieldsCoveredIsSet(false);
+    this.fieldsCovered = false;
   }
 
   public int getFieldsSize() {
@@ -234,6 +248,29 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
     }
   }
 
+  public boolean isFieldsCovered() {
+    return this.fieldsCovered;
+  }
+
+  public ProtectedDocument setFieldsCovered(boolean fieldsCovered) {
+    this.fieldsCovered = fieldsCovered;
+    setFieldsCoveredIsSet(true);
+    return this;
+  }
+
+  public void unsetFieldsCovered() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FIELDS_COVERED_ISSET_ID);
+  }
+
+  /** Returns true if field fieldsCovered is set (has been assigned a value) and false otherwise */
+  public boolean isSetFieldsCovered() {
+    return EncodingUtils.testBit(__isset_bitfield, __FIELDS_COVERED_ISSET_ID);
+  }
+
+  public void setFieldsCoveredIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FIELDS_COVERED_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case FIELDS:
@@ -252,6 +289,14 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
       }
       break;
 
+    case FIELDS_COVERED:
+      if (value == null) {
+        unsetFieldsCovered();
+      } else {
+        setFieldsCovered((Boolean)value);
+      }
+      break;
+
     }
   }
 
@@ -263,6 +308,9 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
     case OVERALL_MARKINGS:
       return getOverallMarkings();
 
+    case FIELDS_COVERED:
+      return Boolean.valueOf(isFieldsCovered());
+
     }
     throw new IllegalStateException();
   }
@@ -278,6 +326,8 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
       return isSetFields();
     case OVERALL_MARKINGS:
       return isSetOverallMarkings();
+    case FIELDS_COVERED:
+      return isSetFieldsCovered();
     }
     throw new IllegalStateException();
   }
@@ -313,6 +363,15 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
         return false;
     }
 
+    boolean this_present_fieldsCovered = true && this.isSetFieldsCovered();
+    boolean that_present_fieldsCovered = true && that.isSetFieldsCovered();
+    if (this_present_fieldsCovered || that_present_fieldsCovered) {
+      if (!(this_present_fieldsCovered && that_present_fieldsCovered))
+        return false;
+      if (this.fieldsCovered != that.fieldsCovered)
+        return false;
+    }
+
     return true;
   }
 
@@ -330,6 +389,11 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
     if (present_overallMarkings)
       list.add(overallMarkings);
 
+    boolean present_fieldsCovered = true && (isSetFieldsCovered());
+    list.add(present_fieldsCovered);
+    if (present_fieldsCovered)
+      list.add(fieldsCovered);
+
     return list.hashCode();
   }
 
@@ -361,6 +425,16 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetFieldsCovered()).compareTo(other.isSetFieldsCovered());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFieldsCovered()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fieldsCovered, other.fieldsCovered);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -396,6 +470,12 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
       sb.append(this.overallMarkings);
     }
     first = false;
+    if (isSetFieldsCovered()) {
+      if (!first) sb.append(", ");
+      sb.append("fieldsCovered:");
+      sb.append(this.fieldsCovered);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -418,6 +498,8 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -473,6 +555,14 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // FIELDS_COVERED
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.fieldsCovered = iprot.readBool();
+              struct.setFieldsCoveredIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -506,6 +596,11 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
         struct.overallMarkings.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetFieldsCovered()) {
+        oprot.writeFieldBegin(FIELDS_COVERED_FIELD_DESC);
+        oprot.writeBool(struct.fieldsCovered);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -530,7 +625,10 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
       if (struct.isSetOverallMarkings()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetFieldsCovered()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetFields()) {
         {
           oprot.writeI32(struct.fields.size());
@@ -544,12 +642,15 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
       if (struct.isSetOverallMarkings()) {
         struct.overallMarkings.write(oprot);
       }
+      if (struct.isSetFieldsCovered()) {
+        oprot.writeBool(struct.fieldsCovered);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, ProtectedDocument struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         {
           org.apache.thrift.protocol.TMap _map30 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRUCT, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
@@ -572,6 +673,10 @@ public class ProtectedDocument implements org.apache.thrift.TBase<ProtectedDocum
         struct.overallMarkings.read(iprot);
         struct.setOverallMarkingsIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.fieldsCovered = iprot.readBool();
+        struct.setFieldsCoveredIsSet(true);
+      }
     }
   }
 
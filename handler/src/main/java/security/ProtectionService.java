@@ -47,12 +47,36 @@ public class ProtectionService {
 
     public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> fields) throws org.apache.thrift.TException;
 
+    public List<VisibilityMask> authorizeMany(List<User> users, List<ProtectedDocument> documents) throws org.apache.thrift.TException;
+
+    public VisibilityMask authorizeMask(User user, List<ProtectedDocument> documents) throws org.apache.thrift.TException;
+
+    public VisibilityMask authorizeMarkings(User user, List<MarkedDocument> documents) throws org.apache.thrift.TException;
+
+    public List<EncodedDocument> authorizeEncoded(User user, EncodedBatch batch) throws org.apache.thrift.TException;
+
+    public List<PackedDocument> authorizePacked(User user, List<PackedDocument> documents) throws org.apache.thrift.TException;
+
+    public List<LabeledDocument> authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
 
     public void authorize(User user, List<ProtectedDocument> fields, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void authorizeMany(List<User> users, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void authorizeMask(User user, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void authorizeMarkings(User user, List<MarkedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void authorizeEncoded(User user, EncodedBatch batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void authorizePacked(User user, List<PackedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void authorizeLabeled(LabeledUser user, List<LabeledDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -99,6 +123,150 @@ public class ProtectionService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorize failed: unknown result");
     }
 
+    public List<VisibilityMask> authorizeMany(List<User> users, List<ProtectedDocument> documents) throws org.apache.thrift.TException
+    {
+      send_authorizeMany(users, documents);
+      return recv_authorizeMany();
+    }
+
+    public void send_authorizeMany(List<User> users, List<ProtectedDocument> documents) throws org.apache.thrift.TException
+    {
+      authorizeMany_args args = new authorizeMany_args();
+      args.setUsers(users);
+      args.setDocuments(documents);
+      sendBase("authorizeMany", args);
+    }
+
+    public List<VisibilityMask> recv_authorizeMany() throws org.apache.thrift.TException
+    {
+      authorizeMany_result result = new authorizeMany_result();
+      receiveBase(result, "authorizeMany");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizeMany failed: unknown result");
+    }
+
+    public VisibilityMask authorizeMask(User user, List<ProtectedDocument> documents) throws org.apache.thrift.TException
+    {
+      send_authorizeMask(user, documents);
+      return recv_authorizeMask();
+    }
+
+    public void send_authorizeMask(User user, List<ProtectedDocument> documents) throws org.apache.thrift.TException
+    {
+      authorizeMask_args args = new authorizeMask_args();
+      args.setUser(user);
+      args.setDocuments(documents);
+      sendBase("authorizeMask", args);
+    }
+
+    public VisibilityMask recv_authorizeMask() throws org.apache.thrift.TException
+    {
+      authorizeMask_result result = new authorizeMask_result();
+      receiveBase(result, "authorizeMask");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizeMask failed: unknown result");
+    }
+
+    public VisibilityMask authorizeMarkings(User user, List<MarkedDocument> documents) throws org.apache.thrift.TException
+    {
+      send_authorizeMarkings(user, documents);
+      return recv_authorizeMarkings();
+    }
+
+    public void send_authorizeMarkings(User user, List<MarkedDocument> documents) throws org.apache.thrift.TException
+    {
+      authorizeMarkings_args args = new authorizeMarkings_args();
+      args.setUser(user);
+      args.setDocuments(documents);
+      sendBase("authorizeMarkings", args);
+    }
+
+    public VisibilityMask recv_authorizeMarkings() throws org.apache.thrift.TException
+    {
+      authorizeMarkings_result result = new authorizeMarkings_result();
+      receiveBase(result, "authorizeMarkings");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizeMarkings failed: unknown result");
+    }
+
+    public List<EncodedDocument> authorizeEncoded(User user, EncodedBatch batch) throws org.apache.thrift.TException
+    {
+      send_authorizeEncoded(user, batch);
+      return recv_authorizeEncoded();
+    }
+
+    public void send_authorizeEncoded(User user, EncodedBatch batch) throws org.apache.thrift.TException
+    {
+      authorizeEncoded_args args = new authorizeEncoded_args();
+      args.setUser(user);
+      args.setBatch(batch);
+      sendBase("authorizeEncoded", args);
+    }
+
+    public List<EncodedDocument> recv_authorizeEncoded() throws org.apache.thrift.TException
+    {
+      authorizeEncoded_result result = new authorizeEncoded_result();
+      receiveBase(result, "authorizeEncoded");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizeEncoded failed: unknown result");
+    }
+
+    public List<PackedDocument> authorizePacked(User user, List<PackedDocument> documents) throws org.apache.thrift.TException
+    {
+      send_authorizePacked(user, documents);
+      return recv_authorizePacked();
+    }
+
+    public void send_authorizePacked(User user, List<PackedDocument> documents) throws org.apache.thrift.TException
+    {
+      authorizePacked_args args = new authorizePacked_args();
+      args.setUser(user);
+      args.setDocuments(documents);
+      sendBase("authorizePacked", args);
+    }
+
+    public List<PackedDocument> recv_authorizePacked() throws org.apache.thrift.TException
+    {
+      authorizePacked_result result = new authorizePacked_result();
+      receiveBase(result, "authorizePacked");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizePacked failed: unknown result");
+    }
+
+    public List<LabeledDocument> authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws org.apache.thrift.TException
+    {
+      send_authorizeLabeled(user, documents);
+      return recv_authorizeLabeled();
+    }
+
+    public void send_authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws org.apache.thrift.TException
+    {
+      authorizeLabeled_args args = new authorizeLabeled_args();
+      args.setUser(user);
+      args.setDocuments(documents);
+      sendBase("authorizeLabeled", args);
+    }
+
+    public List<LabeledDocument> recv_authorizeLabeled() throws org.apache.thrift.TException
+    {
+      authorizeLabeled_result result = new authorizeLabeled_result();
+      receiveBase(result, "authorizeLabeled");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "authorizeLabeled failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -152,6 +320,216 @@ public class ProtectionService {
       }
     }
 
+    public void authorizeMany(List<User> users, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizeMany_call method_call = new authorizeMany_call(users, documents, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizeMany_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<User> users;
+      private List<ProtectedDocument> documents;
+      public authorizeMany_call(List<User> users, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.users = users;
+        this.documents = documents;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizeMany", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizeMany_args args = new authorizeMany_args();
+        args.setUsers(users);
+        args.setDocuments(documents);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<VisibilityMask> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizeMany();
+      }
+    }
+
+    public void authorizeMask(User user, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizeMask_call method_call = new authorizeMask_call(user, documents, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizeMask_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private User user;
+      private List<ProtectedDocument> documents;
+      public authorizeMask_call(User user, List<ProtectedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.documents = documents;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizeMask", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizeMask_args args = new authorizeMask_args();
+        args.setUser(user);
+        args.setDocuments(documents);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public VisibilityMask getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizeMask();
+      }
+    }
+
+    public void authorizeMarkings(User user, List<MarkedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizeMarkings_call method_call = new authorizeMarkings_call(user, documents, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizeMarkings_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private User user;
+      private List<MarkedDocument> documents;
+      public authorizeMarkings_call(User user, List<MarkedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.documents = documents;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizeMarkings", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizeMarkings_args args = new authorizeMarkings_args();
+        args.setUser(user);
+        args.setDocuments(documents);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public VisibilityMask getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizeMarkings();
+      }
+    }
+
+    public void authorizeEncoded(User user, EncodedBatch batch, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizeEncoded_call method_call = new authorizeEncoded_call(user, batch, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizeEncoded_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private User user;
+      private EncodedBatch batch;
+      public authorizeEncoded_call(User user, EncodedBatch batch, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.batch = batch;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizeEncoded", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizeEncoded_args args = new authorizeEncoded_args();
+        args.setUser(user);
+        args.setBatch(batch);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<EncodedDocument> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizeEncoded();
+      }
+    }
+
+    public void authorizePacked(User user, List<PackedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizePacked_call method_call = new authorizePacked_call(user, documents, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizePacked_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private User user;
+      private List<PackedDocument> documents;
+      public authorizePacked_call(User user, List<PackedDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.documents = documents;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizePacked", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizePacked_args args = new authorizePacked_args();
+        args.setUser(user);
+        args.setDocuments(documents);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<PackedDocument> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizePacked();
+      }
+    }
+
+    public void authorizeLabeled(LabeledUser user, List<LabeledDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      authorizeLabeled_call method_call = new authorizeLabeled_call(user, documents, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class authorizeLabeled_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private LabeledUser user;
+      private List<LabeledDocument> documents;
+      public authorizeLabeled_call(LabeledUser user, List<LabeledDocument> documents, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.documents = documents;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("authorizeLabeled", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        authorizeLabeled_args args = new authorizeLabeled_args();
+        args.setUser(user);
+        args.setDocuments(documents);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<LabeledDocument> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_authorizeLabeled();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -166,6 +544,12 @@ public class ProtectionService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("authorize", new authorize());
+      processMap.put("authorizeMany", new authorizeMany());
+      processMap.put("authorizeMask", new authorizeMask());
+      processMap.put("authorizeMarkings", new authorizeMarkings());
+      processMap.put("authorizeEncoded", new authorizeEncoded());
+      processMap.put("authorizePacked", new authorizePacked());
+      processMap.put("authorizeLabeled", new authorizeLabeled());
       return processMap;
     }
 
@@ -174,110 +558,6084 @@ public class ProtectionService {
         super("authorize");
       }
 
-      public authorize_args getEmptyArgsInstance() {
-        return new authorize_args();
+      public authorize_args getEmptyArgsInstance() {
+        return new authorize_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorize_result getResult(I iface, authorize_args args) throws org.apache.thrift.TException {
+        authorize_result result = new authorize_result();
+        result.success = iface.authorize(args.user, args.fields);
+        return result;
+      }
+    }
+
+    public static class authorizeMany<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizeMany_args> {
+      public authorizeMany() {
+        super("authorizeMany");
+      }
+
+      public authorizeMany_args getEmptyArgsInstance() {
+        return new authorizeMany_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizeMany_result getResult(I iface, authorizeMany_args args) throws org.apache.thrift.TException {
+        authorizeMany_result result = new authorizeMany_result();
+        result.success = iface.authorizeMany(args.users, args.documents);
+        return result;
+      }
+    }
+
+    public static class authorizeMask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizeMask_args> {
+      public authorizeMask() {
+        super("authorizeMask");
+      }
+
+      public authorizeMask_args getEmptyArgsInstance() {
+        return new authorizeMask_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizeMask_result getResult(I iface, authorizeMask_args args) throws org.apache.thrift.TException {
+        authorizeMask_result result = new authorizeMask_result();
+        result.success = iface.authorizeMask(args.user, args.documents);
+        return result;
+      }
+    }
+
+    public static class authorizeMarkings<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizeMarkings_args> {
+      public authorizeMarkings() {
+        super("authorizeMarkings");
+      }
+
+      public authorizeMarkings_args getEmptyArgsInstance() {
+        return new authorizeMarkings_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizeMarkings_result getResult(I iface, authorizeMarkings_args args) throws org.apache.thrift.TException {
+        authorizeMarkings_result result = new authorizeMarkings_result();
+        result.success = iface.authorizeMarkings(args.user, args.documents);
+        return result;
+      }
+    }
+
+    public static class authorizeEncoded<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizeEncoded_args> {
+      public authorizeEncoded() {
+        super("authorizeEncoded");
+      }
+
+      public authorizeEncoded_args getEmptyArgsInstance() {
+        return new authorizeEncoded_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizeEncoded_result getResult(I iface, authorizeEncoded_args args) throws org.apache.thrift.TException {
+        authorizeEncoded_result result = new authorizeEncoded_result();
+        result.success = iface.authorizeEncoded(args.user, args.batch);
+        return result;
+      }
+    }
+
+    public static class authorizePacked<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizePacked_args> {
+      public authorizePacked() {
+        super("authorizePacked");
+      }
+
+      public authorizePacked_args getEmptyArgsInstance() {
+        return new authorizePacked_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizePacked_result getResult(I iface, authorizePacked_args args) throws org.apache.thrift.TException {
+        authorizePacked_result result = new authorizePacked_result();
+        result.success = iface.authorizePacked(args.user, args.documents);
+        return result;
+      }
+    }
+
+    public static class authorizeLabeled<I extends Iface> extends org.apache.thrift.ProcessFunction<I, authorizeLabeled_args> {
+      public authorizeLabeled() {
+        super("authorizeLabeled");
+      }
+
+      public authorizeLabeled_args getEmptyArgsInstance() {
+        return new authorizeLabeled_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public authorizeLabeled_result getResult(I iface, authorizeLabeled_args args) throws org.apache.thrift.TException {
+        authorizeLabeled_result result = new authorizeLabeled_result();
+        result.success = iface.authorizeLabeled(args.user, args.documents);
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("authorize", new authorize());
+      processMap.put("authorizeMany", new authorizeMany());
+      processMap.put("authorizeMask", new authorizeMask());
+      processMap.put("authorizeMarkings", new authorizeMarkings());
+      processMap.put("authorizeEncoded", new authorizeEncoded());
+      processMap.put("authorizePacked", new authorizePacked());
+      processMap.put("authorizeLabeled", new authorizeLabeled());
+      return processMap;
+    }
+
+    public static class authorize<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorize_args, List<ProtectedDocument>> {
+      public authorize() {
+        super("authorize");
+      }
+
+      public authorize_args getEmptyArgsInstance() {
+        return new authorize_args();
+      }
+
+      public AsyncMethodCallback<List<ProtectedDocument>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<ProtectedDocument>>() { 
+          public void onComplete(List<ProtectedDocument> o) {
+            authorize_result result = new authorize_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorize_result result = new authorize_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorize_args args, org.apache.thrift.async.AsyncMethodCallback<List<ProtectedDocument>> resultHandler) throws TException {
+        iface.authorize(args.user, args.fields,resultHandler);
+      }
+    }
+
+    public static class authorizeMany<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizeMany_args, List<VisibilityMask>> {
+      public authorizeMany() {
+        super("authorizeMany");
+      }
+
+      public authorizeMany_args getEmptyArgsInstance() {
+        return new authorizeMany_args();
+      }
+
+      public AsyncMethodCallback<List<VisibilityMask>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<VisibilityMask>>() { 
+          public void onComplete(List<VisibilityMask> o) {
+            authorizeMany_result result = new authorizeMany_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizeMany_result result = new authorizeMany_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizeMany_args args, org.apache.thrift.async.AsyncMethodCallback<List<VisibilityMask>> resultHandler) throws TException {
+        iface.authorizeMany(args.users, args.documents,resultHandler);
+      }
+    }
+
+    public static class authorizeMask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizeMask_args, VisibilityMask> {
+      public authorizeMask() {
+        super("authorizeMask");
+      }
+
+      public authorizeMask_args getEmptyArgsInstance() {
+        return new authorizeMask_args();
+      }
+
+      public AsyncMethodCallback<VisibilityMask> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<VisibilityMask>() { 
+          public void onComplete(VisibilityMask o) {
+            authorizeMask_result result = new authorizeMask_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizeMask_result result = new authorizeMask_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizeMask_args args, org.apache.thrift.async.AsyncMethodCallback<VisibilityMask> resultHandler) throws TException {
+        iface.authorizeMask(args.user, args.documents,resultHandler);
+      }
+    }
+
+    public static class authorizeMarkings<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizeMarkings_args, VisibilityMask> {
+      public authorizeMarkings() {
+        super("authorizeMarkings");
+      }
+
+      public authorizeMarkings_args getEmptyArgsInstance() {
+        return new authorizeMarkings_args();
+      }
+
+      public AsyncMethodCallback<VisibilityMask> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<VisibilityMask>() { 
+          public void onComplete(VisibilityMask o) {
+            authorizeMarkings_result result = new authorizeMarkings_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizeMarkings_result result = new authorizeMarkings_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizeMarkings_args args, org.apache.thrift.async.AsyncMethodCallback<VisibilityMask> resultHandler) throws TException {
+        iface.authorizeMarkings(args.user, args.documents,resultHandler);
+      }
+    }
+
+    public static class authorizeEncoded<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizeEncoded_args, List<EncodedDocument>> {
+      public authorizeEncoded() {
+        super("authorizeEncoded");
+      }
+
+      public authorizeEncoded_args getEmptyArgsInstance() {
+        return new authorizeEncoded_args();
+      }
+
+      public AsyncMethodCallback<List<EncodedDocument>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<EncodedDocument>>() { 
+          public void onComplete(List<EncodedDocument> o) {
+            authorizeEncoded_result result = new authorizeEncoded_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizeEncoded_result result = new authorizeEncoded_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizeEncoded_args args, org.apache.thrift.async.AsyncMethodCallback<List<EncodedDocument>> resultHandler) throws TException {
+        iface.authorizeEncoded(args.user, args.batch,resultHandler);
+      }
+    }
+
+    public static class authorizePacked<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizePacked_args, List<PackedDocument>> {
+      public authorizePacked() {
+        super("authorizePacked");
+      }
+
+      public authorizePacked_args getEmptyArgsInstance() {
+        return new authorizePacked_args();
+      }
+
+      public AsyncMethodCallback<List<PackedDocument>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<PackedDocument>>() { 
+          public void onComplete(List<PackedDocument> o) {
+            authorizePacked_result result = new authorizePacked_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizePacked_result result = new authorizePacked_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizePacked_args args, org.apache.thrift.async.AsyncMethodCallback<List<PackedDocument>> resultHandler) throws TException {
+        iface.authorizePacked(args.user, args.documents,resultHandler);
+      }
+    }
+
+    public static class authorizeLabeled<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorizeLabeled_args, List<LabeledDocument>> {
+      public authorizeLabeled() {
+        super("authorizeLabeled");
+      }
+
+      public authorizeLabeled_args getEmptyArgsInstance() {
+        return new authorizeLabeled_args();
+      }
+
+      public AsyncMethodCallback<List<LabeledDocument>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<LabeledDocument>>() { 
+          public void onComplete(List<LabeledDocument> o) {
+            authorizeLabeled_result result = new authorizeLabeled_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            authorizeLabeled_result result = new authorizeLabeled_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, authorizeLabeled_args args, org.apache.thrift.async.AsyncMethodCallback<List<LabeledDocument>> resultHandler) throws TException {
+        iface.authorizeLabeled(args.user, args.documents,resultHandler);
+      }
+    }
+
+  }
+
+  public static class authorize_args implements org.apache.thrift.TBase<authorize_args, authorize_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorize_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorize_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField FIELDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fields", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorize_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorize_argsTupleSchemeFactory());
+    }
+
+    public User user; // required
+    public List<ProtectedDocument> fields; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user"),
+      FIELDS((short)2, "fields");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          case 2: // FIELDS
+            return FIELDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.FIELDS, new org.apache.thrift.meta_data.FieldMetaData("fields", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorize_args.class, metaDataMap);
+    }
+
+    public authorize_args() {
+    }
+
+    public authorize_args(
+      User user,
+      List<ProtectedDocument> fields)
+    {
+      this();
+      this.user = user;
+      this.fields = fields;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorize_args(authorize_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+      if (other.isSetFields()) {
+        List<ProtectedDocument> __this__fields = new ArrayList<ProtectedDocument>(other.fields.size());
+        for (ProtectedDocument other_element : other.fields) {
+          __this__fields.add(new ProtectedDocument(other_element));
+        }
+        this.fields = __this__fields;
+      }
+    }
+
+    public authorize_args deepCopy() {
+      return new authorize_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+      this.fields = null;
+    }
+
+    public User getUser() {
+      return this.user;
+    }
+
+    public authorize_args setUser(User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public int getFieldsSize() {
+      return (this.fields == null) ? 0 : this.fields.size();
+    }
+
+    public java.util.Iterator<ProtectedDocument> getFieldsIterator() {
+      return (this.fields == null) ? null : this.fields.iterator();
+    }
+
+    public void addToFields(ProtectedDocument elem) {
+      if (this.fields == null) {
+        this.fields = new ArrayList<ProtectedDocument>();
+      }
+      this.fields.add(elem);
+    }
+
+    public List<ProtectedDocument> getFields() {
+      return this.fields;
+    }
+
+    public authorize_args setFields(List<ProtectedDocument> fields) {
+      this.fields = fields;
+      return this;
+    }
+
+    public void unsetFields() {
+      this.fields = null;
+    }
+
+    /** Returns true if field fields is set (has been assigned a value) and false otherwise */
+    public boolean isSetFields() {
+      return this.fields != null;
+    }
+
+    public void setFieldsIsSet(boolean value) {
+      if (!value) {
+        this.fields = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      case FIELDS:
+        if (value == null) {
+          unsetFields();
+        } else {
+          setFields((List<ProtectedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      case FIELDS:
+        return getFields();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      case FIELDS:
+        return isSetFields();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorize_args)
+        return this.equals((authorize_args)that);
+      return false;
+    }
+
+    public boolean equals(authorize_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_fields = true && this.isSetFields();
+      boolean that_present_fields = true && that.isSetFields();
+      if (this_present_fields || that_present_fields) {
+        if (!(this_present_fields && that_present_fields))
+          return false;
+        if (!this.fields.equals(that.fields))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_fields = true && (isSetFields());
+      list.add(present_fields);
+      if (present_fields)
+        list.add(fields);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorize_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFields()).compareTo(other.isSetFields());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFields()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fields, other.fields);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorize_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fields:");
+      if (this.fields == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fields);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorize_argsStandardSchemeFactory implements SchemeFactory {
+      public authorize_argsStandardScheme getScheme() {
+        return new authorize_argsStandardScheme();
+      }
+    }
+
+    private static class authorize_argsStandardScheme extends StandardScheme<authorize_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorize_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FIELDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list114 = iprot.readListBegin();
+                  struct.fields = new ArrayList<ProtectedDocument>(_list114.size);
+                  ProtectedDocument _elem115;
+                  for (int _i116 = 0; _i116 < _list114.size; ++_i116)
+                  {
+                    _elem115 = new ProtectedDocument();
+                    _elem115.read(iprot);
+                    struct.fields.add(_elem115);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFieldsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorize_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fields != null) {
+          oprot.writeFieldBegin(FIELDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fields.size()));
+            for (ProtectedDocument _iter117 : struct.fields)
+            {
+              _iter117.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorize_argsTupleSchemeFactory implements SchemeFactory {
+      public authorize_argsTupleScheme getScheme() {
+        return new authorize_argsTupleScheme();
+      }
+    }
+
+    private static class authorize_argsTupleScheme extends TupleScheme<authorize_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorize_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFields()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetFields()) {
+          {
+            oprot.writeI32(struct.fields.size());
+            for (ProtectedDocument _iter118 : struct.fields)
+            {
+              _iter118.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorize_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list119 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.fields = new ArrayList<ProtectedDocument>(_list119.size);
+            ProtectedDocument _elem120;
+            for (int _i121 = 0; _i121 < _list119.size; ++_i121)
+            {
+              _elem120 = new ProtectedDocument();
+              _elem120.read(iprot);
+              struct.fields.add(_elem120);
+            }
+          }
+          struct.setFieldsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorize_result implements org.apache.thrift.TBase<authorize_result, authorize_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorize_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorize_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorize_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorize_resultTupleSchemeFactory());
+    }
+
+    public List<ProtectedDocument> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorize_result.class, metaDataMap);
+    }
+
+    public authorize_result() {
+    }
+
+    public authorize_result(
+      List<ProtectedDocument> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorize_result(authorize_result other) {
+      if (other.isSetSuccess()) {
+        List<ProtectedDocument> __this__success = new ArrayList<ProtectedDocument>(other.success.size());
+        for (ProtectedDocument other_element : other.success) {
+          __this__success.add(new ProtectedDocument(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public authorize_result deepCopy() {
+      return new authorize_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ProtectedDocument> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ProtectedDocument elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ProtectedDocument>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ProtectedDocument> getSuccess() {
+      return this.success;
+    }
+
+    public authorize_result setSuccess(List<ProtectedDocument> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<ProtectedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorize_result)
+        return this.equals((authorize_result)that);
+      return false;
+    }
+
+    public boolean equals(authorize_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorize_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorize_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorize_resultStandardSchemeFactory implements SchemeFactory {
+      public authorize_resultStandardScheme getScheme() {
+        return new authorize_resultStandardScheme();
+      }
+    }
+
+    private static class authorize_resultStandardScheme extends StandardScheme<authorize_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorize_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list122 = iprot.readListBegin();
+                  struct.success = new ArrayList<ProtectedDocument>(_list122.size);
+                  ProtectedDocument _elem123;
+                  for (int _i124 = 0; _i124 < _list122.size; ++_i124)
+                  {
+                    _elem123 = new ProtectedDocument();
+                    _elem123.read(iprot);
+                    struct.success.add(_elem123);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorize_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ProtectedDocument _iter125 : struct.success)
+            {
+              _iter125.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorize_resultTupleSchemeFactory implements SchemeFactory {
+      public authorize_resultTupleScheme getScheme() {
+        return new authorize_resultTupleScheme();
+      }
+    }
+
+    private static class authorize_resultTupleScheme extends TupleScheme<authorize_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorize_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (ProtectedDocument _iter126 : struct.success)
+            {
+              _iter126.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorize_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list127 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ProtectedDocument>(_list127.size);
+            ProtectedDocument _elem128;
+            for (int _i129 = 0; _i129 < _list127.size; ++_i129)
+            {
+              _elem128 = new ProtectedDocument();
+              _elem128.read(iprot);
+              struct.success.add(_elem128);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMany_args implements org.apache.thrift.TBase<authorizeMany_args, authorizeMany_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMany_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMany_args");
+
+    private static final org.apache.thrift.protocol.TField USERS_FIELD_DESC = new org.apache.thrift.protocol.TField("users", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField DOCUMENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("documents", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMany_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMany_argsTupleSchemeFactory());
+    }
+
+    public List<User> users; // required
+    public List<ProtectedDocument> documents; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USERS((short)1, "users"),
+      DOCUMENTS((short)2, "documents");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USERS
+            return USERS;
+          case 2: // DOCUMENTS
+            return DOCUMENTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USERS, new org.apache.thrift.meta_data.FieldMetaData("users", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
+      tmpMap.put(_Fields.DOCUMENTS, new org.apache.thrift.meta_data.FieldMetaData("documents", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMany_args.class, metaDataMap);
+    }
+
+    public authorizeMany_args() {
+    }
+
+    public authorizeMany_args(
+      List<User> users,
+      List<ProtectedDocument> documents)
+    {
+      this();
+      this.users = users;
+      this.documents = documents;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMany_args(authorizeMany_args other) {
+      if (other.isSetUsers()) {
+        List<User> __this__users = new ArrayList<User>(other.users.size());
+        for (User other_element : other.users) {
+          __this__users.add(new User(other_element));
+        }
+        this.users = __this__users;
+      }
+      if (other.isSetDocuments()) {
+        List<ProtectedDocument> __this__documents = new ArrayList<ProtectedDocument>(other.documents.size());
+        for (ProtectedDocument other_element : other.documents) {
+          __this__documents.add(new ProtectedDocument(other_element));
+        }
+        this.documents = __this__documents;
+      }
+    }
+
+    public authorizeMany_args deepCopy() {
+      return new authorizeMany_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.users = null;
+      this.documents = null;
+    }
+
+    public int getUsersSize() {
+      return (this.users == null) ? 0 : this.users.size();
+    }
+
+    public java.util.Iterator<User> getUsersIterator() {
+      return (this.users == null) ? null : this.users.iterator();
+    }
+
+    public void addToUsers(User elem) {
+      if (this.users == null) {
+        this.users = new ArrayList<User>();
+      }
+      this.users.add(elem);
+    }
+
+    public List<User> getUsers() {
+      return this.users;
+    }
+
+    public authorizeMany_args setUsers(List<User> users) {
+      this.users = users;
+      return this;
+    }
+
+    public void unsetUsers() {
+      this.users = null;
+    }
+
+    /** Returns true if field users is set (has been assigned a value) and false otherwise */
+    public boolean isSetUsers() {
+      return this.users != null;
+    }
+
+    public void setUsersIsSet(boolean value) {
+      if (!value) {
+        this.users = null;
+      }
+    }
+
+    public int getDocumentsSize() {
+      return (this.documents == null) ? 0 : this.documents.size();
+    }
+
+    public java.util.Iterator<ProtectedDocument> getDocumentsIterator() {
+      return (this.documents == null) ? null : this.documents.iterator();
+    }
+
+    public void addToDocuments(ProtectedDocument elem) {
+      if (this.documents == null) {
+        this.documents = new ArrayList<ProtectedDocument>();
+      }
+      this.documents.add(elem);
+    }
+
+    public List<ProtectedDocument> getDocuments() {
+      return this.documents;
+    }
+
+    public authorizeMany_args setDocuments(List<ProtectedDocument> documents) {
+      this.documents = documents;
+      return this;
+    }
+
+    public void unsetDocuments() {
+      this.documents = null;
+    }
+
+    /** Returns true if field documents is set (has been assigned a value) and false otherwise */
+    public boolean isSetDocuments() {
+      return this.documents != null;
+    }
+
+    public void setDocumentsIsSet(boolean value) {
+      if (!value) {
+        this.documents = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USERS:
+        if (value == null) {
+          unsetUsers();
+        } else {
+          setUsers((List<User>)value);
+        }
+        break;
+
+      case DOCUMENTS:
+        if (value == null) {
+          unsetDocuments();
+        } else {
+          setDocuments((List<ProtectedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USERS:
+        return getUsers();
+
+      case DOCUMENTS:
+        return getDocuments();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USERS:
+        return isSetUsers();
+      case DOCUMENTS:
+        return isSetDocuments();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMany_args)
+        return this.equals((authorizeMany_args)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMany_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_users = true && this.isSetUsers();
+      boolean that_present_users = true && that.isSetUsers();
+      if (this_present_users || that_present_users) {
+        if (!(this_present_users && that_present_users))
+          return false;
+        if (!this.users.equals(that.users))
+          return false;
+      }
+
+      boolean this_present_documents = true && this.isSetDocuments();
+      boolean that_present_documents = true && that.isSetDocuments();
+      if (this_present_documents || that_present_documents) {
+        if (!(this_present_documents && that_present_documents))
+          return false;
+        if (!this.documents.equals(that.documents))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_users = true && (isSetUsers());
+      list.add(present_users);
+      if (present_users)
+        list.add(users);
+
+      boolean present_documents = true && (isSetDocuments());
+      list.add(present_documents);
+      if (present_documents)
+        list.add(documents);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMany_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUsers()).compareTo(other.isSetUsers());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUsers()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.users, other.users);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDocuments()).compareTo(other.isSetDocuments());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDocuments()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.documents, other.documents);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMany_args(");
+      boolean first = true;
+
+      sb.append("users:");
+      if (this.users == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.users);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("documents:");
+      if (this.documents == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.documents);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMany_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizeMany_argsStandardScheme getScheme() {
+        return new authorizeMany_argsStandardScheme();
+      }
+    }
+
+    private static class authorizeMany_argsStandardScheme extends StandardScheme<authorizeMany_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMany_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USERS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list130 = iprot.readListBegin();
+                  struct.users = new ArrayList<User>(_list130.size);
+                  User _elem131;
+                  for (int _i132 = 0; _i132 < _list130.size; ++_i132)
+                  {
+                    _elem131 = new User();
+                    _elem131.read(iprot);
+                    struct.users.add(_elem131);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setUsersIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DOCUMENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list133 = iprot.readListBegin();
+                  struct.documents = new ArrayList<ProtectedDocument>(_list133.size);
+                  ProtectedDocument _elem134;
+                  for (int _i135 = 0; _i135 < _list133.size; ++_i135)
+                  {
+                    _elem134 = new ProtectedDocument();
+                    _elem134.read(iprot);
+                    struct.documents.add(_elem134);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDocumentsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMany_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.users != null) {
+          oprot.writeFieldBegin(USERS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.users.size()));
+            for (User _iter136 : struct.users)
+            {
+              _iter136.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.documents != null) {
+          oprot.writeFieldBegin(DOCUMENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.documents.size()));
+            for (ProtectedDocument _iter137 : struct.documents)
+            {
+              _iter137.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMany_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizeMany_argsTupleScheme getScheme() {
+        return new authorizeMany_argsTupleScheme();
+      }
+    }
+
+    private static class authorizeMany_argsTupleScheme extends TupleScheme<authorizeMany_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMany_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUsers()) {
+          optionals.set(0);
+        }
+        if (struct.isSetDocuments()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUsers()) {
+          {
+            oprot.writeI32(struct.users.size());
+            for (User _iter138 : struct.users)
+            {
+              _iter138.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetDocuments()) {
+          {
+            oprot.writeI32(struct.documents.size());
+            for (ProtectedDocument _iter139 : struct.documents)
+            {
+              _iter139.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMany_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list140 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.users = new ArrayList<User>(_list140.size);
+            User _elem141;
+            for (int _i142 = 0; _i142 < _list140.size; ++_i142)
+            {
+              _elem141 = new User();
+              _elem141.read(iprot);
+              struct.users.add(_elem141);
+            }
+          }
+          struct.setUsersIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list143 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.documents = new ArrayList<ProtectedDocument>(_list143.size);
+            ProtectedDocument _elem144;
+            for (int _i145 = 0; _i145 < _list143.size; ++_i145)
+            {
+              _elem144 = new ProtectedDocument();
+              _elem144.read(iprot);
+              struct.documents.add(_elem144);
+            }
+          }
+          struct.setDocumentsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMany_result implements org.apache.thrift.TBase<authorizeMany_result, authorizeMany_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMany_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMany_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMany_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMany_resultTupleSchemeFactory());
+    }
+
+    public List<VisibilityMask> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, VisibilityMask.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMany_result.class, metaDataMap);
+    }
+
+    public authorizeMany_result() {
+    }
+
+    public authorizeMany_result(
+      List<VisibilityMask> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMany_result(authorizeMany_result other) {
+      if (other.isSetSuccess()) {
+        List<VisibilityMask> __this__success = new ArrayList<VisibilityMask>(other.success.size());
+        for (VisibilityMask other_element : other.success) {
+          __this__success.add(new VisibilityMask(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public authorizeMany_result deepCopy() {
+      return new authorizeMany_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<VisibilityMask> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(VisibilityMask elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<VisibilityMask>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<VisibilityMask> getSuccess() {
+      return this.success;
+    }
+
+    public authorizeMany_result setSuccess(List<VisibilityMask> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<VisibilityMask>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMany_result)
+        return this.equals((authorizeMany_result)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMany_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMany_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMany_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMany_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizeMany_resultStandardScheme getScheme() {
+        return new authorizeMany_resultStandardScheme();
+      }
+    }
+
+    private static class authorizeMany_resultStandardScheme extends StandardScheme<authorizeMany_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMany_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list146 = iprot.readListBegin();
+                  struct.success = new ArrayList<VisibilityMask>(_list146.size);
+                  VisibilityMask _elem147;
+                  for (int _i148 = 0; _i148 < _list146.size; ++_i148)
+                  {
+                    _elem147 = new VisibilityMask();
+                    _elem147.read(iprot);
+                    struct.success.add(_elem147);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMany_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (VisibilityMask _iter149 : struct.success)
+            {
+              _iter149.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMany_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizeMany_resultTupleScheme getScheme() {
+        return new authorizeMany_resultTupleScheme();
+      }
+    }
+
+    private static class authorizeMany_resultTupleScheme extends TupleScheme<authorizeMany_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMany_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (VisibilityMask _iter150 : struct.success)
+            {
+              _iter150.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMany_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list151 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<VisibilityMask>(_list151.size);
+            VisibilityMask _elem152;
+            for (int _i153 = 0; _i153 < _list151.size; ++_i153)
+            {
+              _elem152 = new VisibilityMask();
+              _elem152.read(iprot);
+              struct.success.add(_elem152);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMask_args implements org.apache.thrift.TBase<authorizeMask_args, authorizeMask_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMask_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMask_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField DOCUMENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("documents", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMask_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMask_argsTupleSchemeFactory());
+    }
+
+    public User user; // required
+    public List<ProtectedDocument> documents; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user"),
+      DOCUMENTS((short)2, "documents");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          case 2: // DOCUMENTS
+            return DOCUMENTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.DOCUMENTS, new org.apache.thrift.meta_data.FieldMetaData("documents", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMask_args.class, metaDataMap);
+    }
+
+    public authorizeMask_args() {
+    }
+
+    public authorizeMask_args(
+      User user,
+      List<ProtectedDocument> documents)
+    {
+      this();
+      this.user = user;
+      this.documents = documents;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMask_args(authorizeMask_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+      if (other.isSetDocuments()) {
+        List<ProtectedDocument> __this__documents = new ArrayList<ProtectedDocument>(other.documents.size());
+        for (ProtectedDocument other_element : other.documents) {
+          __this__documents.add(new ProtectedDocument(other_element));
+        }
+        this.documents = __this__documents;
+      }
+    }
+
+    public authorizeMask_args deepCopy() {
+      return new authorizeMask_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+      this.documents = null;
+    }
+
+    public User getUser() {
+      return this.user;
+    }
+
+    public authorizeMask_args setUser(User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public int getDocumentsSize() {
+      return (this.documents == null) ? 0 : this.documents.size();
+    }
+
+    public java.util.Iterator<ProtectedDocument> getDocumentsIterator() {
+      return (this.documents == null) ? null : this.documents.iterator();
+    }
+
+    public void addToDocuments(ProtectedDocument elem) {
+      if (this.documents == null) {
+        this.documents = new ArrayList<ProtectedDocument>();
+      }
+      this.documents.add(elem);
+    }
+
+    public List<ProtectedDocument> getDocuments() {
+      return this.documents;
+    }
+
+    public authorizeMask_args setDocuments(List<ProtectedDocument> documents) {
+      this.documents = documents;
+      return this;
+    }
+
+    public void unsetDocuments() {
+      this.documents = null;
+    }
+
+    /** Returns true if field documents is set (has been assigned a value) and false otherwise */
+    public boolean isSetDocuments() {
+      return this.documents != null;
+    }
+
+    public void setDocumentsIsSet(boolean value) {
+      if (!value) {
+        this.documents = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      case DOCUMENTS:
+        if (value == null) {
+          unsetDocuments();
+        } else {
+          setDocuments((List<ProtectedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      case DOCUMENTS:
+        return getDocuments();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      case DOCUMENTS:
+        return isSetDocuments();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMask_args)
+        return this.equals((authorizeMask_args)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMask_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_documents = true && this.isSetDocuments();
+      boolean that_present_documents = true && that.isSetDocuments();
+      if (this_present_documents || that_present_documents) {
+        if (!(this_present_documents && that_present_documents))
+          return false;
+        if (!this.documents.equals(that.documents))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_documents = true && (isSetDocuments());
+      list.add(present_documents);
+      if (present_documents)
+        list.add(documents);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMask_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDocuments()).compareTo(other.isSetDocuments());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDocuments()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.documents, other.documents);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMask_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("documents:");
+      if (this.documents == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.documents);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMask_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizeMask_argsStandardScheme getScheme() {
+        return new authorizeMask_argsStandardScheme();
+      }
+    }
+
+    private static class authorizeMask_argsStandardScheme extends StandardScheme<authorizeMask_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMask_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DOCUMENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list154 = iprot.readListBegin();
+                  struct.documents = new ArrayList<ProtectedDocument>(_list154.size);
+                  ProtectedDocument _elem155;
+                  for (int _i156 = 0; _i156 < _list154.size; ++_i156)
+                  {
+                    _elem155 = new ProtectedDocument();
+                    _elem155.read(iprot);
+                    struct.documents.add(_elem155);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDocumentsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMask_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.documents != null) {
+          oprot.writeFieldBegin(DOCUMENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.documents.size()));
+            for (ProtectedDocument _iter157 : struct.documents)
+            {
+              _iter157.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMask_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizeMask_argsTupleScheme getScheme() {
+        return new authorizeMask_argsTupleScheme();
+      }
+    }
+
+    private static class authorizeMask_argsTupleScheme extends TupleScheme<authorizeMask_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        if (struct.isSetDocuments()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetDocuments()) {
+          {
+            oprot.writeI32(struct.documents.size());
+            for (ProtectedDocument _iter158 : struct.documents)
+            {
+              _iter158.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list159 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.documents = new ArrayList<ProtectedDocument>(_list159.size);
+            ProtectedDocument _elem160;
+            for (int _i161 = 0; _i161 < _list159.size; ++_i161)
+            {
+              _elem160 = new ProtectedDocument();
+              _elem160.read(iprot);
+              struct.documents.add(_elem160);
+            }
+          }
+          struct.setDocumentsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMask_result implements org.apache.thrift.TBase<authorizeMask_result, authorizeMask_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMask_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMask_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMask_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMask_resultTupleSchemeFactory());
+    }
+
+    public VisibilityMask success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, VisibilityMask.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMask_result.class, metaDataMap);
+    }
+
+    public authorizeMask_result() {
+    }
+
+    public authorizeMask_result(
+      VisibilityMask success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMask_result(authorizeMask_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new VisibilityMask(other.success);
+      }
+    }
+
+    public authorizeMask_result deepCopy() {
+      return new authorizeMask_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public VisibilityMask getSuccess() {
+      return this.success;
+    }
+
+    public authorizeMask_result setSuccess(VisibilityMask success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((VisibilityMask)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMask_result)
+        return this.equals((authorizeMask_result)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMask_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMask_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMask_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMask_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizeMask_resultStandardScheme getScheme() {
+        return new authorizeMask_resultStandardScheme();
+      }
+    }
+
+    private static class authorizeMask_resultStandardScheme extends StandardScheme<authorizeMask_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMask_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new VisibilityMask();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMask_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMask_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizeMask_resultTupleScheme getScheme() {
+        return new authorizeMask_resultTupleScheme();
+      }
+    }
+
+    private static class authorizeMask_resultTupleScheme extends TupleScheme<authorizeMask_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new VisibilityMask();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMarkings_args implements org.apache.thrift.TBase<authorizeMarkings_args, authorizeMarkings_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMarkings_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMarkings_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField DOCUMENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("documents", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMarkings_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMarkings_argsTupleSchemeFactory());
+    }
+
+    public User user; // required
+    public List<MarkedDocument> documents; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user"),
+      DOCUMENTS((short)2, "documents");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          case 2: // DOCUMENTS
+            return DOCUMENTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.DOCUMENTS, new org.apache.thrift.meta_data.FieldMetaData("documents", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MarkedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMarkings_args.class, metaDataMap);
+    }
+
+    public authorizeMarkings_args() {
+    }
+
+    public authorizeMarkings_args(
+      User user,
+      List<MarkedDocument> documents)
+    {
+      this();
+      this.user = user;
+      this.documents = documents;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMarkings_args(authorizeMarkings_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+      if (other.isSetDocuments()) {
+        List<MarkedDocument> __this__documents = new ArrayList<MarkedDocument>(other.documents.size());
+        for (MarkedDocument other_element : other.documents) {
+          __this__documents.add(new MarkedDocument(other_element));
+        }
+        this.documents = __this__documents;
+      }
+    }
+
+    public authorizeMarkings_args deepCopy() {
+      return new authorizeMarkings_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+      this.documents = null;
+    }
+
+    public User getUser() {
+      return this.user;
+    }
+
+    public authorizeMarkings_args setUser(User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public int getDocumentsSize() {
+      return (this.documents == null) ? 0 : this.documents.size();
+    }
+
+    public java.util.Iterator<MarkedDocument> getDocumentsIterator() {
+      return (this.documents == null) ? null : this.documents.iterator();
+    }
+
+    public void addToDocuments(MarkedDocument elem) {
+      if (this.documents == null) {
+        this.documents = new ArrayList<MarkedDocument>();
+      }
+      this.documents.add(elem);
+    }
+
+    public List<MarkedDocument> getDocuments() {
+      return this.documents;
+    }
+
+    public authorizeMarkings_args setDocuments(List<MarkedDocument> documents) {
+      this.documents = documents;
+      return this;
+    }
+
+    public void unsetDocuments() {
+      this.documents = null;
+    }
+
+    /** Returns true if field documents is set (has been assigned a value) and false otherwise */
+    public boolean isSetDocuments() {
+      return this.documents != null;
+    }
+
+    public void setDocumentsIsSet(boolean value) {
+      if (!value) {
+        this.documents = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      case DOCUMENTS:
+        if (value == null) {
+          unsetDocuments();
+        } else {
+          setDocuments((List<MarkedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      case DOCUMENTS:
+        return getDocuments();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      case DOCUMENTS:
+        return isSetDocuments();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMarkings_args)
+        return this.equals((authorizeMarkings_args)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMarkings_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_documents = true && this.isSetDocuments();
+      boolean that_present_documents = true && that.isSetDocuments();
+      if (this_present_documents || that_present_documents) {
+        if (!(this_present_documents && that_present_documents))
+          return false;
+        if (!this.documents.equals(that.documents))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_documents = true && (isSetDocuments());
+      list.add(present_documents);
+      if (present_documents)
+        list.add(documents);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMarkings_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDocuments()).compareTo(other.isSetDocuments());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDocuments()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.documents, other.documents);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMarkings_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("documents:");
+      if (this.documents == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.documents);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMarkings_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizeMarkings_argsStandardScheme getScheme() {
+        return new authorizeMarkings_argsStandardScheme();
+      }
+    }
+
+    private static class authorizeMarkings_argsStandardScheme extends StandardScheme<authorizeMarkings_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMarkings_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DOCUMENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list162 = iprot.readListBegin();
+                  struct.documents = new ArrayList<MarkedDocument>(_list162.size);
+                  MarkedDocument _elem163;
+                  for (int _i164 = 0; _i164 < _list162.size; ++_i164)
+                  {
+                    _elem163 = new MarkedDocument();
+                    _elem163.read(iprot);
+                    struct.documents.add(_elem163);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDocumentsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMarkings_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.documents != null) {
+          oprot.writeFieldBegin(DOCUMENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.documents.size()));
+            for (MarkedDocument _iter165 : struct.documents)
+            {
+              _iter165.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMarkings_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizeMarkings_argsTupleScheme getScheme() {
+        return new authorizeMarkings_argsTupleScheme();
+      }
+    }
+
+    private static class authorizeMarkings_argsTupleScheme extends TupleScheme<authorizeMarkings_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMarkings_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        if (struct.isSetDocuments()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetDocuments()) {
+          {
+            oprot.writeI32(struct.documents.size());
+            for (MarkedDocument _iter166 : struct.documents)
+            {
+              _iter166.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMarkings_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list167 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.documents = new ArrayList<MarkedDocument>(_list167.size);
+            MarkedDocument _elem168;
+            for (int _i169 = 0; _i169 < _list167.size; ++_i169)
+            {
+              _elem168 = new MarkedDocument();
+              _elem168.read(iprot);
+              struct.documents.add(_elem168);
+            }
+          }
+          struct.setDocumentsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeMarkings_result implements org.apache.thrift.TBase<authorizeMarkings_result, authorizeMarkings_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeMarkings_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeMarkings_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeMarkings_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeMarkings_resultTupleSchemeFactory());
+    }
+
+    public VisibilityMask success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, VisibilityMask.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeMarkings_result.class, metaDataMap);
+    }
+
+    public authorizeMarkings_result() {
+    }
+
+    public authorizeMarkings_result(
+      VisibilityMask success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeMarkings_result(authorizeMarkings_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new VisibilityMask(other.success);
+      }
+    }
+
+    public authorizeMarkings_result deepCopy() {
+      return new authorizeMarkings_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public VisibilityMask getSuccess() {
+      return this.success;
+    }
+
+    public authorizeMarkings_result setSuccess(VisibilityMask success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((VisibilityMask)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeMarkings_result)
+        return this.equals((authorizeMarkings_result)that);
+      return false;
+    }
+
+    public boolean equals(authorizeMarkings_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeMarkings_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeMarkings_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeMarkings_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizeMarkings_resultStandardScheme getScheme() {
+        return new authorizeMarkings_resultStandardScheme();
+      }
+    }
+
+    private static class authorizeMarkings_resultStandardScheme extends StandardScheme<authorizeMarkings_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeMarkings_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new VisibilityMask();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeMarkings_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeMarkings_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizeMarkings_resultTupleScheme getScheme() {
+        return new authorizeMarkings_resultTupleScheme();
+      }
+    }
+
+    private static class authorizeMarkings_resultTupleScheme extends TupleScheme<authorizeMarkings_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeMarkings_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeMarkings_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new VisibilityMask();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeEncoded_args implements org.apache.thrift.TBase<authorizeEncoded_args, authorizeEncoded_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeEncoded_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeEncoded_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField BATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("batch", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeEncoded_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeEncoded_argsTupleSchemeFactory());
+    }
+
+    public User user; // required
+    public EncodedBatch batch; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user"),
+      BATCH((short)2, "batch");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          case 2: // BATCH
+            return BATCH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.BATCH, new org.apache.thrift.meta_data.FieldMetaData("batch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, EncodedBatch.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeEncoded_args.class, metaDataMap);
+    }
+
+    public authorizeEncoded_args() {
+    }
+
+    public authorizeEncoded_args(
+      User user,
+      EncodedBatch batch)
+    {
+      this();
+      this.user = user;
+      this.batch = batch;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeEncoded_args(authorizeEncoded_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+      if (other.isSetBatch()) {
+        this.batch = new EncodedBatch(other.batch);
+      }
+    }
+
+    public authorizeEncoded_args deepCopy() {
+      return new authorizeEncoded_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+      this.batch = null;
+    }
+
+    public User getUser() {
+      return this.user;
+    }
+
+    public authorizeEncoded_args setUser(User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public EncodedBatch getBatch() {
+      return this.batch;
+    }
+
+    public authorizeEncoded_args setBatch(EncodedBatch batch) {
+      this.batch = batch;
+      return this;
+    }
+
+    public void unsetBatch() {
+      this.batch = null;
+    }
+
+    /** Returns true if field batch is set (has been assigned a value) and false otherwise */
+    public boolean isSetBatch() {
+      return this.batch != null;
+    }
+
+    public void setBatchIsSet(boolean value) {
+      if (!value) {
+        this.batch = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      case BATCH:
+        if (value == null) {
+          unsetBatch();
+        } else {
+          setBatch((EncodedBatch)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      case BATCH:
+        return getBatch();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      case BATCH:
+        return isSetBatch();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeEncoded_args)
+        return this.equals((authorizeEncoded_args)that);
+      return false;
+    }
+
+    public boolean equals(authorizeEncoded_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_batch = true && this.isSetBatch();
+      boolean that_present_batch = true && that.isSetBatch();
+      if (this_present_batch || that_present_batch) {
+        if (!(this_present_batch && that_present_batch))
+          return false;
+        if (!this.batch.equals(that.batch))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_batch = true && (isSetBatch());
+      list.add(present_batch);
+      if (present_batch)
+        list.add(batch);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeEncoded_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBatch()).compareTo(other.isSetBatch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.batch, other.batch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeEncoded_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("batch:");
+      if (this.batch == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.batch);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+      if (batch != null) {
+        batch.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeEncoded_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizeEncoded_argsStandardScheme getScheme() {
+        return new authorizeEncoded_argsStandardScheme();
+      }
+    }
+
+    private static class authorizeEncoded_argsStandardScheme extends StandardScheme<authorizeEncoded_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeEncoded_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.batch = new EncodedBatch();
+                struct.batch.read(iprot);
+                struct.setBatchIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeEncoded_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.batch != null) {
+          oprot.writeFieldBegin(BATCH_FIELD_DESC);
+          struct.batch.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeEncoded_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizeEncoded_argsTupleScheme getScheme() {
+        return new authorizeEncoded_argsTupleScheme();
+      }
+    }
+
+    private static class authorizeEncoded_argsTupleScheme extends TupleScheme<authorizeEncoded_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeEncoded_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBatch()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetBatch()) {
+          struct.batch.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeEncoded_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.batch = new EncodedBatch();
+          struct.batch.read(iprot);
+          struct.setBatchIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizeEncoded_result implements org.apache.thrift.TBase<authorizeEncoded_result, authorizeEncoded_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeEncoded_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeEncoded_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizeEncoded_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeEncoded_resultTupleSchemeFactory());
+    }
+
+    public List<EncodedDocument> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, EncodedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeEncoded_result.class, metaDataMap);
+    }
+
+    public authorizeEncoded_result() {
+    }
+
+    public authorizeEncoded_result(
+      List<EncodedDocument> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizeEncoded_result(authorizeEncoded_result other) {
+      if (other.isSetSuccess()) {
+        List<EncodedDocument> __this__success = new ArrayList<EncodedDocument>(other.success.size());
+        for (EncodedDocument other_element : other.success) {
+          __this__success.add(new EncodedDocument(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public authorizeEncoded_result deepCopy() {
+      return new authorizeEncoded_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<EncodedDocument> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(EncodedDocument elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<EncodedDocument>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<EncodedDocument> getSuccess() {
+      return this.success;
+    }
+
+    public authorizeEncoded_result setSuccess(List<EncodedDocument> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<EncodedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizeEncoded_result)
+        return this.equals((authorizeEncoded_result)that);
+      return false;
+    }
+
+    public boolean equals(authorizeEncoded_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizeEncoded_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizeEncoded_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizeEncoded_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizeEncoded_resultStandardScheme getScheme() {
+        return new authorizeEncoded_resultStandardScheme();
+      }
+    }
+
+    private static class authorizeEncoded_resultStandardScheme extends StandardScheme<authorizeEncoded_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeEncoded_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list170 = iprot.readListBegin();
+                  struct.success = new ArrayList<EncodedDocument>(_list170.size);
+                  EncodedDocument _elem171;
+                  for (int _i172 = 0; _i172 < _list170.size; ++_i172)
+                  {
+                    _elem171 = new EncodedDocument();
+                    _elem171.read(iprot);
+                    struct.success.add(_elem171);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeEncoded_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (EncodedDocument _iter173 : struct.success)
+            {
+              _iter173.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizeEncoded_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizeEncoded_resultTupleScheme getScheme() {
+        return new authorizeEncoded_resultTupleScheme();
+      }
+    }
+
+    private static class authorizeEncoded_resultTupleScheme extends TupleScheme<authorizeEncoded_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeEncoded_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (EncodedDocument _iter174 : struct.success)
+            {
+              _iter174.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeEncoded_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list175 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<EncodedDocument>(_list175.size);
+            EncodedDocument _elem176;
+            for (int _i177 = 0; _i177 < _list175.size; ++_i177)
+            {
+              _elem176 = new EncodedDocument();
+              _elem176.read(iprot);
+              struct.success.add(_elem176);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizePacked_args implements org.apache.thrift.TBase<authorizePacked_args, authorizePacked_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizePacked_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizePacked_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField DOCUMENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("documents", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizePacked_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizePacked_argsTupleSchemeFactory());
+    }
+
+    public User user; // required
+    public List<PackedDocument> documents; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user"),
+      DOCUMENTS((short)2, "documents");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          case 2: // DOCUMENTS
+            return DOCUMENTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.DOCUMENTS, new org.apache.thrift.meta_data.FieldMetaData("documents", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PackedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizePacked_args.class, metaDataMap);
+    }
+
+    public authorizePacked_args() {
+    }
+
+    public authorizePacked_args(
+      User user,
+      List<PackedDocument> documents)
+    {
+      this();
+      this.user = user;
+      this.documents = documents;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizePacked_args(authorizePacked_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+      if (other.isSetDocuments()) {
+        List<PackedDocument> __this__documents = new ArrayList<PackedDocument>(other.documents.size());
+        for (PackedDocument other_element : other.documents) {
+          __this__documents.add(new PackedDocument(other_element));
+        }
+        this.documents = __this__documents;
+      }
+    }
+
+    public authorizePacked_args deepCopy() {
+      return new authorizePacked_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+      this.documents = null;
+    }
+
+    public User getUser() {
+      return this.user;
+    }
+
+    public authorizePacked_args setUser(User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    public int getDocumentsSize() {
+      return (this.documents == null) ? 0 : this.documents.size();
+    }
+
+    public java.util.Iterator<PackedDocument> getDocumentsIterator() {
+      return (this.documents == null) ? null : this.documents.iterator();
+    }
+
+    public void addToDocuments(PackedDocument elem) {
+      if (this.documents == null) {
+        this.documents = new ArrayList<PackedDocument>();
+      }
+      this.documents.add(elem);
+    }
+
+    public List<PackedDocument> getDocuments() {
+      return this.documents;
+    }
+
+    public authorizePacked_args setDocuments(List<PackedDocument> documents) {
+      this.documents = documents;
+      return this;
+    }
+
+    public void unsetDocuments() {
+      this.documents = null;
+    }
+
+    /** Returns true if field documents is set (has been assigned a value) and false otherwise */
+    public boolean isSetDocuments() {
+      return this.documents != null;
+    }
+
+    public void setDocumentsIsSet(boolean value) {
+      if (!value) {
+        this.documents = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      case DOCUMENTS:
+        if (value == null) {
+          unsetDocuments();
+        } else {
+          setDocuments((List<PackedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      case DOCUMENTS:
+        return getDocuments();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      case DOCUMENTS:
+        return isSetDocuments();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizePacked_args)
+        return this.equals((authorizePacked_args)that);
+      return false;
+    }
+
+    public boolean equals(authorizePacked_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_documents = true && this.isSetDocuments();
+      boolean that_present_documents = true && that.isSetDocuments();
+      if (this_present_documents || that_present_documents) {
+        if (!(this_present_documents && that_present_documents))
+          return false;
+        if (!this.documents.equals(that.documents))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_documents = true && (isSetDocuments());
+      list.add(present_documents);
+      if (present_documents)
+        list.add(documents);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizePacked_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDocuments()).compareTo(other.isSetDocuments());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDocuments()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.documents, other.documents);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizePacked_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("documents:");
+      if (this.documents == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.documents);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizePacked_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizePacked_argsStandardScheme getScheme() {
+        return new authorizePacked_argsStandardScheme();
+      }
+    }
+
+    private static class authorizePacked_argsStandardScheme extends StandardScheme<authorizePacked_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizePacked_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DOCUMENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list178 = iprot.readListBegin();
+                  struct.documents = new ArrayList<PackedDocument>(_list178.size);
+                  PackedDocument _elem179;
+                  for (int _i180 = 0; _i180 < _list178.size; ++_i180)
+                  {
+                    _elem179 = new PackedDocument();
+                    _elem179.read(iprot);
+                    struct.documents.add(_elem179);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDocumentsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizePacked_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.documents != null) {
+          oprot.writeFieldBegin(DOCUMENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.documents.size()));
+            for (PackedDocument _iter181 : struct.documents)
+            {
+              _iter181.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class authorizePacked_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizePacked_argsTupleScheme getScheme() {
+        return new authorizePacked_argsTupleScheme();
+      }
+    }
+
+    private static class authorizePacked_argsTupleScheme extends TupleScheme<authorizePacked_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizePacked_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        if (struct.isSetDocuments()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+        if (struct.isSetDocuments()) {
+          {
+            oprot.writeI32(struct.documents.size());
+            for (PackedDocument _iter182 : struct.documents)
+            {
+              _iter182.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizePacked_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list183 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.documents = new ArrayList<PackedDocument>(_list183.size);
+            PackedDocument _elem184;
+            for (int _i185 = 0; _i185 < _list183.size; ++_i185)
+            {
+              _elem184 = new PackedDocument();
+              _elem184.read(iprot);
+              struct.documents.add(_elem184);
+            }
+          }
+          struct.setDocumentsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class authorizePacked_result implements org.apache.thrift.TBase<authorizePacked_result, authorizePacked_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizePacked_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizePacked_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new authorizePacked_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizePacked_resultTupleSchemeFactory());
+    }
+
+    public List<PackedDocument> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PackedDocument.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizePacked_result.class, metaDataMap);
+    }
+
+    public authorizePacked_result() {
+    }
+
+    public authorizePacked_result(
+      List<PackedDocument> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public authorizePacked_result(authorizePacked_result other) {
+      if (other.isSetSuccess()) {
+        List<PackedDocument> __this__success = new ArrayList<PackedDocument>(other.success.size());
+        for (PackedDocument other_element : other.success) {
+          __this__success.add(new PackedDocument(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public authorizePacked_result deepCopy() {
+      return new authorizePacked_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<PackedDocument> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(PackedDocument elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<PackedDocument>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<PackedDocument> getSuccess() {
+      return this.success;
+    }
+
+    public authorizePacked_result setSuccess(List<PackedDocument> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<PackedDocument>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof authorizePacked_result)
+        return this.equals((authorizePacked_result)that);
+      return false;
+    }
+
+    public boolean equals(authorizePacked_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(authorizePacked_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("authorizePacked_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class authorizePacked_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizePacked_resultStandardScheme getScheme() {
+        return new authorizePacked_resultStandardScheme();
+      }
+    }
+
+    private static class authorizePacked_resultStandardScheme extends StandardScheme<authorizePacked_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizePacked_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list186 = iprot.readListBegin();
+                  struct.success = new ArrayList<PackedDocument>(_list186.size);
+                  PackedDocument _elem187;
+                  for (int _i188 = 0; _i188 < _list186.size; ++_i188)
+                  {
+                    _elem187 = new PackedDocument();
+                    _elem187.read(iprot);
+                    struct.success.add(_elem187);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      protected boolean isOneway() {
-        return false;
-      }
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizePacked_result struct) throws org.apache.thrift.TException {
+        struct.validate();
 
-      public authorize_result getResult(I iface, authorize_args args) throws org.apache.thrift.TException {
-        authorize_result result = new authorize_result();
-        result.success = iface.authorize(args.user, args.fields);
-        return result;
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (PackedDocument _iter189 : struct.success)
+            {
+              _iter189.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
-    }
-
-  }
-
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
-    }
-
-    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
 
-    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      processMap.put("authorize", new authorize());
-      return processMap;
     }
 
-    public static class authorize<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, authorize_args, List<ProtectedDocument>> {
-      public authorize() {
-        super("authorize");
+    private static class authorizePacked_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizePacked_resultTupleScheme getScheme() {
+        return new authorizePacked_resultTupleScheme();
       }
+    }
 
-      public authorize_args getEmptyArgsInstance() {
-        return new authorize_args();
-      }
+    private static class authorizePacked_resultTupleScheme extends TupleScheme<authorizePacked_result> {
 
-      public AsyncMethodCallback<List<ProtectedDocument>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<ProtectedDocument>>() { 
-          public void onComplete(List<ProtectedDocument> o) {
-            authorize_result result = new authorize_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            authorize_result result = new authorize_result();
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizePacked_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (PackedDocument _iter190 : struct.success)
             {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
+              _iter190.write(oprot);
             }
-            fb.close();
           }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
+        }
       }
 
-      public void start(I iface, authorize_args args, org.apache.thrift.async.AsyncMethodCallback<List<ProtectedDocument>> resultHandler) throws TException {
-        iface.authorize(args.user, args.fields,resultHandler);
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizePacked_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list191 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<PackedDocument>(_list191.size);
+            PackedDocument _elem192;
+            for (int _i193 = 0; _i193 < _list191.size; ++_i193)
+            {
+              _elem192 = new PackedDocument();
+              _elem192.read(iprot);
+              struct.success.add(_elem192);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class authorize_args implements org.apache.thrift.TBase<authorize_args, authorize_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorize_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorize_args");
+  public static class authorizeLabeled_args implements org.apache.thrift.TBase<authorizeLabeled_args, authorizeLabeled_args._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeLabeled_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeLabeled_args");
 
     private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField FIELDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fields", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField DOCUMENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("documents", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new authorize_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new authorize_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new authorizeLabeled_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeLabeled_argsTupleSchemeFactory());
     }
 
-    public User user; // required
-    public List<ProtectedDocument> fields; // required
+    public LabeledUser user; // required
+    public List<LabeledDocument> documents; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       USER((short)1, "user"),
-      FIELDS((short)2, "fields");
+      DOCUMENTS((short)2, "documents");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -294,8 +6652,8 @@ public class ProtectionService {
         switch(fieldId) {
           case 1: // USER
             return USER;
-          case 2: // FIELDS
-            return FIELDS;
+          case 2: // DOCUMENTS
+            return DOCUMENTS;
           default:
             return null;
         }
@@ -340,57 +6698,57 @@ public class ProtectionService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
-      tmpMap.put(_Fields.FIELDS, new org.apache.thrift.meta_data.FieldMetaData("fields", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LabeledUser.class)));
+      tmpMap.put(_Fields.DOCUMENTS, new org.apache.thrift.meta_data.FieldMetaData("documents", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LabeledDocument.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorize_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeLabeled_args.class, metaDataMap);
     }
 
-    public authorize_args() {
+    public authorizeLabeled_args() {
     }
 
-    public authorize_args(
-      User user,
-      List<ProtectedDocument> fields)
+    public authorizeLabeled_args(
+      LabeledUser user,
+      List<LabeledDocument> documents)
     {
       this();
       this.user = user;
-      this.fields = fields;
+      this.documents = documents;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public authorize_args(authorize_args other) {
+    public authorizeLabeled_args(authorizeLabeled_args other) {
       if (other.isSetUser()) {
-        this.user = new User(other.user);
+        this.user = new LabeledUser(other.user);
       }
-      if (other.isSetFields()) {
-        List<ProtectedDocument> __this__fields = new ArrayList<ProtectedDocument>(other.fields.size());
-        for (ProtectedDocument other_element : other.fields) {
-          __this__fields.add(new ProtectedDocument(other_element));
+      if (other.isSetDocuments()) {
+        List<LabeledDocument> __this__documents = new ArrayList<LabeledDocument>(other.documents.size());
+        for (LabeledDocument other_element : other.documents) {
+          __this__documents.add(new LabeledDocument(other_element));
         }
-        this.fields = __this__fields;
+        this.documents = __this__documents;
       }
     }
 
-    public authorize_args deepCopy() {
-      return new authorize_args(this);
+    public authorizeLabeled_args deepCopy() {
+      return new authorizeLabeled_args(this);
     }
 
     @Override
     public void clear() {
       this.user = null;
-      this.fields = null;
+      this.documents = null;
     }
 
-    public User getUser() {
+    public LabeledUser getUser() {
       return this.user;
     }
 
-    public authorize_args setUser(User user) {
+    public authorizeLabeled_args setUser(LabeledUser user) {
       this.user = user;
       return this;
     }
@@ -410,42 +6768,42 @@ public class ProtectionService {
       }
     }
 
-    public int getFieldsSize() {
-      return (this.fields == null) ? 0 : this.fields.size();
+    public int getDocumentsSize() {
+      return (this.documents == null) ? 0 : this.documents.size();
     }
 
-    public java.util.Iterator<ProtectedDocument> getFieldsIterator() {
-      return (this.fields == null) ? null : this.fields.iterator();
+    public java.util.Iterator<LabeledDocument> getDocumentsIterator() {
+      return (this.documents == null) ? null : this.documents.iterator();
     }
 
-    public void addToFields(ProtectedDocument elem) {
-      if (this.fields == null) {
-        this.fields = new ArrayList<ProtectedDocument>();
+    public void addToDocuments(LabeledDocument elem) {
+      if (this.documents == null) {
+        this.documents = new ArrayList<LabeledDocument>();
       }
-      this.fields.add(elem);
+      this.documents.add(elem);
     }
 
-    public List<ProtectedDocument> getFields() {
-      return this.fields;
+    public List<LabeledDocument> getDocuments() {
+      return this.documents;
     }
 
-    public authorize_args setFields(List<ProtectedDocument> fields) {
-      this.fields = fields;
+    public authorizeLabeled_args setDocuments(List<LabeledDocument> documents) {
+      this.documents = documents;
       return this;
     }
 
-    public void unsetFields() {
-      this.fields = null;
+    public void unsetDocuments() {
+      this.documents = null;
     }
 
-    /** Returns true if field fields is set (has been assigned a value) and false otherwise */
-    public boolean isSetFields() {
-      return this.fields != null;
+    /** Returns true if field documents is set (has been assigned a value) and false otherwise */
+    public boolean isSetDocuments() {
+      return this.documents != null;
     }
 
-    public void setFieldsIsSet(boolean value) {
+    public void setDocumentsIsSet(boolean value) {
       if (!value) {
-        this.fields = null;
+        this.documents = null;
       }
     }
 
@@ -455,15 +6813,15 @@ public class ProtectionService {
         if (value == null) {
           unsetUser();
         } else {
-          setUser((User)value);
+          setUser((LabeledUser)value);
         }
         break;
 
-      case FIELDS:
+      case DOCUMENTS:
         if (value == null) {
-          unsetFields();
+          unsetDocuments();
         } else {
-          setFields((List<ProtectedDocument>)value);
+          setDocuments((List<LabeledDocument>)value);
         }
         break;
 
@@ -475,8 +6833,8 @@ public class ProtectionService {
       case USER:
         return getUser();
 
-      case FIELDS:
-        return getFields();
+      case DOCUMENTS:
+        return getDocuments();
 
       }
       throw new IllegalStateException();
@@ -491,8 +6849,8 @@ public class ProtectionService {
       switch (field) {
       case USER:
         return isSetUser();
-      case FIELDS:
-        return isSetFields();
+      case DOCUMENTS:
+        return isSetDocuments();
       }
       throw new IllegalStateException();
     }
@@ -501,12 +6859,12 @@ public class ProtectionService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof authorize_args)
-        return this.equals((authorize_args)that);
+      if (that instanceof authorizeLabeled_args)
+        return this.equals((authorizeLabeled_args)that);
       return false;
     }
 
-    public boolean equals(authorize_args that) {
+    public boolean equals(authorizeLabeled_args that) {
       if (that == null)
         return false;
 
@@ -519,12 +6877,12 @@ public class ProtectionService {
           return false;
       }
 
-      boolean this_present_fields = true && this.isSetFields();
-      boolean that_present_fields = true && that.isSetFields();
-      if (this_present_fields || that_present_fields) {
-        if (!(this_present_fields && that_present_fields))
+      boolean this_present_documents = true && this.isSetDocuments();
+      boolean that_present_documents = true && that.isSetDocuments();
+      if (this_present_documents || that_present_documents) {
+        if (!(this_present_documents && that_present_documents))
           return false;
-        if (!this.fields.equals(that.fields))
+        if (!this.documents.equals(that.documents))
           return false;
       }
 
@@ -540,16 +6898,16 @@ public class ProtectionService {
       if (present_user)
         list.add(user);
 
-      boolean present_fields = true && (isSetFields());
-      list.add(present_fields);
-      if (present_fields)
-        list.add(fields);
+      boolean present_documents = true && (isSetDocuments());
+      list.add(present_documents);
+      if (present_documents)
+        list.add(documents);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(authorize_args other) {
+    public int compareTo(authorizeLabeled_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -566,12 +6924,12 @@ public class ProtectionService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetFields()).compareTo(other.isSetFields());
+      lastComparison = Boolean.valueOf(isSetDocuments()).compareTo(other.isSetDocuments());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFields()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fields, other.fields);
+      if (isSetDocuments()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.documents, other.documents);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -593,7 +6951,7 @@ public class ProtectionService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("authorize_args(");
+      StringBuilder sb = new StringBuilder("authorizeLabeled_args(");
       boolean first = true;
 
       sb.append("user:");
@@ -604,11 +6962,11 @@ public class ProtectionService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("fields:");
-      if (this.fields == null) {
+      sb.append("documents:");
+      if (this.documents == null) {
         sb.append("null");
       } else {
-        sb.append(this.fields);
+        sb.append(this.documents);
       }
       first = false;
       sb.append(")");
@@ -639,15 +6997,15 @@ public class ProtectionService {
       }
     }
 
-    private static class authorize_argsStandardSchemeFactory implements SchemeFactory {
-      public authorize_argsStandardScheme getScheme() {
-        return new authorize_argsStandardScheme();
+    private static class authorizeLabeled_argsStandardSchemeFactory implements SchemeFactory {
+      public authorizeLabeled_argsStandardScheme getScheme() {
+        return new authorizeLabeled_argsStandardScheme();
       }
     }
 
-    private static class authorize_argsStandardScheme extends StandardScheme<authorize_args> {
+    private static class authorizeLabeled_argsStandardScheme extends StandardScheme<authorizeLabeled_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, authorize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeLabeled_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -659,28 +7017,28 @@ public class ProtectionService {
           switch (schemeField.id) {
             case 1: // USER
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.user = new User();
+                struct.user = new LabeledUser();
                 struct.user.read(iprot);
                 struct.setUserIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // FIELDS
+            case 2: // DOCUMENTS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list34 = iprot.readListBegin();
-                  struct.fields = new ArrayList<ProtectedDocument>(_list34.size);
-                  ProtectedDocument _elem35;
-                  for (int _i36 = 0; _i36 < _list34.size; ++_i36)
+                  org.apache.thrift.protocol.TList _list194 = iprot.readListBegin();
+                  struct.documents = new ArrayList<LabeledDocument>(_list194.size);
+                  LabeledDocument _elem195;
+                  for (int _i196 = 0; _i196 < _list194.size; ++_i196)
                   {
-                    _elem35 = new ProtectedDocument();
-                    _elem35.read(iprot);
-                    struct.fields.add(_elem35);
+                    _elem195 = new LabeledDocument();
+                    _elem195.read(iprot);
+                    struct.documents.add(_elem195);
                   }
                   iprot.readListEnd();
                 }
-                struct.setFieldsIsSet(true);
+                struct.setDocumentsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -696,7 +7054,7 @@ public class ProtectionService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, authorize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeLabeled_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -705,13 +7063,13 @@ public class ProtectionService {
           struct.user.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.fields != null) {
-          oprot.writeFieldBegin(FIELDS_FIELD_DESC);
+        if (struct.documents != null) {
+          oprot.writeFieldBegin(DOCUMENTS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fields.size()));
-            for (ProtectedDocument _iter37 : struct.fields)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.documents.size()));
+            for (LabeledDocument _iter197 : struct.documents)
             {
-              _iter37.write(oprot);
+              _iter197.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -723,79 +7081,79 @@ public class ProtectionService {
 
     }
 
-    private static class authorize_argsTupleSchemeFactory implements SchemeFactory {
-      public authorize_argsTupleScheme getScheme() {
-        return new authorize_argsTupleScheme();
+    private static class authorizeLabeled_argsTupleSchemeFactory implements SchemeFactory {
+      public authorizeLabeled_argsTupleScheme getScheme() {
+        return new authorizeLabeled_argsTupleScheme();
       }
     }
 
-    private static class authorize_argsTupleScheme extends TupleScheme<authorize_args> {
+    private static class authorizeLabeled_argsTupleScheme extends TupleScheme<authorizeLabeled_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, authorize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeLabeled_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetUser()) {
           optionals.set(0);
         }
-        if (struct.isSetFields()) {
+        if (struct.isSetDocuments()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetUser()) {
           struct.user.write(oprot);
         }
-        if (struct.isSetFields()) {
+        if (struct.isSetDocuments()) {
           {
-            oprot.writeI32(struct.fields.size());
-            for (ProtectedDocument _iter38 : struct.fields)
+            oprot.writeI32(struct.documents.size());
+            for (LabeledDocument _iter198 : struct.documents)
             {
-              _iter38.write(oprot);
+              _iter198.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, authorize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeLabeled_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.user = new User();
+          struct.user = new LabeledUser();
           struct.user.read(iprot);
           struct.setUserIsSet(true);
         }
         if (incoming.get(1)) {
           {
-            org.apache.thrift.protocol.TList _list39 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.fields = new ArrayList<ProtectedDocument>(_list39.size);
-            ProtectedDocument _elem40;
-            for (int _i41 = 0; _i41 < _list39.size; ++_i41)
+            org.apache.thrift.protocol.TList _list199 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.documents = new ArrayList<LabeledDocument>(_list199.size);
+            LabeledDocument _elem200;
+            for (int _i201 = 0; _i201 < _list199.size; ++_i201)
             {
-              _elem40 = new ProtectedDocument();
-              _elem40.read(iprot);
-              struct.fields.add(_elem40);
+              _elem200 = new LabeledDocument();
+              _elem200.read(iprot);
+              struct.documents.add(_elem200);
             }
           }
-          struct.setFieldsIsSet(true);
+          struct.setDocumentsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class authorize_result implements org.apache.thrift.TBase<authorize_result, authorize_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorize_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorize_result");
+  public static class authorizeLabeled_result implements org.apache.thrift.TBase<authorizeLabeled_result, authorizeLabeled_result._Fields>, java.io.Serializable, Cloneable, Comparable<authorizeLabeled_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("authorizeLabeled_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new authorize_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new authorize_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new authorizeLabeled_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new authorizeLabeled_resultTupleSchemeFactory());
     }
 
-    public List<ProtectedDocument> success; // required
+    public List<LabeledDocument> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -861,16 +7219,16 @@ public class ProtectionService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ProtectedDocument.class))));
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LabeledDocument.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorize_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(authorizeLabeled_result.class, metaDataMap);
     }
 
-    public authorize_result() {
+    public authorizeLabeled_result() {
     }
 
-    public authorize_result(
-      List<ProtectedDocument> success)
+    public authorizeLabeled_result(
+      List<LabeledDocument> success)
     {
       this();
       this.success = success;
@@ -879,18 +7237,18 @@ public class ProtectionService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public authorize_result(authorize_result other) {
+    public authorizeLabeled_result(authorizeLabeled_result other) {
       if (other.isSetSuccess()) {
-        List<ProtectedDocument> __this__success = new ArrayList<ProtectedDocument>(other.success.size());
-        for (ProtectedDocument other_element : other.success) {
-          __this__success.add(new ProtectedDocument(other_element));
+        List<LabeledDocument> __this__success = new ArrayList<LabeledDocument>(other.success.size());
+        for (LabeledDocument other_element : other.success) {
+          __this__success.add(new LabeledDocument(other_element));
         }
         this.success = __this__success;
       }
     }
 
-    public authorize_result deepCopy() {
-      return new authorize_result(this);
+    public authorizeLabeled_result deepCopy() {
+      return new authorizeLabeled_result(this);
     }
 
     @Override
@@ -902,22 +7260,22 @@ public class ProtectionService {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<ProtectedDocument> getSuccessIterator() {
+    public java.util.Iterator<LabeledDocument> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(ProtectedDocument elem) {
+    public void addToSuccess(LabeledDocument elem) {
       if (this.success == null) {
-        this.success = new ArrayList<ProtectedDocument>();
+        this.success = new ArrayList<LabeledDocument>();
       }
       this.success.add(elem);
     }
 
-    public List<ProtectedDocument> getSuccess() {
+    public List<LabeledDocument> getSuccess() {
       return this.success;
     }
 
-    public authorize_result setSuccess(List<ProtectedDocument> success) {
+    public authorizeLabeled_result setSuccess(List<LabeledDocument> success) {
       this.success = success;
       return this;
     }
@@ -943,7 +7301,7 @@ public class ProtectionService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<ProtectedDocument>)value);
+          setSuccess((List<LabeledDocument>)value);
         }
         break;
 
@@ -976,12 +7334,12 @@ public class ProtectionService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof authorize_result)
-        return this.equals((authorize_result)that);
+      if (that instanceof authorizeLabeled_result)
+        return this.equals((authorizeLabeled_result)that);
       return false;
     }
 
-    public boolean equals(authorize_result that) {
+    public boolean equals(authorizeLabeled_result that) {
       if (that == null)
         return false;
 
@@ -1010,7 +7368,7 @@ public class ProtectionService {
     }
 
     @Override
-    public int compareTo(authorize_result other) {
+    public int compareTo(authorizeLabeled_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1044,7 +7402,7 @@ public class ProtectionService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("authorize_result(");
+      StringBuilder sb = new StringBuilder("authorizeLabeled_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1079,15 +7437,15 @@ public class ProtectionService {
       }
     }
 
-    private static class authorize_resultStandardSchemeFactory implements SchemeFactory {
-      public authorize_resultStandardScheme getScheme() {
-        return new authorize_resultStandardScheme();
+    private static class authorizeLabeled_resultStandardSchemeFactory implements SchemeFactory {
+      public authorizeLabeled_resultStandardScheme getScheme() {
+        return new authorizeLabeled_resultStandardScheme();
       }
     }
 
-    private static class authorize_resultStandardScheme extends StandardScheme<authorize_result> {
+    private static class authorizeLabeled_resultStandardScheme extends StandardScheme<authorizeLabeled_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, authorize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, authorizeLabeled_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1100,14 +7458,14 @@ public class ProtectionService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list42 = iprot.readListBegin();
-                  struct.success = new ArrayList<ProtectedDocument>(_list42.size);
-                  ProtectedDocument _elem43;
-                  for (int _i44 = 0; _i44 < _list42.size; ++_i44)
+                  org.apache.thrift.protocol.TList _list202 = iprot.readListBegin();
+                  struct.success = new ArrayList<LabeledDocument>(_list202.size);
+                  LabeledDocument _elem203;
+                  for (int _i204 = 0; _i204 < _list202.size; ++_i204)
                   {
-                    _elem43 = new ProtectedDocument();
-                    _elem43.read(iprot);
-                    struct.success.add(_elem43);
+                    _elem203 = new LabeledDocument();
+                    _elem203.read(iprot);
+                    struct.success.add(_elem203);
                   }
                   iprot.readListEnd();
                 }
@@ -1127,7 +7485,7 @@ public class ProtectionService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, authorize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, authorizeLabeled_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1135,9 +7493,9 @@ public class ProtectionService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ProtectedDocument _iter45 : struct.success)
+            for (LabeledDocument _iter205 : struct.success)
             {
-              _iter45.write(oprot);
+              _iter205.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -1149,16 +7507,16 @@ public class ProtectionService {
 
     }
 
-    private static class authorize_resultTupleSchemeFactory implements SchemeFactory {
-      public authorize_resultTupleScheme getScheme() {
-        return new authorize_resultTupleScheme();
+    private static class authorizeLabeled_resultTupleSchemeFactory implements SchemeFactory {
+      public authorizeLabeled_resultTupleScheme getScheme() {
+        return new authorizeLabeled_resultTupleScheme();
       }
     }
 
-    private static class authorize_resultTupleScheme extends TupleScheme<authorize_result> {
+    private static class authorizeLabeled_resultTupleScheme extends TupleScheme<authorizeLabeled_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, authorize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, authorizeLabeled_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -1168,28 +7526,28 @@ public class ProtectionService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ProtectedDocument _iter46 : struct.success)
+            for (LabeledDocument _iter206 : struct.success)
             {
-              _iter46.write(oprot);
+              _iter206.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, authorize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, authorizeLabeled_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list47 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ProtectedDocument>(_list47.size);
-            ProtectedDocument _elem48;
-            for (int _i49 = 0; _i49 < _list47.size; ++_i49)
+            org.apache.thrift.protocol.TList _list207 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<LabeledDocument>(_list207.size);
+            LabeledDocument _elem208;
+            for (int _i209 = 0; _i209 < _list207.size; ++_i209)
             {
-              _elem48 = new ProtectedDocument();
-              _elem48.read(iprot);
-              struct.success.add(_elem48);
+              _elem208 = new LabeledDocument();
+              _elem208.read(iprot);
+              struct.success.add(_elem208);
             }
           }
           struct.setSuccessIsSet(true);
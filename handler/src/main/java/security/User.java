@@ -35,7 +35,10 @@ import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
 /**
- * The "user" requesting access to a specific set of data.
+ * The "user" requesting access to a specific set of data.  A user with a maxLevel is cleared for every level from
+ * its minLevel, the lowest level when unset, up to its maxLevel, and data is judged by the highest of its levels.
+ * The levels of its permissions are then ignored.  A user without a maxLevel holds exactly the levels of its
+ * permissions.
  */
 @Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2015-1-13")
 public class User implements org.apache.thrift.TBase<User, User._Fields>, java.io.Serializable, Cloneable, Comparable<User> {
@@ -43,6 +46,8 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
 
   private static final org.apache.thrift.protocol.TField PERMISSIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("permissions", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField USERNAME_FIELD_DESC = new org.apache.thrift.protocol.TField("username", org.apache.thrift.protocol.TType.STRING, (short)2);
+  private static final org.apache.thrift.protocol.TField MAX_LEVEL_FIELD_DESC = new org.apache.thrift.protocol.TField("maxLevel", org.apache.thrift.protocol.TType.I32, (short)3);
+  private static final org.apache.thrift.protocol.TField MIN_LEVEL_FIELD_DESC = new org.apache.thrift.protocol.TField("minLevel", org.apache.thrift.protocol.TType.I32, (short)4);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -52,11 +57,15 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
 
   public SecurityContainer permissions; // required
   public String username; // optional
+  public Level maxLevel; // optional
+  public Level minLevel; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     PERMISSIONS((short)1, "permissions"),
-    USERNAME((short)2, "username");
+    USERNAME((short)2, "username"),
+    MAX_LEVEL((short)3, "maxLevel"),
+    MIN_LEVEL((short)4, "minLevel");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -75,6 +84,10 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
           return PERMISSIONS;
         case 2: // USERNAME
           return USERNAME;
+        case 3: // MAX_LEVEL
+          return MAX_LEVEL;
+        case 4: // MIN_LEVEL
+          return MIN_LEVEL;
         default:
           return null;
       }
@@ -115,7 +128,7 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.USERNAME};
+  private static final _Fields optionals[] = {_Fields.USERNAME,_Fields.MAX_LEVEL,_Fields.MIN_LEVEL};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -123,6 +136,10 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SecurityContainer.class)));
     tmpMap.put(_Fields.USERNAME, new org.apache.thrift.meta_data.FieldMetaData("username", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.MAX_LEVEL, new org.apache.thrift.meta_data.FieldMetaData("maxLevel", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Level.class)));
+    tmpMap.put(_Fields.MIN_LEVEL, new org.apache.thrift.meta_data.FieldMetaData("minLevel", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Level.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(User.class, metaDataMap);
   }
@@ -147,6 +164,12 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
     if (other.isSetUsername()) {
       this.username = other.username;
     }
+    if (other.isSetMaxLevel()) {
+      this.maxLevel = other.maxLevel;
+    }
+    if (other.isSetMinLevel()) {
+      this.minLevel = other.minLevel;
+    }
   }
 
   public User deepCopy() {
@@ -157,6 +180,8 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
   public void clear() {
     this.permissions = null;
     this.username = null;
+    this.maxLevel = null;
+    this.minLevel = null;
   }
 
   public SecurityContainer getPermissions() {
@@ -207,6 +232,54 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
     }
   }
 
+  public Level getMaxLevel() {
+    return this.maxLevel;
+  }
+
+  public User setMaxLevel(Level maxLevel) {
+    this.maxLevel = maxLevel;
+    return this;
+  }
+
+  public void unsetMaxLevel() {
+    this.maxLevel = null;
+  }
+
+  /** Returns true if field maxLevel is set (has been assigned a value) and false otherwise */
+  public boolean isSetMaxLevel() {
+    return this.maxLevel != null;
+  }
+
+  public void setMaxLevelIsSet(boolean value) {
+    if (!value) {
+      this.maxLevel = null;
+    }
+  }
+
+  public Level getMinLevel() {
+    return this.minLevel;
+  }
+
+  public User setMinLevel(Level minLevel) {
+    this.minLevel = minLevel;
+    return this;
+  }
+
+  public void unsetMinLevel() {
+    this.minLevel = null;
+  }
+
+  /** Returns true if field minLevel is set (has been assigned a value) and false otherwise */
+  public boolean isSetMinLevel() {
+    return this.minLevel != null;
+  }
+
+  public void setMinLevelIsSet(boolean value) {
+    if (!value) {
+      this.minLevel = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case PERMISSIONS:
@@ -225,6 +298,22 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
       }
       break;
 
+    case MAX_LEVEL:
+      if (value == null) {
+        unsetMaxLevel();
+      } else {
+        setMaxLevel((Level)value);
+      }
+      break;
+
+    case MIN_LEVEL:
+      if (value == null) {
+        unsetMinLevel();
+      } else {
+        setMinLevel((Level)value);
+      }
+      break;
+
     }
   }
 
@@ -236,6 +325,12 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
     case USERNAME:
       return getUsername();
 
+    case MAX_LEVEL:
+      return getMaxLevel();
+
+    case MIN_LEVEL:
+      return getMinLevel();
+
     }
     throw new IllegalStateException();
   }
@@ -251,6 +346,10 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
       return isSetPermissions();
     case USERNAME:
       return isSetUsername();
+    case MAX_LEVEL:
+      return isSetMaxLevel();
+    case MIN_LEVEL:
+      return isSetMinLevel();
     }
     throw new IllegalStateException();
   }
@@ -286,6 +385,24 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
         return false;
     }
 
+    boolean this_present_maxLevel = true && this.isSetMaxLevel();
+    boolean that_present_maxLevel = true && that.isSetMaxLevel();
+    if (this_present_maxLevel || that_present_maxLevel) {
+      if (!(this_present_maxLevel && that_present_maxLevel))
+        return false;
+      if (!this.maxLevel.equals(that.maxLevel))
+        return false;
+    }
+
+    boolean this_present_minLevel = true && this.isSetMinLevel();
+    boolean that_present_minLevel = true && that.isSetMinLevel();
+    if (this_present_minLevel || that_present_minLevel) {
+      if (!(this_present_minLevel && that_present_minLevel))
+        return false;
+      if (!this.minLevel.equals(that.minLevel))
+        return false;
+    }
+
     return true;
   }
 
@@ -303,6 +420,16 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
     if (present_username)
       list.add(username);
 
+    boolean present_maxLevel = true && (isSetMaxLevel());
+    list.add(present_maxLevel);
+    if (present_maxLevel)
+      list.add(maxLevel.getValue());
+
+    boolean present_minLevel = true && (isSetMinLevel());
+    list.add(present_minLevel);
+    if (present_minLevel)
+      list.add(minLevel.getValue());
+
     return list.hashCode();
   }
 
@@ -334,6 +461,26 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetMaxLevel()).compareTo(other.isSetMaxLevel());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMaxLevel()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxLevel, other.maxLevel);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetMinLevel()).compareTo(other.isSetMinLevel());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMinLevel()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.minLevel, other.minLevel);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -371,6 +518,26 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
       }
       first = false;
     }
+    if (isSetMaxLevel()) {
+      if (!first) sb.append(", ");
+      sb.append("maxLevel:");
+      if (this.maxLevel == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.maxLevel);
+      }
+      first = false;
+    }
+    if (isSetMinLevel()) {
+      if (!first) sb.append(", ");
+      sb.append("minLevel:");
+      if (this.minLevel == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.minLevel);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -434,6 +601,22 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // MAX_LEVEL
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.maxLevel = security.Level.findByValue(iprot.readI32());
+              struct.setMaxLevelIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // MIN_LEVEL
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.minLevel = security.Level.findByValue(iprot.readI32());
+              struct.setMinLevelIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -461,6 +644,20 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
           oprot.writeFieldEnd();
         }
       }
+      if (struct.maxLevel != null) {
+        if (struct.isSetMaxLevel()) {
+          oprot.writeFieldBegin(MAX_LEVEL_FIELD_DESC);
+          oprot.writeI32(struct.maxLevel.getValue());
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.minLevel != null) {
+        if (struct.isSetMinLevel()) {
+          oprot.writeFieldBegin(MIN_LEVEL_FIELD_DESC);
+          oprot.writeI32(struct.minLevel.getValue());
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -485,19 +682,31 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
       if (struct.isSetUsername()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetMaxLevel()) {
+        optionals.set(2);
+      }
+      if (struct.isSetMinLevel()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
       if (struct.isSetPermissions()) {
         struct.permissions.write(oprot);
       }
       if (struct.isSetUsername()) {
         oprot.writeString(struct.username);
       }
+      if (struct.isSetMaxLevel()) {
+        oprot.writeI32(struct.maxLevel.getValue());
+      }
+      if (struct.isSetMinLevel()) {
+        oprot.writeI32(struct.minLevel.getValue());
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, User struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(4);
       if (incoming.get(0)) {
         struct.permissions = new SecurityContainer();
         struct.permissions.read(iprot);
@@ -507,6 +716,14 @@ public class User implements org.apache.thrift.TBase<User, User._Fields>, java.i
         struct.username = iprot.readString();
         struct.setUsernameIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.maxLevel = security.Level.findByValue(iprot.readI32());
+        struct.setMaxLevelIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.minLevel = security.Level.findByValue(iprot.readI32());
+        struct.setMinLevelIsSet(true);
+      }
     }
   }
 
@@ -33,11 +33,16 @@ struct SecurityContainer{
 }
 
 /**
-    The "user" requesting access to a specific set of data.
+    The "user" requesting access to a specific set of data.  A user with a maxLevel is cleared for every level from
+    its minLevel, the lowest level when unset, up to its maxLevel, and data is judged by the highest of its levels.
+    The levels of its permissions are then ignored.  A user without a maxLevel holds exactly the levels of its
+    permissions.
  */
 struct User{
     1: SecurityContainer permissions;
     2: optional string username;
+    3: optional Level maxLevel;
+    4: optional Level minLevel;
 }
 
 /**
@@ -65,6 +70,116 @@ struct ProtectedKey{
 struct ProtectedDocument{
       1: map<ProtectedKey,ProtectedField> fields;
       2: SecurityContainer overallMarkings; //document level
+      //True when whoever can see the document can see every one of its fields, the fields are then never evaluated
+      3: optional bool fieldsCovered;
+}
+
+/**
+   The documents and fields of a batch that one user can see, one bit per entry.  Bit i is held in byte i / 8 at
+   position i % 8.  Document bits follow the order of the batch.  Field bits follow the order of the batch and,
+   within a document, the ascending order of the field names; the fields of a document that cannot be seen are
+   never set.
+ */
+struct VisibilityMask{
+      1: binary documents;
+      2: binary fields;
+}
+
+/**
+   The markings of a document without any of its values, for callers that already hold the data and only need to
+   know what may be shown.
+ */
+struct MarkedDocument{
+      1: map<ProtectedKey,SecurityContainer> fieldMarkings;
+      2: SecurityContainer overallMarkings; //document level
+}
+
+/**
+   A field whose markings are the entry at the supplied index of the dictionary of its batch.
+ */
+struct EncodedField{
+      1: string value;
+      2: optional i32 markings;
+}
+
+/**
+   A document whose markings, and those of its fields, are indexes into the dictionary of its batch.
+ */
+struct EncodedDocument{
+      1: map<ProtectedKey,EncodedField> fields;
+      2: optional i32 overallMarkings; //document level
+      3: optional bool fieldsCovered;
+}
+
+/**
+   Documents sharing a dictionary of their distinct markings, so that markings repeated across the batch are sent,
+   and evaluated, once.  An index outside the dictionary, or one left unset, marks data that can never be seen.
+ */
+struct EncodedBatch{
+      1: list<SecurityContainer> markings;
+      2: list<EncodedDocument> documents;
+}
+
+/**
+   The markings of a SecurityContainer packed into one bitmask per dimension, bit n is set for the label whose value
+   is n.  Markings without a container are never seen, a packed container should be left unset in their place.
+ */
+struct PackedSecurityContainer{
+      1: i64 levels;
+      2: i64 groups;
+      3: i64 compartments;
+}
+
+/**
+   A ProtectedField whose markings are packed.
+ */
+struct PackedField{
+      1: string value;
+      2: PackedSecurityContainer markings;
+}
+
+/**
+   A ProtectedDocument whose markings, and those of its fields, are packed.
+ */
+struct PackedDocument{
+      1: map<ProtectedKey,PackedField> fields;
+      2: PackedSecurityContainer overallMarkings; //document level
+      3: optional bool fieldsCovered;
+}
+
+/**
+   Markings drawn from a label space registered at runtime rather than from the enums above, so that labels can be
+   added without changing this file.  Labels are matched by name, following the same rules as SecurityContainer.
+ */
+struct LabeledSecurityContainer{
+     1: set<string> levels,
+     2: set<string> groups,
+     3: set<string> compartments,
+}
+
+/**
+    A User whose permissions are runtime labels.
+ */
+struct LabeledUser{
+    1: LabeledSecurityContainer permissions;
+    2: optional string username;
+}
+
+/**
+   A ProtectedField whose markings are runtime labels.
+ */
+struct LabeledField{
+      1: string value;
+      2: LabeledSecurityContainer markings;
+}
+
+/**
+   A ProtectedDocument whose markings, and those of its fields, are runtime labels.
+ */
+struct LabeledDocument{
+      1: map<ProtectedKey,LabeledField> fields;
+      2: LabeledSecurityContainer overallMarkings; //document level
+      3: optional bool fieldsCovered;
 }
 
 /**
@@ -75,4 +190,22 @@ struct ProtectedDocument{
 service ProtectionService{
       //Nulls fields you can't see
       list<ProtectedDocument> authorize(1: User user, 2: list<ProtectedDocument> fields),
+
+      //One mask per user, in the order of the users, the documents are evaluated once for all of them
+      list<VisibilityMask> authorizeMany(1: list<User> users, 2: list<ProtectedDocument> documents),
+
+      //What the user can see, without sending the values back
+      VisibilityMask authorizeMask(1: User user, 2: list<ProtectedDocument> documents),
+
+      //What the user can see, the values never travel in either direction
+      VisibilityMask authorizeMarkings(1: User user, 2: list<MarkedDocument> documents),
+
+      //Nulls fields you can't see, the documents refer to the markings of the batch by index
+      list<EncodedDocument> authorizeEncoded(1: User user, 2: EncodedBatch batch),
+
+      //Nulls fields you can't see, the markings are bitmasks rather than sets
+      list<PackedDocument> authorizePacked(1: User user, 2: list<PackedDocument> documents),
+
+      //Nulls fields you can't see, the markings and permissions are runtime labels
+      list<LabeledDocument> authorizeLabeled(1: LabeledUser user, 2: list<LabeledDocument> documents),
 }
@@ -0,0 +1,150 @@
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Before;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+public class AsyncProtectionServiceHandlerTest {
+
+    private User user;
+    private List<ProtectedDocument> documents;
+
+    @Before
+    public void setUp() throws Exception {
+        user = new User();
+        user.setUsername("test");
+        user.setPermissions(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                  EnumSet.of(Compartment.ALPHA)));
+        SecurityContainer publicContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                                  EnumSet.of(Compartment.ALPHA));
+        SecurityContainer bravoContainer = new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                                 EnumSet.of(Compartment.BRAVO));
+        documents = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+            fields.put(new ProtectedKey("Alpha"), new ProtectedField("alpha " + i, publicContainer));
+            fields.put(new ProtectedKey("Beta"), new ProtectedField("beta " + i, bravoContainer));
+            documents.add(new ProtectedDocument(fields, i % 2 == 0 ? publicContainer : bravoContainer));
+        }
+    }
+
+    @Test
+    public void asyncServerMatchesTheHandler() throws Exception {
+        ServerSettings settings = new ServerSettings();
+        settings.setMode(ServerSettings.Mode.ASYNC);
+        settings.setPort(TestFixtures.freePort());
+        ProtectionServiceHandler handler = new ProtectionServiceHandler();
+        TProcessor processor = AuthorizationServer.processor(handler, settings, null);
+        assertTrue(processor instanceof ProtectionService.AsyncProcessor);
+
+        TServer server = AuthorizationServer.create(processor, settings);
+        TestFixtures.serve(server);
+        try {
+            TTransport transport = TestFixtures.open(settings.getPort(), true);
+            try {
+                ProtectionService.Client client = TestFixtures.client(transport);
+                List<ProtectedDocument> expected = handler.authorize(user, copy(documents));
+                assertEquals(expected, client.authorize(user, documents));
+                assertEquals(5, expected.size());
+            } finally {
+                transport.close();
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void rejectedCallsFailTheirCallback() throws Exception {
+        Executor saturated = new Executor() {
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("saturated");
+            }
+        };
+        RecordingCallback callback = new RecordingCallback();
+        new AsyncProtectionServiceHandler(new ProtectionServiceHandler(), saturated).authorize(user, documents, callback);
+        assertNull(callback.result);
+        assertTrue(callback.error instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void failedCallsFailTheirCallback() throws Exception {
+        Executor direct = new Executor() {
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        ProtectionService.Iface failing = new ProtectionServiceHandler() {
+            @Override
+            public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> fields) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        RecordingCallback callback = new RecordingCallback();
+        new AsyncProtectionServiceHandler(failing, direct).authorize(user, documents, callback);
+        assertTrue(callback.error instanceof IllegalStateException);
+
+        callback = new RecordingCallback();
+        new AsyncProtectionServiceHandler(new ProtectionServiceHandler(), direct).authorize(user, documents, callback);
+        assertNull(callback.error);
+        assertEquals(5, ((List<?>) callback.result).size());
+    }
+
+    @Test
+    public void errorsFailTheirCallback() throws Exception {
+        ProtectionService.Iface failing = new ProtectionServiceHandler() {
+            @Override
+            public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> fields) {
+                throw new StackOverflowError();
+            }
+        };
+        RecordingCallback callback = new RecordingCallback();
+        new AsyncProtectionServiceHandler(failing, Runnable::run).authorize(user, documents, callback);
+        assertNull(callback.result);
+        assertTrue(callback.error instanceof TApplicationException);
+        assertEquals(TApplicationException.INTERNAL_ERROR, ((TApplicationException) callback.error).getType());
+    }
+
+    private static List<ProtectedDocument> copy(List<ProtectedDocument> documents){
+        List<ProtectedDocument> copy = new ArrayList<>(documents.size());
+        for(ProtectedDocument document : documents){
+            copy.add(new ProtectedDocument(document));
+        }
+        return copy;
+    }
+
+    private static class RecordingCallback implements AsyncMethodCallback<Object> {
+
+        private Object result;
+        private Exception error;
+
+        public void onComplete(Object response) {
+            result = response;
+        }
+
+        public void onError(Exception exception) {
+            error = exception;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Before;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AuthorizationMetricsTest {
+
+    private AuthorizationMetrics metrics;
+    private User user;
+
+    @Before
+    public void setUp() throws Exception {
+        metrics = new AuthorizationMetrics();
+        user = new User(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                              EnumSet.of(Compartment.ALPHA)));
+    }
+
+    @Test
+    public void histogramReportsValuesWithinItsPrecision() throws Exception {
+        Histogram histogram = new Histogram();
+        for(long value = 1; value <= 1000; value++){
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.0);
+        long median = histogram.getValueAtPercentile(50.0);
+        assertTrue(median >= 500 && median <= 500 + 500 / 16);
+        assertEquals(1000, histogram.getValueAtPercentile(100.0));
+        assertEquals(0, new Histogram().getValueAtPercentile(99.0));
+    }
+
+    @Test
+    public void histogramBucketsCoverEveryLong() throws Exception {
+        for(long value : new long[]{0L, 15L, 16L, 17L, 1000L, 123456789L, Long.MAX_VALUE}){
+            int bucket = Histogram.bucket(value);
+            assertTrue(Histogram.highestEquivalentValue(bucket) >= value);
+            assertTrue(bucket == 0 || Histogram.highestEquivalentValue(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    public void handlerCountsDecisionsPerDimension() throws Exception {
+        ProtectionServiceHandler handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE, new MarkingDictionary(), metrics);
+        handler.authorize(user, documents());
+        assertBatchCounted();
+        assertEquals(1, metrics.getAuthorizeLatency().getCount());
+    }
+
+    @Test
+    public void parallelFilteringCountsEveryDecision() throws Exception {
+        ProtectionServiceHandler handler = new ProtectionServiceHandler(new ForkJoinPool(2), 1, new MarkingDictionary(), metrics);
+        handler.authorize(user, documents());
+        assertBatchCounted();
+    }
+
+    @Test
+    public void requestsRecordTheirSerializationTime() throws Exception {
+        metrics.startRequest();
+        metrics.recordEvaluation(100L);
+        metrics.recordRequest(250L);
+        metrics.startRequest();
+        metrics.recordRequest(50L);
+        assertEquals(2, metrics.getRequests());
+        assertEquals(1, metrics.getSerializationLatency().getCount());
+        assertEquals(150, metrics.getSerializationLatencyMax());
+    }
+
+    @Test
+    public void requestsAreTimedFromTheHeaderOfTheirCall() throws Exception {
+        TMemoryBuffer call = new TMemoryBuffer(1024);
+        new ProtectionService.Client(new TBinaryProtocol(call)).send_authorize(user, documents());
+        final byte[] bytes = Arrays.copyOf(call.getArray(), call.length());
+        // a client that waits before sending its call, as on a kept alive connection
+        TTransport idle = new TTransport() {
+            private int position = -1;
+
+            public boolean isOpen() {
+                return true;
+            }
+
+            public void open() {
+            }
+
+            public void close() {
+            }
+
+            public int read(byte[] buf, int off, int len) {
+                if(position < 0){
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    position = 0;
+                }
+                int read = Math.min(len, bytes.length - position);
+                System.arraycopy(bytes, position, buf, off, read);
+                position += read;
+                return read;
+            }
+
+            public void write(byte[] buf, int off, int len) {
+            }
+        };
+        InstrumentedProcessor processor = new InstrumentedProcessor(
+                new ProtectionService.Processor<>(new ProtectionServiceHandler()), metrics);
+        assertTrue(processor.process(new TBinaryProtocol(idle), new TBinaryProtocol(new TMemoryBuffer(1024))));
+        assertEquals(1, metrics.getRequests());
+        assertTrue(metrics.getRequestLatencyMax() < TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    /**
+     * A visible document holding a visible field and a field denied by its level, a document denied by its group
+     * and a document denied by its level and compartment.
+     */
+    private static List<ProtectedDocument> documents(){
+        List<ProtectedDocument> documents = new ArrayList<>();
+        Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+        fields.put(new ProtectedKey("name"), new ProtectedField("bob", container(Level.PUBLIC, Group.HR, null)));
+        fields.put(new ProtectedKey("salary"), new ProtectedField("1", container(Level.SENSITIVE, Group.HR, null)));
+        documents.add(new ProtectedDocument(fields, container(Level.PUBLIC, Group.HR, Compartment.ALPHA)));
+        documents.add(new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(),
+                                            container(Level.PUBLIC, Group.IT, null)));
+        documents.add(new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(),
+                                            container(Level.SENSITIVE, Group.HR, Compartment.BRAVO)));
+        return documents;
+    }
+
+    private static SecurityContainer container(Level level, Group group, Compartment compartment){
+        return new SecurityContainer(EnumSet.of(level), EnumSet.of(group),
+                                     null == compartment ? EnumSet.noneOf(Compartment.class) : EnumSet.of(compartment));
+    }
+
+    private void assertBatchCounted(){
+        assertEquals(1, metrics.getBatches());
+        assertEquals(3, metrics.getDocumentsIn());
+        assertEquals(1, metrics.getDocumentsOut());
+        assertEquals(2, metrics.getFieldsEvaluated());
+        assertEquals(1, metrics.getFieldsNulled());
+        assertEquals(2, metrics.getLevelDenials());
+        assertEquals(1, metrics.getGroupDenials());
+        assertEquals(1, metrics.getCompartmentDenials());
+        assertEquals(2 / 5.0, metrics.getLevelDenyRatio(), 1e-9);
+        assertEquals(3, metrics.getBatchSizeMax());
+    }
+}
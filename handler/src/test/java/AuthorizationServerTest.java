@@ -0,0 +1,112 @@
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import security.ProtectedDocument;
+import security.ProtectedKey;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+public class AuthorizationServerTest {
+
+    private ServerSettings settings;
+    private TServer server;
+    private User user;
+
+    @Before
+    public void setUp() throws Exception {
+        settings = new ServerSettings();
+        settings.setWorkerThreads(1);
+        settings.setPort(TestFixtures.freePort());
+        user = TestFixtures.user();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if(null != server){
+            server.stop();
+        }
+    }
+
+    @Test
+    public void threadPoolRoundTrip() throws Exception {
+        start(ServerSettings.Mode.THREAD_POOL);
+        assertRoundTrip(TestFixtures.open(settings.getPort(), false));
+    }
+
+    @Test(timeout = 10000)
+    public void threadPoolServesMoreConnectionsThanWorkers() throws Exception {
+        settings.setMaxConnections(3);
+        start(ServerSettings.Mode.THREAD_POOL);
+        List<TTransport> transports = new ArrayList<>();
+        try {
+            // each connection keeps its worker, the third would wait forever behind a pool of one
+            for(int i = 0; i < 3; i++){
+                TTransport transport = TestFixtures.open(settings.getPort(), false);
+                transports.add(transport);
+                assertEquals(1, TestFixtures.client(transport).authorize(user, TestFixtures.documents()).size());
+            }
+        } finally {
+            for(TTransport transport : transports){
+                transport.close();
+            }
+        }
+    }
+
+    @Test
+    public void threadedSelectorRoundTrip() throws Exception {
+        start(ServerSettings.Mode.THREADED_SELECTOR);
+        assertRoundTrip(TestFixtures.open(settings.getPort(), true));
+    }
+
+    @Test
+    public void hshaRoundTrip() throws Exception {
+        start(ServerSettings.Mode.HSHA);
+        assertRoundTrip(TestFixtures.open(settings.getPort(), true));
+    }
+
+    @Test
+    public void asyncRoundTrip() throws Exception {
+        start(ServerSettings.Mode.ASYNC);
+        assertRoundTrip(TestFixtures.open(settings.getPort(), true));
+    }
+
+    @Test
+    public void aCoalesceWindowOfZeroNeverMergesCalls() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(ServerSettings.PREFIX + "coalesceWindow", "0");
+        assertEquals(0, ServerSettings.fromProperties(properties).getCoalesceWindow());
+        properties.setProperty(ServerSettings.PREFIX + "coalesceWindow", "-1");
+        try {
+            ServerSettings.fromProperties(properties);
+            fail("A negative window is rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private void start(ServerSettings.Mode mode) throws Exception {
+        settings.setMode(mode);
+        ProtectionServiceHandler handler = AuthorizationServer.handler(settings, new MarkingDictionary(), null);
+        TProcessor processor = AuthorizationServer.processor(handler, settings, null);
+        server = AuthorizationServer.create(processor, settings);
+        TestFixtures.serve(server);
+    }
+
+    private void assertRoundTrip(TTransport transport) throws Exception {
+        try {
+            List<ProtectedDocument> results = TestFixtures.client(transport).authorize(user, TestFixtures.documents());
+            assertEquals(1, results.size());
+            assertEquals("bob", results.get(0).getFields().get(new ProtectedKey("name")).getValue());
+            assertNull(results.get(0).getFields().get(new ProtectedKey("salary")).getValue());
+        } finally {
+            transport.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.EnumSet;
+
+import static org.junit.Assert.*;
+
+public class ClearanceTest {
+
+    private static final long PUBLIC = 1L << Level.PUBLIC.getValue();
+    private static final long SENSITIVE = 1L << Level.SENSITIVE.getValue();
+    private static final long IT = 1L << Group.IT.getValue();
+    private static final long HR = 1L << Group.HR.getValue();
+    private static final long ALPHA = 1L << Compartment.ALPHA.getValue();
+    private static final long BRAVO = 1L << Compartment.BRAVO.getValue();
+
+    @Test
+    public void dataLevelsMustBeASubsetOfTheUsers() throws Exception {
+        Clearance clearance = new Clearance(PUBLIC, 0L, 0L);
+        assertTrue(clearance.permits(PUBLIC, 0L, 0L));
+        assertFalse(clearance.permits(SENSITIVE, 0L, 0L));
+        assertFalse(clearance.permits(PUBLIC | SENSITIVE, 0L, 0L));
+        assertEquals(MarkingEvaluator.LEVEL_DENIED, clearance.denials(SENSITIVE, 0L, 0L));
+        assertTrue(new Clearance(PUBLIC | SENSITIVE, 0L, 0L).permits(PUBLIC | SENSITIVE, 0L, 0L));
+    }
+
+    @Test
+    public void anyOneGroupOfTheDataIsEnough() throws Exception {
+        Clearance clearance = new Clearance(0L, HR, 0L);
+        assertTrue(clearance.permits(0L, HR, 0L));
+        assertTrue(clearance.permits(0L, IT | HR, 0L));
+        assertFalse(clearance.permits(0L, IT, 0L));
+        assertEquals(MarkingEvaluator.GROUP_DENIED, clearance.denials(0L, IT, 0L));
+    }
+
+    @Test
+    public void everyCompartmentOfTheDataIsRequired() throws Exception {
+        Clearance clearance = new Clearance(0L, 0L, ALPHA);
+        assertTrue(clearance.permits(0L, 0L, ALPHA));
+        assertFalse(clearance.permits(0L, 0L, ALPHA | BRAVO));
+        assertEquals(MarkingEvaluator.COMPARTMENT_DENIED, clearance.denials(0L, 0L, BRAVO));
+        assertTrue(new Clearance(0L, 0L, ALPHA | BRAVO).permits(0L, 0L, ALPHA | BRAVO));
+    }
+
+    @Test
+    public void emptyDimensionsOfTheDataAreNoRestriction() throws Exception {
+        Clearance clearance = new Clearance(PUBLIC, HR, ALPHA);
+        assertTrue(clearance.permits(0L, 0L, 0L));
+        assertTrue(clearance.permits(PUBLIC, 0L, 0L));
+        assertTrue(clearance.permits(0L, HR, 0L));
+        assertEquals(MarkingEvaluator.LEVEL_DENIED | MarkingEvaluator.GROUP_DENIED | MarkingEvaluator.COMPARTMENT_DENIED,
+                     clearance.denials(SENSITIVE, IT, BRAVO));
+    }
+
+    @Test
+    public void noneOnlyPermitsUnmarkedData() throws Exception {
+        assertTrue(Clearance.NONE.permits(0L, 0L, 0L));
+        assertFalse(Clearance.NONE.permits(PUBLIC, 0L, 0L));
+        assertFalse(Clearance.NONE.permits(0L, IT, 0L));
+        assertFalse(Clearance.NONE.permits(0L, 0L, ALPHA));
+        assertEquals(Clearance.NONE, new Clearance(0L, 0L, 0L));
+    }
+
+    @Test
+    public void compiledFromTheUsersSets() throws Exception {
+        User user = new User(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT, Group.HR),
+                                                   EnumSet.noneOf(Compartment.class)));
+        Clearance clearance = Clearance.compile(user);
+        assertEquals(new Clearance(PUBLIC, IT | HR, 0L), clearance);
+        assertEquals(new Clearance(PUBLIC, IT | HR, 0L).hashCode(), clearance.hashCode());
+        assertFalse(clearance.isOrdered());
+
+        user.setPermissions(new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                  EnumSet.noneOf(Compartment.class)));
+        assertEquals(Clearance.NONE, Clearance.compile(user));
+    }
+
+    @Test
+    public void permitsContainersAsTheirMasks() throws Exception {
+        Clearance clearance = new Clearance(PUBLIC, HR, ALPHA);
+        assertTrue(clearance.permits(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR, Group.IT),
+                                                           EnumSet.of(Compartment.ALPHA))));
+        assertFalse(clearance.permits(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                            EnumSet.allOf(Compartment.class))));
+    }
+}
@@ -0,0 +1,203 @@
+import org.apache.thrift.TException;
+import org.junit.Test;
+import security.Compartment;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.Group;
+import security.LabeledDocument;
+import security.LabeledUser;
+import security.Level;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+import security.VisibilityMask;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CoalescingHandlerTest {
+
+    private static final SecurityContainer HR = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                                      EnumSet.noneOf(Compartment.class));
+    private static final SecurityContainer IT = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT),
+                                                                      EnumSet.noneOf(Compartment.class));
+
+    private final CountingHandler counting = new CountingHandler();
+
+    @Test
+    public void concurrentCallsWithTheSamePermissionsAreMerged() throws Exception {
+        CoalescingHandler handler = new CoalescingHandler(counting, 200, TimeUnit.MILLISECONDS, 1000);
+        List<List<ProtectedDocument>> results = call(handler, 8, HR);
+        for(int i = 0; i < 8; i++){
+            List<ProtectedDocument> visible = results.get(i);
+            assertEquals(1, visible.size());
+            assertEquals("call" + i, visible.get(0).getFields().get(new ProtectedKey("name")).getValue());
+            assertNull(visible.get(0).getFields().get(new ProtectedKey("group")).getValue());
+        }
+        assertTrue(counting.calls.get() < 8);
+    }
+
+    @Test
+    public void callsWithDifferentPermissionsAreNotMerged() throws Exception {
+        CoalescingHandler handler = new CoalescingHandler(counting, 100, TimeUnit.MILLISECONDS, 1000);
+        List<Future<List<ProtectedDocument>>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            futures.add(executor.submit(authorize(handler, new User(HR), 0)));
+            futures.add(executor.submit(authorize(handler, new User(IT), 1)));
+            assertEquals(1, futures.get(0).get().size());
+            assertNotNull(futures.get(0).get().get(0).getFields().get(new ProtectedKey("name")).getValue());
+            assertNull(futures.get(1).get().get(0).getFields().get(new ProtectedKey("name")).getValue());
+            assertNotNull(futures.get(1).get().get(0).getFields().get(new ProtectedKey("group")).getValue());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, counting.calls.get());
+    }
+
+    @Test
+    public void callsWithTheSamePermissionsButDifferentLevelBoundsAreNotMerged() throws Exception {
+        CoalescingHandler handler = new CoalescingHandler(counting, 200, TimeUnit.MILLISECONDS, 1000);
+        User bounded = new User(HR);
+        bounded.setMaxLevel(Level.SENSITIVE);
+        User named = new User(HR);
+        named.setUsername("bob");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final CountDownLatch ready = new CountDownLatch(3);
+            List<Future<List<ProtectedDocument>>> futures = new ArrayList<>();
+            for(final User user : new User[]{new User(HR), bounded, named}){
+                final Callable<List<ProtectedDocument>> call = authorize(handler, user, futures.size());
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return call.call();
+                }));
+            }
+            // only the bounded user reaches the sensitive document
+            assertEquals(1, futures.get(0).get().size());
+            assertEquals(2, futures.get(1).get().size());
+            assertEquals(1, futures.get(2).get().size());
+        } finally {
+            executor.shutdown();
+        }
+        // the user that only differs by its username joins the first batch
+        assertEquals(2, counting.calls.get());
+    }
+
+    @Test
+    public void aFullBatchIsEvaluatedWithoutWaitingOutTheWindow() throws Exception {
+        // each call holds two documents, so two calls fill the batch
+        CoalescingHandler handler = new CoalescingHandler(counting, 1, TimeUnit.HOURS, 4);
+        long start = System.nanoTime();
+        List<List<ProtectedDocument>> results = call(handler, 2, HR);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+        assertEquals(1, results.get(0).size());
+        assertEquals(1, results.get(1).size());
+        assertEquals(1, counting.calls.get());
+    }
+
+    @Test
+    public void largeCallsAreNotMerged() throws Exception {
+        CoalescingHandler handler = new CoalescingHandler(counting, 1, TimeUnit.HOURS, 2);
+        assertEquals(1, handler.authorize(new User(HR), documents(0)).size());
+        assertEquals(1, counting.calls.get());
+    }
+
+    private static List<List<ProtectedDocument>> call(CoalescingHandler handler, int calls, SecurityContainer permissions)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls);
+        try {
+            final CountDownLatch ready = new CountDownLatch(calls);
+            List<Future<List<ProtectedDocument>>> futures = new ArrayList<>();
+            for(int i = 0; i < calls; i++){
+                final Callable<List<ProtectedDocument>> call = authorize(handler, new User(permissions), i);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return call.call();
+                }));
+            }
+            List<List<ProtectedDocument>> results = new ArrayList<>();
+            for(Future<List<ProtectedDocument>> future : futures){
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Callable<List<ProtectedDocument>> authorize(final CoalescingHandler handler, final User user, final int call){
+        return () -> handler.authorize(user, documents(call));
+    }
+
+    /**
+     * @return A document with a field for HR and a field for IT, and a document nobody can see
+     */
+    private static List<ProtectedDocument> documents(int call){
+        SecurityContainer unmarked = new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                           EnumSet.noneOf(Compartment.class));
+        SecurityContainer denied = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                         EnumSet.noneOf(Compartment.class));
+        Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+        fields.put(new ProtectedKey("name"), new ProtectedField("call" + call, HR));
+        fields.put(new ProtectedKey("group"), new ProtectedField("it", IT));
+        List<ProtectedDocument> documents = new ArrayList<>();
+        documents.add(new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(), denied));
+        documents.add(new ProtectedDocument(fields, unmarked));
+        return documents;
+    }
+
+    private static class CountingHandler implements ProtectionService.Iface {
+
+        private final ProtectionServiceHandler handler = new ProtectionServiceHandler();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        public List<ProtectedDocument> authorize(User user, List<ProtectedDocument> documents) throws TException {
+            calls.incrementAndGet();
+            return handler.authorize(user, documents);
+        }
+
+        public List<VisibilityMask> authorizeMany(List<User> users, List<ProtectedDocument> documents) throws TException {
+            return handler.authorizeMany(users, documents);
+        }
+
+        public VisibilityMask authorizeMask(User user, List<ProtectedDocument> documents) throws TException {
+            return handler.authorizeMask(user, documents);
+        }
+
+        public VisibilityMask authorizeMarkings(User user, List<MarkedDocument> documents) throws TException {
+            return handler.authorizeMarkings(user, documents);
+        }
+
+        public List<EncodedDocument> authorizeEncoded(User user, EncodedBatch batch) throws TException {
+            return handler.authorizeEncoded(user, batch);
+        }
+
+        public List<PackedDocument> authorizePacked(User user, List<PackedDocument> documents) throws TException {
+            return handler.authorizePacked(user, documents);
+        }
+
+        public List<LabeledDocument> authorizeLabeled(LabeledUser user, List<LabeledDocument> documents) throws TException {
+            return handler.authorizeLabeled(user, documents);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+import security.VisibilityMask;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CompiledBatchTest {
+
+    private static final SecurityContainer PUBLIC = new SecurityContainer(EnumSet.of(Level.PUBLIC),
+            EnumSet.noneOf(Group.class), EnumSet.noneOf(Compartment.class));
+    private static final SecurityContainer SENSITIVE = new SecurityContainer(EnumSet.of(Level.SENSITIVE),
+            EnumSet.noneOf(Group.class), EnumSet.noneOf(Compartment.class));
+    private static final Clearance USER = new Clearance(1L << Level.PUBLIC.getValue(), 0L, 0L);
+
+    @Test
+    public void documentsPrecedeTheirFieldsInTheBitset() throws Exception {
+        CompiledBatch batch = CompiledBatch.compile(Arrays.asList(document(PUBLIC, PUBLIC, SENSITIVE),
+                                                                  document(SENSITIVE, PUBLIC),
+                                                                  document(PUBLIC, SENSITIVE, PUBLIC)));
+        assertEquals(3, batch.getDocumentCount());
+        assertEquals(5, batch.getFieldCount());
+
+        long[] visible = batch.evaluate(USER, null);
+        assertTrue(CompiledBatch.isSet(visible, 0));
+        assertFalse(CompiledBatch.isSet(visible, 1));
+        assertTrue(CompiledBatch.isSet(visible, 2));
+        assertTrue(CompiledBatch.isSet(visible, 3));
+        assertFalse(CompiledBatch.isSet(visible, 4));
+        // the field of the denied document is never set
+        assertFalse(CompiledBatch.isSet(visible, 5));
+        assertFalse(CompiledBatch.isSet(visible, 6));
+        assertTrue(CompiledBatch.isSet(visible, 7));
+    }
+
+    @Test
+    public void applyingNullsTheDeniedFieldsOfVisibleDocuments() throws Exception {
+        ProtectedDocument visible = document(PUBLIC, PUBLIC, SENSITIVE);
+        ProtectedDocument denied = document(SENSITIVE, PUBLIC);
+        CompiledBatch batch = CompiledBatch.compile(Arrays.asList(visible, denied));
+
+        List<ProtectedDocument> remaining = batch.apply(batch.evaluate(USER, null));
+        assertEquals(Arrays.asList(visible), remaining);
+        assertEquals("0", visible.getFields().get(new ProtectedKey("0")).getValue());
+        assertNull(visible.getFields().get(new ProtectedKey("1")).getValue());
+        assertEquals("0", denied.getFields().get(new ProtectedKey("0")).getValue());
+    }
+
+    @Test
+    public void coveredFieldsAreVisibleWithoutBeingCounted() throws Exception {
+        ProtectedDocument covered = document(PUBLIC, SENSITIVE, SENSITIVE);
+        covered.setFieldsCovered(true);
+        CompiledBatch batch = CompiledBatch.compile(Arrays.asList(covered, document(PUBLIC, SENSITIVE)));
+        DecisionTally tally = new DecisionTally();
+
+        long[] visible = batch.evaluate(USER, tally);
+        assertTrue(CompiledBatch.isSet(visible, 2));
+        assertTrue(CompiledBatch.isSet(visible, 3));
+        assertFalse(CompiledBatch.isSet(visible, 4));
+        assertEquals(2, tally.documents);
+        assertEquals(3, tally.fields);
+        assertEquals(1, tally.fieldsDenied);
+        assertEquals(1, tally.levelDenials);
+    }
+
+    @Test
+    public void wideBatchesSpanSeveralWords() throws Exception {
+        ProtectedDocument[] documents = new ProtectedDocument[100];
+        for(int i = 0; i < documents.length; i++){
+            documents[i] = i % 3 == 0 ? document(SENSITIVE, PUBLIC) : document(PUBLIC, i % 2 == 0 ? PUBLIC : SENSITIVE);
+        }
+        CompiledBatch batch = CompiledBatch.compile(Arrays.asList(documents));
+        long[] visible = batch.evaluate(USER, null);
+        for(int i = 0; i < documents.length; i++){
+            assertEquals(i % 3 != 0, CompiledBatch.isSet(visible, i));
+            assertEquals(i % 3 != 0 && i % 2 == 0, CompiledBatch.isSet(visible, documents.length + i));
+        }
+        assertEquals(66, batch.apply(visible).size());
+    }
+
+    @Test
+    public void unmarkedEntriesAreDenied() throws Exception {
+        ProtectedDocument unmarked = document(null, PUBLIC);
+        ProtectedDocument visible = document(PUBLIC, null, PUBLIC);
+        CompiledBatch batch = CompiledBatch.compile(Arrays.asList(unmarked, visible));
+        DecisionTally tally = new DecisionTally();
+
+        List<ProtectedDocument> remaining = batch.apply(batch.evaluate(USER, tally));
+        assertEquals(Arrays.asList(visible), remaining);
+        assertNull(visible.getFields().get(new ProtectedKey("0")).getValue());
+        assertEquals("1", visible.getFields().get(new ProtectedKey("1")).getValue());
+        assertEquals(2, tally.documents);
+        assertEquals(1, tally.fieldsDenied);
+    }
+
+    @Test
+    public void masksMatchTheBitset() throws Exception {
+        List<ProtectedDocument> documents = Arrays.asList(document(PUBLIC, PUBLIC, SENSITIVE),
+                                                          document(SENSITIVE, PUBLIC),
+                                                          document(PUBLIC, null, PUBLIC));
+        MarkingDictionary dictionary = new MarkingDictionary();
+        CompiledBatch batch = CompiledBatch.compile(documents, dictionary);
+        long[] visible = CompiledBatch.compile(documents).evaluate(USER, null);
+
+        VisibilityMask mask = batch.evaluate(new DecisionCache(USER, dictionary));
+        for(int i = 0; i < batch.getDocumentCount(); i++){
+            assertEquals(CompiledBatch.isSet(visible, i), (mask.getDocuments()[i >>> 3] & (1 << (i & 7))) != 0);
+        }
+        for(int i = 0; i < batch.getFieldCount(); i++){
+            assertEquals(CompiledBatch.isSet(visible, batch.getDocumentCount() + i),
+                         (mask.getFields()[i >>> 3] & (1 << (i & 7))) != 0);
+        }
+    }
+
+    /**
+     * @return A document whose fields are named and valued after their position
+     */
+    private static ProtectedDocument document(SecurityContainer overall, SecurityContainer... fields){
+        Map<ProtectedKey, ProtectedField> map = new LinkedHashMap<>();
+        for(int i = 0; i < fields.length; i++){
+            map.put(new ProtectedKey(String.valueOf(i)), new ProtectedField(String.valueOf(i), fields[i]));
+        }
+        return new ProtectedDocument(map, overall);
+    }
+}
@@ -0,0 +1,50 @@
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CompressedFramedTransportTest {
+
+    @Test
+    public void framesRoundTripAndShrink() throws Exception {
+        SecurityContainer markings = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                           EnumSet.of(Compartment.ALPHA));
+        Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+        for(int i = 0; i < 100; i++){
+            fields.put(new ProtectedKey("field" + i), new ProtectedField("value" + i, markings));
+        }
+        ProtectedDocument document = new ProtectedDocument(fields, markings);
+
+        TMemoryBuffer plain = new TMemoryBuffer(1024);
+        document.write(new TCompactProtocol(plain));
+
+        TMemoryBuffer wire = new TMemoryBuffer(1024);
+        CompressedFramedTransport writer = new CompressedFramedTransport(wire);
+        TProtocol out = new TCompactProtocol(writer);
+        document.write(out);
+        writer.flush();
+        document.write(out);
+        writer.flush();
+        assertTrue(wire.length() < plain.length());
+
+        TProtocol in = new TCompactProtocol(new CompressedFramedTransport(wire));
+        for(int i = 0; i < 2; i++){
+            ProtectedDocument read = new ProtectedDocument();
+            read.read(in);
+            assertEquals(document, read);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.EnumSet;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+public class GroupHierarchyTest {
+
+    private static final long IT = 1L << Group.IT.getValue();
+    private static final long HR = 1L << Group.HR.getValue();
+
+    @Test
+    public void parentGroupsHoldTheirChildren() throws Exception {
+        GroupHierarchy hierarchy = hierarchy("HR", "IT");
+        assertEquals(HR | IT, hierarchy.close(HR));
+        assertEquals(IT, hierarchy.close(IT));
+        assertEquals(0L, hierarchy.close(0L));
+    }
+
+    @Test
+    public void cyclesMakeGroupsEquivalent() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("HR", "IT");
+        properties.setProperty("IT", " HR, ");
+        GroupHierarchy hierarchy = GroupHierarchy.parse(properties);
+        assertEquals(HR | IT, hierarchy.close(IT));
+        assertEquals(HR | IT, hierarchy.close(HR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownGroupsAreRejected() throws Exception {
+        hierarchy("HR", "FINANCE");
+    }
+
+    @Test
+    public void clearanceHoldsTheClosureOfItsGroups() throws Exception {
+        User user = new User(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                   EnumSet.noneOf(Compartment.class)));
+        assertFalse(Clearance.compile(user).permits(0L, IT, 0L));
+        assertTrue(Clearance.compile(user, hierarchy("HR", "IT")).permits(0L, IT, 0L));
+        assertEquals(GroupHierarchy.FLAT.close(HR), HR);
+    }
+
+    private static GroupHierarchy hierarchy(String parent, String children){
+        Properties properties = new Properties();
+        properties.setProperty(parent, children);
+        return GroupHierarchy.parse(properties);
+    }
+}
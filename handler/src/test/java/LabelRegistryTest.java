@@ -0,0 +1,114 @@
+import org.junit.Before;
+import org.junit.Test;
+import security.LabeledSecurityContainer;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class LabelRegistryTest {
+
+    private LabelRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new LabelRegistry(200);
+    }
+
+    @Test
+    public void labelsAreAssignedDenseIdsPerDimension() throws Exception {
+        assertEquals(0, registry.register(LabelRegistry.Dimension.GROUP, "finance"));
+        assertEquals(1, registry.register(LabelRegistry.Dimension.GROUP, "legal"));
+        assertEquals(0, registry.register(LabelRegistry.Dimension.GROUP, "finance"));
+        assertEquals(0, registry.register(LabelRegistry.Dimension.COMPARTMENT, "legal"));
+        assertEquals(1, registry.idOf(LabelRegistry.Dimension.GROUP, "legal"));
+        assertEquals(LabelRegistry.NOT_REGISTERED, registry.idOf(LabelRegistry.Dimension.LEVEL, "legal"));
+        assertEquals("legal", registry.nameOf(LabelRegistry.Dimension.GROUP, 1));
+        assertEquals(2, registry.size(LabelRegistry.Dimension.GROUP));
+    }
+
+    @Test
+    public void fullDimensionStopsRegistering() throws Exception {
+        registry = new LabelRegistry(1);
+        registry.register(LabelRegistry.Dimension.LEVEL, "secret");
+        assertEquals(LabelRegistry.NOT_REGISTERED, registry.register(LabelRegistry.Dimension.LEVEL, "top secret"));
+        assertEquals(0, registry.register(LabelRegistry.Dimension.GROUP, "finance"));
+    }
+
+    @Test
+    public void rulesHoldAcrossManyWords() throws Exception {
+        for(int i = 0; i < 150; i++){
+            registry.register(LabelRegistry.Dimension.COMPARTMENT, "c" + i);
+            registry.register(LabelRegistry.Dimension.GROUP, "g" + i);
+        }
+        CompiledLabels user = CompiledLabels.permissions(container(labels(), labels("g3", "g140"), labels("c1", "c70", "c149")),
+                                                         registry);
+        assertEquals(0, CompiledLabels.markings(container(labels(), labels("g140"), labels("c149")), registry).denials(user));
+        assertEquals(0, CompiledLabels.markings(container(labels(), labels(), labels("c1", "c70")), registry).denials(user));
+        assertEquals(MarkingEvaluator.COMPARTMENT_DENIED,
+                     CompiledLabels.markings(container(labels(), labels(), labels("c1", "c100")), registry).denials(user));
+        assertEquals(MarkingEvaluator.GROUP_DENIED,
+                     CompiledLabels.markings(container(labels(), labels("g100", "g64"), labels()), registry).denials(user));
+    }
+
+    @Test
+    public void unregisteredLabelsAreDeniedAndNeverRegistered() throws Exception {
+        registry.register(LabelRegistry.Dimension.LEVEL, "secret");
+        registry.register(LabelRegistry.Dimension.GROUP, "finance");
+        CompiledLabels user = CompiledLabels.permissions(container(labels("secret", "top secret"), labels("finance", "legal"),
+                                                                   labels()), registry);
+        assertEquals(0, CompiledLabels.markings(container(labels("secret"), labels("finance"), labels()), registry)
+                                      .denials(user));
+        assertEquals(MarkingEvaluator.GROUP_DENIED,
+                     CompiledLabels.markings(container(labels("secret"), labels("finance", "legal"), labels()), registry)
+                                   .denials(user));
+        assertEquals(MarkingEvaluator.LEVEL_DENIED | MarkingEvaluator.COMPARTMENT_DENIED,
+                     CompiledLabels.markings(container(labels("top secret"), labels(), labels("project")), registry)
+                                   .denials(user));
+        assertEquals(1, registry.size(LabelRegistry.Dimension.LEVEL));
+        assertEquals(1, registry.size(LabelRegistry.Dimension.GROUP));
+        assertEquals(0, registry.size(LabelRegistry.Dimension.COMPARTMENT));
+    }
+
+    @Test
+    public void equalMarkingsCompileToEqualLabels() throws Exception {
+        registry.register(LabelRegistry.Dimension.GROUP, "finance");
+        registry.register(LabelRegistry.Dimension.GROUP, "legal");
+        CompiledLabels markings = CompiledLabels.markings(container(labels(), labels("finance", "legal"), labels()), registry);
+        assertEquals(markings, CompiledLabels.markings(container(labels(), labels("legal", "finance"), labels()), registry));
+        assertEquals(markings.hashCode(),
+                     CompiledLabels.markings(container(labels(), labels("legal", "finance"), labels()), registry).hashCode());
+        assertNotEquals(markings, CompiledLabels.markings(container(labels(), labels("legal"), labels()), registry));
+    }
+
+    @Test
+    public void parsedFromServerSideProperties() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("group", "finance, legal");
+        properties.setProperty("COMPARTMENT", "alpha");
+        registry = LabelRegistry.parse(2, properties);
+        assertEquals(1, registry.idOf(LabelRegistry.Dimension.GROUP, "legal"));
+        assertEquals(0, registry.idOf(LabelRegistry.Dimension.COMPARTMENT, "alpha"));
+        assertEquals(0, registry.size(LabelRegistry.Dimension.LEVEL));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parsingMoreLabelsThanFitIsRejected() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("GROUP", "finance,legal,audit");
+        LabelRegistry.parse(2, properties);
+    }
+
+    private static LabeledSecurityContainer container(Set<String> levels, Set<String> groups, Set<String> compartments){
+        return new LabeledSecurityContainer(levels, groups, compartments);
+    }
+
+    private static Set<String> labels(String... labels){
+        Set<String> set = new HashSet<>();
+        Collections.addAll(set, labels);
+        return set;
+    }
+}
@@ -0,0 +1,84 @@
+import org.junit.Before;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.SecurityContainer;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class MarkingDictionaryTest {
+
+    private MarkingDictionary dictionary;
+    private SecurityContainer publicContainer;
+    private SecurityContainer sensitiveContainer;
+
+    @Before
+    public void setUp() throws Exception {
+        dictionary = new MarkingDictionary(2);
+        publicContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                EnumSet.of(Compartment.ALPHA));
+        sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                   EnumSet.noneOf(Compartment.class));
+    }
+
+    @Test
+    public void equalMarkingsShareAnId() throws Exception {
+        SecurityContainer copy = new SecurityContainer(new HashSet<>(publicContainer.getLevels()),
+                                                       new HashSet<>(publicContainer.getGroups()),
+                                                       new HashSet<>(publicContainer.getCompartments()));
+        int id = dictionary.intern(publicContainer);
+        assertEquals(id, dictionary.intern(copy));
+        assertNotEquals(id, dictionary.intern(sensitiveContainer));
+        assertEquals(MarkingEvaluator.levels(publicContainer), dictionary.levels(id));
+        assertEquals(MarkingEvaluator.groups(publicContainer), dictionary.groups(id));
+        assertEquals(MarkingEvaluator.compartments(publicContainer), dictionary.compartments(id));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void fullDictionaryStopsInterning() throws Exception {
+        dictionary.intern(publicContainer);
+        dictionary.intern(sensitiveContainer);
+        SecurityContainer other = new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                        EnumSet.of(Compartment.BRAVO));
+        assertEquals(MarkingDictionary.NOT_INTERNED, dictionary.intern(other));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacitiesBeyondTheLargestTableAreRejected() throws Exception {
+        new MarkingDictionary(1 << 29);
+    }
+
+    @Test
+    public void decisionsAreCachedPerClearance() throws Exception {
+        int publicId = dictionary.intern(publicContainer);
+        DecisionCache decisions = new DecisionCache(new Clearance(MarkingEvaluator.levels(publicContainer),
+                                                                  MarkingEvaluator.groups(publicContainer),
+                                                                  MarkingEvaluator.compartments(publicContainer)),
+                                                    dictionary);
+        // interned after the cache was sized, so it is decided without being remembered
+        int sensitiveId = dictionary.intern(sensitiveContainer);
+        assertTrue(decisions.permits(publicId));
+        assertTrue(decisions.permits(publicId));
+        assertFalse(decisions.permits(sensitiveId));
+        assertEquals(MarkingEvaluator.LEVEL_DENIED, decisions.denials(sensitiveId));
+    }
+
+    @Test
+    public void cachedDenialsKeepTheirValue() throws Exception {
+        int publicId = dictionary.intern(publicContainer);
+        int sensitiveId = dictionary.intern(sensitiveContainer);
+        // a policy with rules of its own, reporting them outside the range of a byte
+        Policy policy = (levels, groups, compartments) -> levels == MarkingEvaluator.levels(publicContainer) ? 256 : 0;
+        DecisionCache decisions = new DecisionCache(policy, dictionary);
+        for(int i = 0; i < 2; i++){
+            assertEquals(256, decisions.denials(publicId));
+            assertFalse(decisions.permits(publicId));
+            assertTrue(decisions.permits(sensitiveId));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import org.junit.Before;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class MarkingEvaluatorTest {
+
+    private SecurityContainer dataContainer;
+    private SecurityContainer userContainer;
+
+    @Before
+    public void setUp() throws Exception {
+        dataContainer = new SecurityContainer();
+        dataContainer.setLevels(EnumSet.noneOf(Level.class));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+
+        userContainer = new SecurityContainer();
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        userContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+    }
+
+    @Test
+    public void unknownLabelsCompileToTheUnknownLevel() throws Exception {
+        // the generated code decodes a value without a label as a NULL element
+        HashSet<Group> groups = new HashSet<>();
+        groups.add(Group.HR);
+        groups.add(null);
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(groups);
+        assertEquals(MarkingEvaluator.UNKNOWN | 1L << Level.PUBLIC.getValue(), MarkingEvaluator.levels(dataContainer));
+        assertEquals(1L << Group.HR.getValue(), MarkingEvaluator.groups(dataContainer));
+        assertFalse(MarkingEvaluator.isVisible(dataContainer, userContainer));
+
+        HashSet<Level> levels = new HashSet<>();
+        levels.add(null);
+        dataContainer.setLevels(levels);
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        assertEquals(MarkingEvaluator.UNKNOWN, MarkingEvaluator.levels(dataContainer));
+        // an unknown label held by the user grants nothing
+        assertFalse(MarkingEvaluator.isVisible(dataContainer, dataContainer));
+        assertFalse(Clearance.compile(new User(dataContainer)).permits(dataContainer));
+
+        assertEquals(1L, MarkingEvaluator.checked(1L, 1L << Group.HR.getValue(), 0L));
+        assertEquals(MarkingEvaluator.UNKNOWN | 1L, MarkingEvaluator.checked(1L, 1L << 40, 0L));
+        assertEquals(MarkingEvaluator.UNKNOWN, MarkingEvaluator.checked(0L, 0L, 1L << 40));
+    }
+
+    @Test
+    public void masksUseThriftValues() throws Exception {
+        dataContainer.setLevels(EnumSet.of(Level.SENSITIVE));
+        dataContainer.setGroups(EnumSet.of(Group.IT, Group.HR));
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        assertEquals(1L << Level.SENSITIVE.getValue(), MarkingEvaluator.levels(dataContainer));
+        assertEquals((1L << Group.IT.getValue()) | (1L << Group.HR.getValue()), MarkingEvaluator.groups(dataContainer));
+        assertEquals(1L << Compartment.ALPHA.getValue(), MarkingEvaluator.compartments(dataContainer));
+    }
+
+    @Test
+    public void nullAndHashSetsAreTreatedLikeEnumSets() throws Exception {
+        dataContainer.setLevels(null);
+        dataContainer.setGroups(new HashSet<Group>());
+        dataContainer.setCompartments(new HashSet<Compartment>());
+        assertEquals(0L, MarkingEvaluator.levels(dataContainer));
+        assertTrue(MarkingEvaluator.isVisible(dataContainer, userContainer));
+    }
+
+    @Test
+    public void levelsMustBeASubset() throws Exception {
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        assertTrue(MarkingEvaluator.isVisible(dataContainer, userContainer));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC, Level.SENSITIVE));
+        assertFalse(MarkingEvaluator.isVisible(dataContainer, userContainer));
+    }
+
+    @Test
+    public void groupsNeedASingleMatch() throws Exception {
+        dataContainer.setGroups(EnumSet.of(Group.IT));
+        assertFalse(MarkingEvaluator.isVisible(dataContainer, userContainer));
+        dataContainer.setGroups(EnumSet.of(Group.IT, Group.HR));
+        assertTrue(MarkingEvaluator.isVisible(dataContainer, userContainer));
+    }
+
+    @Test
+    public void compartmentsMustAllMatch() throws Exception {
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        assertTrue(MarkingEvaluator.isVisible(dataContainer, userContainer));
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA, Compartment.BRAVO));
+        assertFalse(MarkingEvaluator.isVisible(dataContainer, userContainer));
+    }
+
+    @Test
+    public void fieldsNoMoreRestrictiveThanTheDocumentAreCovered() throws Exception {
+        SecurityContainer fieldContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT, Group.HR),
+                                                                 EnumSet.of(Compartment.ALPHA));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA, Compartment.BRAVO));
+        assertTrue(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        fieldContainer.setLevels(EnumSet.of(Level.SENSITIVE));
+        assertFalse(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        fieldContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        fieldContainer.setGroups(EnumSet.of(Group.IT));
+        assertFalse(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        fieldContainer.setGroups(EnumSet.noneOf(Group.class));
+        assertTrue(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        assertFalse(MarkingEvaluator.covers(dataContainer, null));
+    }
+
+    @Test
+    public void fieldsBelowTheHighestLevelOfTheDocumentAreNotCovered() throws Exception {
+        SecurityContainer fieldContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.noneOf(Group.class),
+                                                                 EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC, Level.SENSITIVE));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        // a clearance from SENSITIVE up sees the document but not the field
+        assertFalse(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        fieldContainer.setLevels(EnumSet.of(Level.SENSITIVE));
+        assertTrue(MarkingEvaluator.covers(dataContainer, fieldContainer));
+        fieldContainer.setLevels(EnumSet.noneOf(Level.class));
+        assertTrue(MarkingEvaluator.covers(dataContainer, fieldContainer));
+    }
+
+    @Test
+    public void orderedLevelsAreARange() throws Exception {
+        assertEquals(-1, MarkingEvaluator.highestLevel(0L));
+        assertEquals(Level.SENSITIVE.getValue(), MarkingEvaluator.highestLevel(MarkingEvaluator.levels(
+                new SecurityContainer(EnumSet.allOf(Level.class), EnumSet.noneOf(Group.class), EnumSet.noneOf(Compartment.class)))));
+        assertTrue(MarkingEvaluator.isWithin(0, 0, 1));
+        assertTrue(MarkingEvaluator.isWithin(1, 0, 1));
+        assertFalse(MarkingEvaluator.isWithin(2, 0, 1));
+        assertFalse(MarkingEvaluator.isWithin(0, 1, 3));
+        assertTrue(MarkingEvaluator.isWithin(3, 3, 3));
+    }
+}
@@ -0,0 +1,86 @@
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import security.ProtectedDocument;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.User;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NegotiatingServerTransportTest {
+
+    private ServerSettings settings;
+    private TServer server;
+    private User user;
+
+    @Before
+    public void setUp() throws Exception {
+        settings = new ServerSettings();
+        settings.setMode(ServerSettings.Mode.VIRTUAL_THREAD);
+        settings.setNegotiate(true);
+        settings.setPort(TestFixtures.freePort());
+        user = TestFixtures.user();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if(null != server){
+            server.stop();
+        }
+    }
+
+    private void start() throws Exception {
+        server = AuthorizationServer.create(new ProtectionService.Processor<>(new ProtectionServiceHandler()), settings, null);
+        TestFixtures.serve(server);
+    }
+
+    @Test
+    public void everyProtocolAndFramingIsNegotiated() throws Exception {
+        start();
+        WireFormat.Protocol[] protocols = {WireFormat.Protocol.BINARY, WireFormat.Protocol.COMPACT};
+        for(WireFormat.Protocol protocol : protocols){
+            for(WireFormat.Transport transport : WireFormat.Transport.values()){
+                TTransport socket = new TSocket("localhost", settings.getPort());
+                socket.open();
+                try {
+                    ProtectionService.Client client = new ProtectionService.Client(WireFormat.client(socket, protocol, transport));
+                    // twice, the second call is read once the connection has been resolved
+                    for(int i = 0; i < 2; i++){
+                        List<ProtectedDocument> authorized = client.authorize(user, TestFixtures.documents());
+                        assertEquals(protocol + " over " + transport, 1, authorized.size());
+                        assertEquals("bob", authorized.get(0).getFields().get(new ProtectedKey("name")).getValue());
+                    }
+                } finally {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void compactCallsAreReadAsTupleCallsWhenConfigured() throws Exception {
+        settings.setProtocol(WireFormat.Protocol.TUPLE);
+        start();
+        TTransport socket = new TSocket("localhost", settings.getPort());
+        socket.open();
+        try {
+            TProtocol protocol = WireFormat.client(socket, WireFormat.Protocol.TUPLE, WireFormat.Transport.FRAMED);
+            assertEquals(1, new ProtectionService.Client(protocol).authorize(user, TestFixtures.documents()).size());
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonBlockingEnginesDoNotNegotiate() throws Exception {
+        settings.setMode(ServerSettings.Mode.HSHA);
+        AuthorizationServer.create(new ProtectionService.Processor<>(new ProtectionServiceHandler()), settings, null);
+    }
+}
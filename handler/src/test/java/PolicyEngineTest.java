@@ -0,0 +1,144 @@
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.SecurityContainer;
+import security.User;
+import security.VisibilityMask;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class PolicyEngineTest {
+
+    @Test
+    public void olsIsBuiltIn() throws Exception {
+        PolicyEngine engine = PolicyEngine.load(OlsPolicyEngine.NAME);
+        assertEquals(OlsPolicyEngine.NAME, engine.getName());
+        assertSame(Clearance.NONE, engine.compile(null, GroupHierarchy.FLAT));
+        assertSame(Clearance.NONE, engine.compile(new User(), GroupHierarchy.FLAT));
+        assertEquals(Clearance.compile(user()), engine.compile(user(), GroupHierarchy.FLAT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownEnginesAreRejected() throws Exception {
+        PolicyEngine.load("abac");
+    }
+
+    @Test
+    public void handlerDecidesWithItsEngine() throws Exception {
+        ProtectionServiceHandler handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE,
+                new MarkingDictionary(), null, new LabelRegistry(),
+                new AtomicReference<>(GroupHierarchy.FLAT), new DenyGroupsEngine());
+        SecurityContainer publicData = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.noneOf(Group.class),
+                                                             EnumSet.noneOf(Compartment.class));
+        SecurityContainer groupData = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT),
+                                                            EnumSet.noneOf(Compartment.class));
+        Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+        fields.put(new ProtectedKey("alpha"), new ProtectedField("a", publicData));
+        fields.put(new ProtectedKey("beta"), new ProtectedField("b", groupData));
+        List<ProtectedDocument> documents = Collections.singletonList(new ProtectedDocument(fields, publicData));
+
+        List<ProtectedDocument> results = handler.authorize(user(), documents);
+        assertEquals(1, results.size());
+        assertEquals("a", results.get(0).getFields().get(new ProtectedKey("alpha")).getValue());
+        assertNull(results.get(0).getFields().get(new ProtectedKey("beta")).getValue());
+    }
+
+    @Test
+    public void onlyOlsPoliciesHonourCoveredDocuments() throws Exception {
+        assertTrue(Clearance.compile(user()).supportsCovering());
+        assertFalse(new DenyGroups().supportsCovering());
+        ProtectionServiceHandler handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE,
+                new MarkingDictionary(), null, new LabelRegistry(),
+                new AtomicReference<>(GroupHierarchy.FLAT), new DenyGroupsEngine());
+        SecurityContainer publicData = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.noneOf(Group.class),
+                                                             EnumSet.noneOf(Compartment.class));
+        SecurityContainer groupData = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT),
+                                                            EnumSet.noneOf(Compartment.class));
+        Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+        fields.put(new ProtectedKey("alpha"), new ProtectedField("a", publicData));
+        fields.put(new ProtectedKey("beta"), new ProtectedField("b", groupData));
+        ProtectedDocument document = new ProtectedDocument(fields, publicData);
+        // set by the client, whatever the engine of the server
+        document.setFieldsCovered(true);
+
+        VisibilityMask mask = handler.authorizeMask(user(), Collections.singletonList(document));
+        // alpha then beta, in the order of their keys
+        assertEquals(1, mask.getFields()[0]);
+        List<ProtectedDocument> results = handler.authorize(user(), Collections.singletonList(document));
+        assertEquals(1, results.size());
+        assertEquals("a", results.get(0).getFields().get(new ProtectedKey("alpha")).getValue());
+        assertNull(results.get(0).getFields().get(new ProtectedKey("beta")).getValue());
+    }
+
+    @Test
+    public void columnsAreDecidedAsEachEntry() throws Exception {
+        long[] levels = new long[8];
+        long[] groups = new long[8];
+        long[] compartments = new long[8];
+        for(int i = 0; i < 8; i++){
+            levels[i] = i & 3;
+            groups[i] = (i >>> 1) & 3;
+            compartments[i] = (i >>> 2) & 3;
+        }
+        Clearance[] clearances = {Clearance.NONE, Clearance.compile(user()), new Clearance(0, 1, 1L, 0L)};
+        for(Clearance clearance : clearances){
+            int[] denials = new int[8];
+            clearance.denials(levels, groups, compartments, 1, 7, denials);
+            assertEquals(0, denials[0]);
+            assertEquals(0, denials[7]);
+            for(int i = 1; i < 7; i++){
+                assertEquals(clearance.denials(levels[i], groups[i], compartments[i]), denials[i]);
+            }
+        }
+    }
+
+    private static User user(){
+        return new User(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.IT),
+                                              EnumSet.noneOf(Compartment.class)));
+    }
+
+    /**
+     * Sees whatever carries no groups at all.
+     */
+    private static class DenyGroupsEngine implements PolicyEngine {
+
+        @Override
+        public String getName() {
+            return "deny-groups";
+        }
+
+        @Override
+        public Policy compile(User user, GroupHierarchy groups) {
+            return new DenyGroups();
+        }
+    }
+
+    private static class DenyGroups implements Policy {
+
+        @Override
+        public int denials(long levels, long groups, long compartments) {
+            return groups == 0L ? 0 : MarkingEvaluator.GROUP_DENIED;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DenyGroups;
+        }
+
+        @Override
+        public int hashCode() {
+            return DenyGroups.class.hashCode();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import security.ProtectedDocument;
+import security.ProtectionService;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+public class ProtectionClientTest {
+
+    private AuthorizationMetrics metrics;
+    private ClientSettings settings;
+    private TServer server;
+    private User user;
+
+    @Before
+    public void setUp() throws Exception {
+        metrics = new AuthorizationMetrics();
+        ServerSettings serverSettings = new ServerSettings();
+        serverSettings.setMode(ServerSettings.Mode.VIRTUAL_THREAD);
+        serverSettings.setTransport(WireFormat.Transport.FRAMED);
+        serverSettings.setProtocol(WireFormat.Protocol.COMPACT);
+        serverSettings.setPort(TestFixtures.freePort());
+        ProtectionServiceHandler handler = AuthorizationServer.handler(serverSettings,
+                new MarkingDictionary(serverSettings.getDictionaryCapacity()), metrics);
+        server = AuthorizationServer.create(new ProtectionService.Processor<>(handler), serverSettings, metrics);
+        TestFixtures.serve(server);
+        settings = new ClientSettings();
+        settings.setPort(serverSettings.getPort());
+        settings.setTransport(WireFormat.Transport.FRAMED);
+        settings.setProtocol(WireFormat.Protocol.COMPACT);
+        settings.setMaxConnections(2);
+        user = TestFixtures.user();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void connectionsAreReused() throws Exception {
+        try (ProtectionClient client = new ProtectionClient(settings)) {
+            for(int i = 0; i < 10; i++){
+                assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+            }
+            assertEquals(1, client.getPool().getIdle());
+        }
+        assertEquals(1, metrics.getConnectionsOpened());
+    }
+
+    @Test
+    public void idleConnectionsAreCheckedBeforeReuse() throws Exception {
+        settings.setHealthCheckInterval(1);
+        try (ProtectionClient client = new ProtectionClient(settings)) {
+            assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+            Thread.sleep(5);
+            assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+        }
+        // the health check is a call of its own, on the same connection
+        assertEquals(1, metrics.getConnectionsOpened());
+        assertEquals(3, metrics.getBatches());
+    }
+
+    @Test
+    public void batchesArePipelinedInOrder() throws Exception {
+        List<List<ProtectedDocument>> batches = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            batches.add(TestFixtures.documents(i + 1));
+        }
+        try (ProtectionClient client = new ProtectionClient(settings)) {
+            // a call before and after to check the connection stays in step
+            assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+            List<List<ProtectedDocument>> authorized = client.pipeline(user, batches);
+            assertEquals(10, authorized.size());
+            for(int i = 0; i < 10; i++){
+                assertEquals(i + 1, authorized.get(i).size());
+            }
+            assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+        }
+        assertEquals(1, metrics.getConnectionsOpened());
+    }
+
+    @Test(timeout = 60000)
+    public void batchesLargerThanTheSocketBufferArePipelined() throws Exception {
+        try (ProtectionClient client = new ProtectionClient(settings)) {
+            ConnectionPool.Connection connection = client.getPool().borrow();
+            int buffered = connection.getReceiveBufferSize();
+            client.getPool().release(connection, true);
+            // every document takes well over 16 bytes, so every batch and its reply outgrow the buffer
+            List<List<ProtectedDocument>> batches = new ArrayList<>();
+            for(int i = 0; i < 2 * settings.getPipelineDepth(); i++){
+                batches.add(TestFixtures.documents(buffered / 16));
+            }
+            List<List<ProtectedDocument>> authorized = client.pipeline(user, batches);
+            assertEquals(batches.size(), authorized.size());
+            for(List<ProtectedDocument> documents : authorized){
+                assertEquals(buffered / 16, documents.size());
+            }
+            assertEquals(1, client.authorize(user, TestFixtures.documents()).size());
+        }
+        assertEquals(1, metrics.getConnectionsOpened());
+    }
+
+    @Test
+    public void borrowingFailsOnceThePoolIsExhausted() throws Exception {
+        settings.setMaxConnections(1);
+        settings.setMaxWait(10);
+        ConnectionPool pool = new ConnectionPool(settings);
+        ConnectionPool.Connection connection = pool.borrow();
+        try {
+            pool.borrow();
+            fail("The pool holds a single connection");
+        } catch (TTransportException expected) {
+            assertEquals(TTransportException.TIMED_OUT, expected.getType());
+        }
+        pool.release(connection, true);
+        pool.release(pool.borrow(), false);
+        assertEquals(0, pool.getIdle());
+        pool.close();
+    }
+
+    @Test
+    public void asynchronousCallsQueueForAConnection() throws Exception {
+        try (AsyncProtectionClient client = new AsyncProtectionClient(settings)) {
+            List<CompletableFuture<List<ProtectedDocument>>> futures = new ArrayList<>();
+            for(int i = 0; i < 10; i++){
+                futures.add(client.authorize(user, TestFixtures.documents(i + 1)));
+            }
+            for(int i = 0; i < 10; i++){
+                assertEquals(i + 1, futures.get(i).get().size());
+            }
+        }
+        assertTrue(metrics.getConnectionsOpened() <= 2);
+    }
+
+    @Test
+    public void asynchronousCallsFailWhenTheServerIsUnreachable() throws Exception {
+        server.stop();
+        while(server.isServing()){
+            Thread.sleep(10);
+        }
+        try (AsyncProtectionClient client = new AsyncProtectionClient(settings)) {
+            client.authorize(user, TestFixtures.documents()).get();
+            fail("The server is stopped");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof Exception);
+        }
+    }
+}
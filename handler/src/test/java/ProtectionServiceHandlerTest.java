@@ -1,21 +1,46 @@
 import junit.framework.Assert;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TMemoryBuffer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import security.Compartment;
+import security.EncodedBatch;
+import security.EncodedDocument;
+import security.EncodedField;
 import security.Group;
+import security.LabeledDocument;
+import security.LabeledField;
+import security.LabeledSecurityContainer;
+import security.LabeledUser;
 import security.Level;
+import security.MarkedDocument;
+import security.PackedDocument;
+import security.PackedField;
+import security.PackedSecurityContainer;
 import security.ProtectedDocument;
 import security.ProtectedField;
 import security.ProtectedKey;
 import security.SecurityContainer;
 import security.User;
+import security.VisibilityMask;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 
@@ -855,4 +880,634 @@ public class ProtectionServiceHandlerTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    public void process_HalfDeniedBatchKeepsSurvivorsInOrderAndLeavesTheListAlone() throws Exception {
+        userContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.noneOf(Group.class));
+        user.setPermissions(userContainer);
+        SecurityContainer sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE),
+                EnumSet.noneOf(Group.class), EnumSet.noneOf(Compartment.class));
+
+        List<ProtectedDocument> documents = new ArrayList<>();
+        for(int i = 0; i < 1000; i++){
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), userContainer));
+            documents.add(new ProtectedDocument(batchFields, i % 2 == 0 ? userContainer : sensitiveContainer));
+        }
+
+        List<ProtectedDocument> remaining = handler.process(user, documents);
+        assertEquals(1000, documents.size());
+        assertEquals(500, remaining.size());
+        for(int i = 0; i < remaining.size(); i++){
+            assertSame(documents.get(i * 2), remaining.get(i));
+        }
+    }
+
+    @Test
+    public void processInParallel_KeepsOrderOfVisibleDocuments() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        SecurityContainer sensitiveContainer = new SecurityContainer();
+        sensitiveContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        sensitiveContainer.setLevels(EnumSet.of(Level.SENSITIVE));
+        sensitiveContainer.setGroups(EnumSet.noneOf(Group.class));
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+
+        List<ProtectedDocument> documents = new LinkedList<>();
+        for(int i = 0; i < 1000; i++){
+            ProtectedDocument batchDocument = new ProtectedDocument();
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), dataContainer));
+            batchFields.put(betaKey, new ProtectedField(String.valueOf(i), sensitiveContainer));
+            batchDocument.setFields(batchFields);
+            batchDocument.setOverallMarkings(i % 3 == 0 ? sensitiveContainer : dataContainer);
+            documents.add(batchDocument);
+        }
+
+        ProtectionServiceHandler parallelHandler = new ProtectionServiceHandler(new ForkJoinPool(4), 10);
+        List<ProtectedDocument> remaining = parallelHandler.authorize(user, documents);
+        assertEquals(666, remaining.size());
+        int previous = -1;
+        for(ProtectedDocument visible : remaining){
+            int index = Integer.parseInt(visible.getFields().get(alphaKey).getValue());
+            assertTrue(index > previous);
+            assertTrue(index % 3 != 0);
+            assertNull(visible.getFields().get(betaKey).getValue());
+            previous = index;
+        }
+    }
+
+    @Test
+    public void authorizeMany_MatchesAuthorizeForEveryUser() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        User itUser = new User(new SecurityContainer(EnumSet.allOf(Level.class), EnumSet.of(Group.IT),
+                                                     EnumSet.allOf(Compartment.class)));
+        SecurityContainer sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                                     EnumSet.noneOf(Compartment.class));
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+
+        List<ProtectedDocument> documents = new ArrayList<>();
+        for(int i = 0; i < 20; i++){
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            batchFields.put(betaKey, new ProtectedField(String.valueOf(i), i % 2 == 0 ? sensitiveContainer : dataContainer));
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), dataContainer));
+            documents.add(new ProtectedDocument(batchFields, i % 3 == 0 ? sensitiveContainer : dataContainer));
+        }
+
+        List<User> users = Arrays.asList(user, itUser);
+        List<VisibilityMask> masks = handler.authorizeMany(users, documents);
+        assertEquals(users.size(), masks.size());
+        for(int u = 0; u < users.size(); u++){
+            byte[] documentBits = masks.get(u).getDocuments();
+            byte[] fieldBits = masks.get(u).getFields();
+            for(int i = 0; i < documents.size(); i++){
+                List<ProtectedDocument> remaining = handler.authorize(users.get(u), Collections.singletonList(documents.get(i).deepCopy()));
+                assertEquals(!remaining.isEmpty(), isSet(documentBits, i));
+                boolean alphaVisible = !remaining.isEmpty() && null != remaining.get(0).getFields().get(alphaKey).getValue();
+                boolean betaVisible = !remaining.isEmpty() && null != remaining.get(0).getFields().get(betaKey).getValue();
+                assertEquals(alphaVisible, isSet(fieldBits, i * 2));
+                assertEquals(betaVisible, isSet(fieldBits, i * 2 + 1));
+            }
+        }
+        assertEquals("some value", alphaField.getValue());
+        assertEquals("0", documents.get(0).getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizeMany_UserWithoutPermissionsSeesOnlyUnmarkedData() throws Exception {
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        SecurityContainer unmarkedContainer = new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                                    EnumSet.noneOf(Compartment.class));
+        alphaField.setMarkings(unmarkedContainer);
+        betaField.setMarkings(dataContainer);
+        fields.put(alphaKey, alphaField);
+        fields.put(betaKey, betaField);
+        document.setFields(fields);
+        document.setOverallMarkings(unmarkedContainer);
+
+        List<VisibilityMask> masks = handler.authorizeMany(Collections.singletonList(user), Collections.singletonList(document));
+        assertEquals(1, masks.size());
+        assertArrayEquals(new byte[]{1}, masks.get(0).getDocuments());
+        assertArrayEquals(new byte[]{1}, masks.get(0).getFields());
+    }
+
+    @Test
+    public void authorizeMany_NoUsers() throws Exception {
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        assertTrue(handler.authorizeMany(new ArrayList<User>(), Collections.singletonList(document)).isEmpty());
+    }
+
+    @Test
+    public void authorizeMask_MatchesAuthorizeMany() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        SecurityContainer sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                                     EnumSet.noneOf(Compartment.class));
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+
+        List<ProtectedDocument> documents = new ArrayList<>();
+        List<MarkedDocument> markedDocuments = new ArrayList<>();
+        for(int i = 0; i < 20; i++){
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            Map<ProtectedKey, SecurityContainer> batchMarkings = new HashMap<>();
+            SecurityContainer betaMarkings = i % 2 == 0 ? sensitiveContainer : dataContainer;
+            SecurityContainer overallMarkings = i % 3 == 0 ? sensitiveContainer : dataContainer;
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), dataContainer));
+            batchFields.put(betaKey, new ProtectedField(String.valueOf(i), betaMarkings));
+            batchMarkings.put(alphaKey, dataContainer);
+            batchMarkings.put(betaKey, betaMarkings);
+            documents.add(new ProtectedDocument(batchFields, overallMarkings));
+            markedDocuments.add(new MarkedDocument(batchMarkings, overallMarkings));
+        }
+
+        VisibilityMask expected = handler.authorizeMany(Collections.singletonList(user), documents).get(0);
+        assertEquals(expected, handler.authorizeMask(user, documents));
+        assertEquals(expected, handler.authorizeMarkings(user, markedDocuments));
+        assertTrue(isSet(expected.getDocuments(), 1));
+        assertFalse(isSet(expected.getDocuments(), 3));
+        assertTrue(isSet(expected.getFields(), 2));
+        assertFalse(isSet(expected.getFields(), 4 * 2 + 1));
+    }
+
+    @Test
+    public void authorizeMask_UnmarkedIsDenied() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.allOf(Group.class));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+        batchFields.put(alphaKey, new ProtectedField("some value", dataContainer));
+        batchFields.put(betaKey, new ProtectedField("100000", null));
+        Map<ProtectedKey, SecurityContainer> batchMarkings = new HashMap<>();
+        batchMarkings.put(alphaKey, dataContainer);
+        batchMarkings.put(betaKey, null);
+        List<ProtectedDocument> documents = Arrays.asList(new ProtectedDocument(batchFields, dataContainer),
+                                                          new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(), null));
+        List<MarkedDocument> markedDocuments = Arrays.asList(new MarkedDocument(batchMarkings, dataContainer),
+                                                             new MarkedDocument(new HashMap<ProtectedKey, SecurityContainer>(), null));
+
+        VisibilityMask mask = handler.authorizeMask(user, documents);
+        assertArrayEquals(new byte[]{1}, mask.getDocuments());
+        assertArrayEquals(new byte[]{1}, mask.getFields());
+        assertEquals(mask, handler.authorizeMarkings(user, markedDocuments));
+    }
+
+    @Test
+    public void authorizeMarkings_NoDocuments() throws Exception {
+        VisibilityMask mask = handler.authorizeMarkings(user, new ArrayList<MarkedDocument>());
+        assertEquals(0, mask.getDocuments().length);
+        assertEquals(0, mask.getFields().length);
+    }
+
+    @Test
+    public void coveredDocument_FieldsAreNotEvaluated() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+        alphaField.setMarkings(dataContainer);
+        fields.put(alphaKey, alphaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        assertTrue(DocumentSummary.summarize(document));
+        assertTrue(document.isFieldsCovered());
+
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        VisibilityMask mask = handler.authorizeMask(user, documents);
+        assertTrue(isSet(mask.getDocuments(), 0));
+        assertTrue(isSet(mask.getFields(), 0));
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertEquals("some value", documents.get(0).getFields().get(alphaKey).getValue());
+    }
+
+    @Test
+    public void summarizedDocument_UserWithMinLevelDoesNotSeeLowerFields() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.noneOf(Level.class));
+        userContainer.setGroups(EnumSet.allOf(Group.class));
+        user.setPermissions(userContainer);
+        user.setMinLevel(Level.SENSITIVE);
+        user.setMaxLevel(Level.SENSITIVE);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC, Level.SENSITIVE));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        alphaField.setMarkings(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.noneOf(Group.class),
+                                                     EnumSet.noneOf(Compartment.class)));
+        fields.put(alphaKey, alphaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        assertFalse(DocumentSummary.summarize(document));
+
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        VisibilityMask mask = handler.authorizeMask(user, documents);
+        assertTrue(isSet(mask.getDocuments(), 0));
+        assertFalse(isSet(mask.getFields(), 0));
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertNull(documents.get(0).getFields().get(alphaKey).getValue());
+    }
+
+    @Test
+    public void uncoveredDocument_FieldsAreEvaluated() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+        alphaField.setMarkings(dataContainer);
+        fields.put(alphaKey, alphaField);
+        SecurityContainer betaFieldContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.of(Group.HR),
+                                                                     EnumSet.of(Compartment.ALPHA));
+        betaField.setMarkings(betaFieldContainer);
+        fields.put(betaKey, betaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        assertFalse(DocumentSummary.summarize(document));
+        assertTrue(document.isSetFieldsCovered());
+
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertEquals("some value", documents.get(0).getFields().get(alphaKey).getValue());
+        assertNull(documents.get(0).getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizeEncoded_MatchesAuthorize() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.HR));
+        SecurityContainer sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.of(Group.HR),
+                                                                     EnumSet.of(Compartment.ALPHA));
+        List<ProtectedDocument> documents = new ArrayList<>();
+        for(int i = 0; i < 6; i++){
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), dataContainer));
+            batchFields.put(betaKey, new ProtectedField(String.valueOf(i), sensitiveContainer));
+            documents.add(new ProtectedDocument(batchFields, i % 3 == 0 ? sensitiveContainer : dataContainer));
+        }
+
+        EncodedBatch batch = MarkingEncoder.encode(documents);
+        assertEquals(2, batch.getMarkingsSize());
+        List<EncodedDocument> remaining = handler.authorizeEncoded(user, batch);
+        List<ProtectedDocument> expected = handler.authorize(user, documents);
+        assertEquals(4, remaining.size());
+        assertEquals(expected, MarkingEncoder.decode(batch.getMarkings(), remaining));
+        assertEquals("1", remaining.get(0).getFields().get(alphaKey).getValue());
+        assertNull(remaining.get(0).getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizeEncoded_IndexOutsideTheDictionaryIsDenied() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.allOf(Group.class));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.noneOf(Level.class));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        Map<ProtectedKey, EncodedField> visibleFields = new HashMap<>();
+        visibleFields.put(alphaKey, new EncodedField("some value").setMarkings(0));
+        visibleFields.put(betaKey, new EncodedField("100000").setMarkings(7));
+        EncodedDocument visible = new EncodedDocument(visibleFields).setOverallMarkings(0);
+        EncodedDocument denied = new EncodedDocument(new HashMap<ProtectedKey, EncodedField>()).setOverallMarkings(MarkingEncoder.UNMARKED);
+
+        List<EncodedDocument> remaining = handler.authorizeEncoded(user, new EncodedBatch(
+                Collections.singletonList(dataContainer), Arrays.asList(visible, denied)));
+        assertEquals(Collections.singletonList(visible), remaining);
+        assertEquals("some value", visible.getFields().get(alphaKey).getValue());
+        assertNull(visible.getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizeEncoded_UnsetIndexIsDenied() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.allOf(Group.class));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.noneOf(Level.class));
+        dataContainer.setGroups(EnumSet.noneOf(Group.class));
+        // an unset index must not be read as 0, the entry every other marking of the batch refers to
+        Map<ProtectedKey, EncodedField> visibleFields = new HashMap<>();
+        visibleFields.put(alphaKey, new EncodedField("some value").setMarkings(0));
+        visibleFields.put(betaKey, new EncodedField("100000"));
+        EncodedDocument visible = new EncodedDocument(visibleFields).setOverallMarkings(0);
+        EncodedDocument unset = new EncodedDocument(new HashMap<ProtectedKey, EncodedField>());
+        // sent over the wire, where an unset index used to arrive as 0
+        TMemoryBuffer buffer = new TMemoryBuffer(1024);
+        new EncodedBatch(Collections.singletonList(dataContainer), Arrays.asList(visible, unset))
+                .write(new TBinaryProtocol(buffer));
+        EncodedBatch batch = new EncodedBatch();
+        batch.read(new TBinaryProtocol(buffer));
+
+        List<EncodedDocument> remaining = handler.authorizeEncoded(user, batch);
+        assertEquals(1, remaining.size());
+        assertEquals("some value", remaining.get(0).getFields().get(alphaKey).getValue());
+        assertNull(remaining.get(0).getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizePacked_MatchesAuthorize() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.of(Compartment.ALPHA));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.IT, Group.HR));
+        SecurityContainer sensitiveContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.of(Group.HR),
+                                                                     EnumSet.of(Compartment.ALPHA));
+        List<ProtectedDocument> documents = new ArrayList<>();
+        for(int i = 0; i < 6; i++){
+            Map<ProtectedKey, ProtectedField> batchFields = new HashMap<>();
+            batchFields.put(alphaKey, new ProtectedField(String.valueOf(i), dataContainer));
+            batchFields.put(betaKey, new ProtectedField(String.valueOf(i), sensitiveContainer));
+            documents.add(new ProtectedDocument(batchFields, i % 3 == 0 ? sensitiveContainer : dataContainer));
+        }
+
+        List<PackedDocument> packed = MarkingPacker.pack(documents);
+        assertEquals(documents, MarkingPacker.unpack(packed));
+        List<PackedDocument> remaining = handler.authorizePacked(user, packed);
+        List<ProtectedDocument> expected = handler.authorize(user, documents);
+        assertEquals(4, remaining.size());
+        assertEquals(expected, MarkingPacker.unpack(remaining));
+        assertNull(remaining.get(0).getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizePacked_UnmarkedIsDenied() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.allOf(Group.class));
+        user.setPermissions(userContainer);
+        Map<ProtectedKey, PackedField> packedFields = new HashMap<>();
+        packedFields.put(alphaKey, new PackedField("some value", new PackedSecurityContainer(0L, 0L, 0L)));
+        packedFields.put(betaKey, new PackedField("100000", null));
+        PackedDocument visible = new PackedDocument(packedFields, new PackedSecurityContainer(0L, 0L, 0L));
+        PackedDocument denied = new PackedDocument(new HashMap<ProtectedKey, PackedField>(), null);
+
+        assertEquals(Collections.singletonList(visible), handler.authorizePacked(user, Arrays.asList(visible, denied)));
+        assertEquals("some value", visible.getFields().get(alphaKey).getValue());
+        assertNull(visible.getFields().get(betaKey).getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unpack_UnknownLabelIsRejected() throws Exception {
+        MarkingPacker.unpack(new PackedSecurityContainer(1L << 40, 0L, 0L));
+    }
+
+    @Test
+    public void authorizeLabeled_RuntimeLabelsFollowTheSameRules() throws Exception {
+        handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE, new MarkingDictionary(), null, registry());
+        LabeledSecurityContainer permissions = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("restricted")),
+                new HashSet<>(Arrays.asList("payroll")), new HashSet<>(Arrays.asList("project-7", "project-9")));
+        LabeledUser labeledUser = new LabeledUser(permissions);
+        LabeledSecurityContainer visibleMarkings = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("restricted")),
+                new HashSet<>(Arrays.asList("payroll", "audit")), new HashSet<>(Arrays.asList("project-7")));
+        LabeledSecurityContainer deniedMarkings = new LabeledSecurityContainer(new HashSet<String>(),
+                new HashSet<String>(), new HashSet<>(Arrays.asList("project-8")));
+        Map<ProtectedKey, LabeledField> labeledFields = new HashMap<>();
+        labeledFields.put(alphaKey, new LabeledField("some value", visibleMarkings));
+        labeledFields.put(betaKey, new LabeledField("100000", deniedMarkings));
+        LabeledDocument visible = new LabeledDocument(labeledFields, visibleMarkings);
+        LabeledDocument denied = new LabeledDocument(new HashMap<ProtectedKey, LabeledField>(), deniedMarkings);
+        LabeledDocument unmarked = new LabeledDocument(new HashMap<ProtectedKey, LabeledField>(), null);
+
+        List<LabeledDocument> remaining = handler.authorizeLabeled(labeledUser, Arrays.asList(visible, denied, unmarked));
+        assertEquals(Collections.singletonList(visible), remaining);
+        assertEquals("some value", visible.getFields().get(alphaKey).getValue());
+        assertNull(visible.getFields().get(betaKey).getValue());
+    }
+
+    @Test
+    public void authorizeLabeled_UnknownLabelsAreNeverRegistered() throws Exception {
+        LabelRegistry labels = registry();
+        handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE, new MarkingDictionary(), null, labels);
+        LabeledSecurityContainer permissions = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("restricted", "cosmic")),
+                new HashSet<>(Arrays.asList("payroll", "unknown-group")), new HashSet<String>());
+        LabeledUser labeledUser = new LabeledUser(permissions);
+        LabeledSecurityContainer knownMarkings = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("restricted")),
+                new HashSet<>(Arrays.asList("payroll")), new HashSet<String>());
+        LabeledSecurityContainer unknownGroup = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("restricted")),
+                new HashSet<>(Arrays.asList("payroll", "unknown-group")), new HashSet<String>());
+        LabeledSecurityContainer unknownLevel = new LabeledSecurityContainer(new HashSet<>(Arrays.asList("cosmic")),
+                new HashSet<String>(), new HashSet<String>());
+        LabeledDocument visible = new LabeledDocument(new HashMap<ProtectedKey, LabeledField>(), knownMarkings);
+        LabeledDocument groupDenied = new LabeledDocument(new HashMap<ProtectedKey, LabeledField>(), unknownGroup);
+        LabeledDocument levelDenied = new LabeledDocument(new HashMap<ProtectedKey, LabeledField>(), unknownLevel);
+
+        // the user holds the unknown labels too, yet data carrying them stays denied
+        assertEquals(Collections.singletonList(visible),
+                     handler.authorizeLabeled(labeledUser, Arrays.asList(visible, groupDenied, levelDenied)));
+        assertEquals(LabelRegistry.NOT_REGISTERED, labels.idOf(LabelRegistry.Dimension.LEVEL, "cosmic"));
+        assertEquals(LabelRegistry.NOT_REGISTERED, labels.idOf(LabelRegistry.Dimension.GROUP, "unknown-group"));
+        assertEquals(1, labels.size(LabelRegistry.Dimension.LEVEL));
+        assertEquals(2, labels.size(LabelRegistry.Dimension.GROUP));
+    }
+
+    private static LabelRegistry registry(){
+        Properties properties = new Properties();
+        properties.setProperty("LEVEL", "restricted");
+        properties.setProperty("GROUP", "payroll, audit");
+        properties.setProperty("COMPARTMENT", "project-7,project-8,project-9");
+        return LabelRegistry.parse(LabelRegistry.DEFAULT_CAPACITY, properties);
+    }
+
+    @Test
+    public void processUserWithMaxLevelSensitive_DataHasPublic() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.noneOf(Level.class));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        user.setMaxLevel(Level.SENSITIVE);
+        dataContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.allOf(Group.class));
+        SecurityContainer fieldContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC, Level.SENSITIVE),
+                                                                 EnumSet.allOf(Group.class), EnumSet.allOf(Compartment.class));
+        alphaField.setMarkings(fieldContainer);
+        fields.put(alphaKey, alphaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertEquals("some value", documents.get(0).getFields().get(alphaKey).getValue());
+    }
+
+    @Test
+    public void processUserWithMinLevelSensitive_DataHasPublic() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        user.setMaxLevel(Level.SENSITIVE);
+        user.setMinLevel(Level.SENSITIVE);
+        dataContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.allOf(Group.class));
+        fields.put(alphaKey, alphaField);
+        alphaField.setMarkings(dataContainer);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        assertEquals(0, handler.authorize(user, documents).size());
+        assertEquals(0, handler.authorizeMask(user, documents).getDocuments()[0]);
+    }
+
+    @Test
+    public void processUserWithMaxLevelPublic_DataHasSensitive() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        user.setMaxLevel(Level.PUBLIC);
+        dataContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.noneOf(Level.class));
+        dataContainer.setGroups(EnumSet.allOf(Group.class));
+        SecurityContainer fieldContainer = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.allOf(Group.class),
+                                                                 EnumSet.allOf(Compartment.class));
+        alphaField.setMarkings(fieldContainer);
+        fields.put(alphaKey, alphaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        List<ProtectedDocument> documents = new LinkedList<>();
+        documents.add(document);
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertNull(documents.get(0).getFields().get(alphaKey).getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void processUserWithMinLevelAboveMaxLevel() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        user.setMaxLevel(Level.PUBLIC);
+        user.setMinLevel(Level.SENSITIVE);
+        dataContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.allOf(Group.class));
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        handler.authorize(user, Collections.singletonList(document));
+    }
+
+    @Test
+    public void processUserWithParentGroup_HierarchyIsSwappedBetweenRequests() throws Exception {
+        userContainer.setCompartments(EnumSet.allOf(Compartment.class));
+        userContainer.setLevels(EnumSet.allOf(Level.class));
+        userContainer.setGroups(EnumSet.of(Group.HR));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.IT));
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+        List<ProtectedDocument> documents = Collections.singletonList(document);
+        AtomicReference<GroupHierarchy> groups = new AtomicReference<>(GroupHierarchy.FLAT);
+        handler = new ProtectionServiceHandler(null, Integer.MAX_VALUE, new MarkingDictionary(), null,
+                                               new LabelRegistry(), groups);
+        assertEquals(0, handler.authorize(user, documents).size());
+
+        Properties hierarchy = new Properties();
+        hierarchy.setProperty("HR", "IT");
+        groups.set(GroupHierarchy.parse(hierarchy));
+        assertEquals(1, handler.authorize(user, documents).size());
+        assertTrue(isSet(handler.authorizeMask(user, documents).getDocuments(), 0));
+    }
+
+    @Test
+    public void processUserWithGroup_DataHasUnknownLabels() throws Exception {
+        userContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        userContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        userContainer.setGroups(EnumSet.of(Group.IT));
+        user.setPermissions(userContainer);
+        dataContainer.setCompartments(EnumSet.noneOf(Compartment.class));
+        dataContainer.setLevels(EnumSet.of(Level.PUBLIC));
+        dataContainer.setGroups(EnumSet.of(Group.IT));
+        alphaField.setMarkings(decode(Level.PUBLIC.getValue(), Group.IT.getValue(), 99));
+        betaField.setMarkings(dataContainer);
+        fields.put(alphaKey, alphaField);
+        fields.put(betaKey, betaField);
+        document.setFields(fields);
+        document.setOverallMarkings(dataContainer);
+
+        ProtectedDocument unknown = new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(), decode(99));
+        List<ProtectedDocument> results = handler.authorize(user, Arrays.asList(document, unknown));
+        assertEquals(1, results.size());
+        assertNull(results.get(0).getFields().get(alphaKey).getValue());
+        assertEquals("100000", results.get(0).getFields().get(betaKey).getValue());
+
+        user.setPermissions(new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                  EnumSet.noneOf(Compartment.class)));
+        assertEquals(0, handler.authorize(user, Collections.singletonList(unknown)).size());
+
+        PackedSecurityContainer packed = new PackedSecurityContainer(0L, 1L << 40, 0L);
+        assertEquals(0, handler.authorizePacked(user, Collections.singletonList(
+                new PackedDocument(new HashMap<ProtectedKey, PackedField>(), packed))).size());
+    }
+
+    /**
+     * @return Markings decoded by the generated code from the supplied values, which need not have a label
+     */
+    private static SecurityContainer decode(int level, int... groups) throws Exception {
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+        protocol.writeStructBegin(new TStruct("SecurityContainer"));
+        protocol.writeFieldBegin(new TField("levels", TType.SET, (short) 1));
+        protocol.writeSetBegin(new TSet(TType.I32, 1));
+        protocol.writeI32(level);
+        protocol.writeSetEnd();
+        protocol.writeFieldEnd();
+        protocol.writeFieldBegin(new TField("groups", TType.SET, (short) 2));
+        protocol.writeSetBegin(new TSet(TType.I32, groups.length));
+        for(int group : groups){
+            protocol.writeI32(group);
+        }
+        protocol.writeSetEnd();
+        protocol.writeFieldEnd();
+        protocol.writeFieldStop();
+        protocol.writeStructEnd();
+        SecurityContainer container = new SecurityContainer();
+        container.read(protocol);
+        return container;
+    }
+
+    private static boolean isSet(byte[] bits, int index){
+        return (bits[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+}
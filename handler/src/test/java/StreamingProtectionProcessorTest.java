@@ -0,0 +1,127 @@
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.junit.Before;
+import org.junit.Test;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class StreamingProtectionProcessorTest {
+
+    private User user;
+    private List<ProtectedDocument> documents;
+    private ProtectedKey alphaKey;
+    private ProtectedKey betaKey;
+
+    @Before
+    public void setUp() throws Exception {
+        SecurityContainer userContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                                EnumSet.of(Compartment.ALPHA));
+        user = new User();
+        user.setUsername("test");
+        user.setPermissions(userContainer);
+
+        SecurityContainer publicContainer = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR, Group.IT),
+                                                                  EnumSet.of(Compartment.ALPHA));
+        SecurityContainer bravoContainer = new SecurityContainer(EnumSet.noneOf(Level.class), EnumSet.noneOf(Group.class),
+                                                                 EnumSet.of(Compartment.BRAVO));
+        alphaKey = new ProtectedKey("Alpha");
+        betaKey = new ProtectedKey("Beta");
+        documents = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+            fields.put(alphaKey, new ProtectedField("alpha " + i, publicContainer));
+            fields.put(betaKey, new ProtectedField("beta " + i, bravoContainer));
+            documents.add(new ProtectedDocument(fields, i % 2 == 0 ? publicContainer : bravoContainer));
+        }
+    }
+
+    @Test
+    public void binaryProtocolMatchesHandler() throws Exception {
+        assertMatchesHandler(new TBinaryProtocol.Factory());
+    }
+
+    @Test
+    public void compactProtocolMatchesHandler() throws Exception {
+        assertMatchesHandler(new TCompactProtocol.Factory());
+    }
+
+    @Test
+    public void tupleProtocolFallsBackToGeneratedProcessor() throws Exception {
+        assertMatchesHandler(new TTupleProtocol.Factory());
+    }
+
+    @Test
+    public void userWithoutPermissionsSeesNothing() throws Exception {
+        user.unsetPermissions();
+        assertEquals(0, call(new TBinaryProtocol.Factory()).size());
+    }
+
+    @Test
+    public void unknownMethodIsRejected() throws Exception {
+        TMemoryBuffer request = new TMemoryBuffer(64);
+        TProtocol out = new TBinaryProtocol(request);
+        out.writeMessageBegin(new TMessage("missing", TMessageType.CALL, 1));
+        new ProtectionService.authorize_args(user, documents).write(out);
+        out.writeMessageEnd();
+
+        TMemoryBuffer reply = new TMemoryBuffer(64);
+        new StreamingProtectionProcessor(new ProtectionServiceHandler()).process(new TBinaryProtocol(request), new TBinaryProtocol(reply));
+        try {
+            new ProtectionService.Client(new TBinaryProtocol(reply)).recv_authorize();
+            fail("Expected the unknown method to be rejected");
+        } catch (TApplicationException e) {
+            assertEquals(TApplicationException.UNKNOWN_METHOD, e.getType());
+        }
+    }
+
+    private void assertMatchesHandler(TProtocolFactory factory) throws Exception {
+        List<ProtectedDocument> expected = new ProtectionServiceHandler().authorize(user, copy(documents));
+        List<ProtectedDocument> actual = call(factory);
+        assertEquals(5, actual.size());
+        assertEquals(expected, actual);
+        assertEquals("alpha 0", actual.get(0).getFields().get(alphaKey).getValue());
+        assertNull(actual.get(0).getFields().get(betaKey).getValue());
+    }
+
+    private List<ProtectedDocument> call(TProtocolFactory factory) throws Exception {
+        TMemoryBuffer request = new TMemoryBuffer(1024);
+        TMemoryBuffer reply = new TMemoryBuffer(1024);
+        ProtectionService.Client client = new ProtectionService.Client(factory.getProtocol(reply), factory.getProtocol(request));
+        client.send_authorize(user, documents);
+
+        TMemoryInputTransport in = new TMemoryInputTransport(request.getArray(), 0, request.length());
+        new StreamingProtectionProcessor(new ProtectionServiceHandler()).process(factory.getProtocol(in), factory.getProtocol(reply));
+        return client.recv_authorize();
+    }
+
+    private static List<ProtectedDocument> copy(List<ProtectedDocument> documents){
+        List<ProtectedDocument> copies = new ArrayList<>(documents.size());
+        for(ProtectedDocument document : documents){
+            copies.add(document.deepCopy());
+        }
+        return copies;
+    }
+}
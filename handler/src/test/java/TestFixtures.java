@@ -0,0 +1,108 @@
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import security.Compartment;
+import security.Group;
+import security.Level;
+import security.ProtectedDocument;
+import security.ProtectedField;
+import security.ProtectedKey;
+import security.ProtectionService;
+import security.SecurityContainer;
+import security.User;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The users, documents and connections shared by the tests that run a server.
+ */
+final class TestFixtures {
+
+    static final SecurityContainer VISIBLE = new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                                                   EnumSet.noneOf(Compartment.class));
+    static final SecurityContainer DENIED = new SecurityContainer(EnumSet.of(Level.SENSITIVE), EnumSet.noneOf(Group.class),
+                                                                  EnumSet.noneOf(Compartment.class));
+
+    private TestFixtures(){
+    }
+
+    /**
+     * @return A port nothing is listening on
+     */
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Serves on a daemon thread and waits for the server to accept connections.
+     */
+    static void serve(TServer server) throws InterruptedException {
+        Thread.ofPlatform().daemon().start(server::serve);
+        while(!server.isServing()){
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * @return A user seeing {@link #VISIBLE} data but not {@link #DENIED} data
+     */
+    static User user(){
+        return new User(new SecurityContainer(EnumSet.of(Level.PUBLIC), EnumSet.of(Group.HR),
+                                              EnumSet.noneOf(Compartment.class)));
+    }
+
+    /**
+     * @return A document the user sees, its "name" field being "bob" and its "salary" field denied, followed by a
+     *         denied document
+     */
+    static List<ProtectedDocument> documents(){
+        return documents(1);
+    }
+
+    /**
+     * @param visible - The number of documents the user sees
+     * @return The supplied number of documents the user sees, each holding a visible "name" and a denied "salary",
+     *         followed by a denied document
+     */
+    static List<ProtectedDocument> documents(int visible){
+        List<ProtectedDocument> documents = new ArrayList<>(visible + 1);
+        for(int i = 0; i < visible; i++){
+            Map<ProtectedKey, ProtectedField> fields = new HashMap<>();
+            fields.put(new ProtectedKey("name"), new ProtectedField("bob", VISIBLE));
+            fields.put(new ProtectedKey("salary"), new ProtectedField("100", DENIED));
+            documents.add(new ProtectedDocument(fields, VISIBLE));
+        }
+        documents.add(new ProtectedDocument(new HashMap<ProtectedKey, ProtectedField>(), DENIED));
+        return documents;
+    }
+
+    /**
+     * @param port - The port the server listens on
+     * @param framed - True to frame the calls, as the non blocking engines require
+     * @return An open connection to the server
+     */
+    static TTransport open(int port, boolean framed) throws TTransportException {
+        TTransport socket = new TSocket("localhost", port);
+        TTransport transport = framed ? new TFramedTransport(socket) : socket;
+        transport.open();
+        return transport;
+    }
+
+    /**
+     * @return A client calling over the supplied connection with the binary protocol
+     */
+    static ProtectionService.Client client(TTransport transport){
+        return new ProtectionService.Client(new TBinaryProtocol(transport));
+    }
+}
@@ -0,0 +1,68 @@
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import security.ProtectionService;
+import security.User;
+
+import static org.junit.Assert.*;
+
+public class VirtualThreadServerTest {
+
+    private AuthorizationMetrics metrics;
+    private ServerSettings settings;
+    private TServer server;
+    private User user;
+
+    @Before
+    public void setUp() throws Exception {
+        metrics = new AuthorizationMetrics();
+        settings = new ServerSettings();
+        settings.setMode(ServerSettings.Mode.VIRTUAL_THREAD);
+        settings.setMaxConnections(1);
+        settings.setPort(TestFixtures.freePort());
+        server = AuthorizationServer.create(new ProtectionService.Processor<>(new ProtectionServiceHandler()), settings, metrics);
+        assertTrue(server instanceof VirtualThreadServer);
+        TestFixtures.serve(server);
+        user = TestFixtures.user();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void connectionsBeyondTheCapAreClosed() throws Exception {
+        TTransport first = TestFixtures.open(settings.getPort(), false);
+        try {
+            assertEquals(1, TestFixtures.client(first).authorize(user, TestFixtures.documents()).size());
+
+            TTransport second = TestFixtures.open(settings.getPort(), false);
+            try {
+                TestFixtures.client(second).authorize(user, TestFixtures.documents());
+                fail("The second connection should have been closed");
+            } catch (TTransportException expected) {
+                second.close();
+            }
+            assertEquals(1, metrics.getConnectionsOpened());
+            assertEquals(1, metrics.getConnectionsRejected());
+            assertEquals(1, metrics.getActiveConnections());
+        } finally {
+            first.close();
+        }
+        while(metrics.getActiveConnections() != 0){
+            Thread.sleep(10);
+        }
+        assertEquals(1, metrics.getRequestsPerConnectionMax());
+
+        TTransport third = TestFixtures.open(settings.getPort(), false);
+        try {
+            assertEquals(1, TestFixtures.client(third).authorize(user, TestFixtures.documents()).size());
+        } finally {
+            third.close();
+        }
+    }
+}
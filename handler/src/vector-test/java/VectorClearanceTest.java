@@ -0,0 +1,73 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class VectorClearanceTest {
+
+    /** Every run length up to a few vectors of the widest species, so that each tail length is met */
+    private static final int MAX_LENGTH = 40;
+
+    private final Random random = new Random(42L);
+
+    @Test
+    public void columnsAreDecidedAsByTheClearance() throws Exception {
+        Clearance[] clearances = {Clearance.NONE,
+                                  new Clearance(sparse(), sparse(), sparse()),
+                                  new Clearance(-1L & ~MarkingEvaluator.UNKNOWN, sparse(), -1L),
+                                  new Clearance(0, 2, sparse(), sparse())};
+        for(Clearance clearance : clearances){
+            VectorClearance vector = new VectorClearance(clearance);
+            for(int length = 0; length <= MAX_LENGTH; length++){
+                int from = random.nextInt(4);
+                int to = from + length;
+                long[] levels = new long[to + 2];
+                long[] groups = new long[to + 2];
+                long[] compartments = new long[to + 2];
+                for(int i = 0; i < levels.length; i++){
+                    levels[i] = random.nextInt(4) == 0 ? sparse() | MarkingEvaluator.UNKNOWN : sparse();
+                    groups[i] = random.nextInt(4) == 0 ? 0L : sparse();
+                    compartments[i] = random.nextInt(4) == 0 ? 0L : sparse();
+                }
+                int[] denials = new int[levels.length];
+                Arrays.fill(denials, -1);
+                vector.denials(levels, groups, compartments, from, to, denials);
+                for(int i = 0; i < denials.length; i++){
+                    int expected = i >= from && i < to ? clearance.denials(levels[i], groups[i], compartments[i]) : -1;
+                    assertEquals(clearance + " at " + i + " of " + from + " to " + to, expected, denials[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void unknownLabelsAreDenied() throws Exception {
+        VectorClearance vector = new VectorClearance(new Clearance(-1L & ~MarkingEvaluator.UNKNOWN, -1L, -1L));
+        int length = MAX_LENGTH + 1;
+        long[] levels = new long[length];
+        long[] groups = new long[length];
+        long[] compartments = new long[length];
+        Arrays.fill(levels, 1L | MarkingEvaluator.UNKNOWN);
+        int[] denials = new int[length];
+        vector.denials(levels, groups, compartments, 0, length, denials);
+        for(int denial : denials){
+            assertEquals(MarkingEvaluator.LEVEL_DENIED, denial);
+        }
+    }
+
+    @Test
+    public void engineIsFoundByName() throws Exception {
+        PolicyEngine engine = PolicyEngine.load(VectorPolicyEngine.NAME);
+        assertTrue(engine instanceof VectorPolicyEngine);
+        assertTrue(engine.compile(TestFixtures.user(), GroupHierarchy.FLAT).supportsCovering());
+    }
+
+    /**
+     * @return A mask with about one bit in eight set
+     */
+    private long sparse(){
+        return random.nextLong() & random.nextLong() & random.nextLong();
+    }
+}
@@ -0,0 +1,80 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link Clearance} whose columns are decided with the Vector API, a whole vector of markings per step, rather
+ * than left to the JIT to vectorize.  Ordered clearances and the tail of each run fall back to the clearance itself.
+ *
+ * @see VectorPolicyEngine
+ */
+public final class VectorClearance implements Policy {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /** Holds as many lanes as LONGS, so that the denials of a vector of markings are stored in one step */
+    private static final VectorSpecies<Integer> INTS =
+            IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private final Clearance clearance;
+
+    /**
+     * @param clearance - The clearance the markings are decided against
+     */
+    public VectorClearance(Clearance clearance){
+        this.clearance = clearance;
+    }
+
+    @Override
+    public int denials(long levels, long groups, long compartments){
+        return clearance.denials(levels, groups, compartments);
+    }
+
+    @Override
+    public boolean supportsCovering(){
+        return clearance.supportsCovering();
+    }
+
+    @Override
+    public void denials(long[] levels, long[] groups, long[] compartments, int from, int to, int[] denials){
+        if(clearance.isOrdered()){
+            clearance.denials(levels, groups, compartments, from, to, denials);
+            return;
+        }
+        long deniedLevels = ~clearance.getLevels();
+        long userGroups = clearance.getGroups();
+        long deniedCompartments = ~clearance.getCompartments();
+        LongVector none = LongVector.zero(LONGS);
+        int i = from;
+        for(int upper = from + LONGS.loopBound(to - from); i < upper; i += LONGS.length()){
+            LongVector level = LongVector.fromArray(LONGS, levels, i);
+            LongVector group = LongVector.fromArray(LONGS, groups, i);
+            LongVector compartment = LongVector.fromArray(LONGS, compartments, i);
+            VectorMask<Long> levelDenied = level.and(deniedLevels).compare(VectorOperators.NE, 0L);
+            VectorMask<Long> groupDenied = group.compare(VectorOperators.NE, 0L)
+                    .and(group.and(userGroups).compare(VectorOperators.EQ, 0L));
+            VectorMask<Long> compartmentDenied = compartment.and(deniedCompartments).compare(VectorOperators.NE, 0L);
+            none.blend(MarkingEvaluator.LEVEL_DENIED, levelDenied)
+                .or(none.blend(MarkingEvaluator.GROUP_DENIED, groupDenied))
+                .or(none.blend(MarkingEvaluator.COMPARTMENT_DENIED, compartmentDenied))
+                .convertShape(VectorOperators.L2I, INTS, 0)
+                .reinterpretAsInts()
+                .intoArray(denials, i);
+        }
+        clearance.denials(levels, groups, compartments, i, to, denials);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VectorClearance)) return false;
+        return clearance.equals(((VectorClearance) o).clearance);
+    }
+
+    @Override
+    public int hashCode() {
+        return clearance.hashCode();
+    }
+}
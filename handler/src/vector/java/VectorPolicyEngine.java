@@ -0,0 +1,21 @@
+import security.User;
+
+/**
+ * The OLS rules of {@link OlsPolicyEngine}, with batches decided by a {@link VectorClearance}.  It is only built by
+ * the {@code vector} profile, and the JVM must be started with {@code --add-modules jdk.incubator.vector}.  Select it
+ * with {@code authorization.server.policyEngine=ols-vector}.
+ */
+public final class VectorPolicyEngine implements PolicyEngine {
+
+    public static final String NAME = "ols-vector";
+
+    private final OlsPolicyEngine ols = new OlsPolicyEngine();
+
+    public String getName() {
+        return NAME;
+    }
+
+    public Policy compile(User user, GroupHierarchy groups) {
+        return new VectorClearance((Clearance) ols.compile(user, groups));
+    }
+}